@@ -0,0 +1,93 @@
+package seedu.address.commons.core;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A Serializable class that contains the budget of the undo history kept in memory and on disk.
+ * Saved states beyond the memory budget are spilled to disk, and the oldest states are forgotten once those on disk
+ * outgrow the disk budget.
+ * Guarantees: immutable.
+ */
+public class HistorySettings implements Serializable {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "The history budget must allow at least one state, one byte in memory and one byte on disk";
+
+    private static final int DEFAULT_MAX_STATES = 100;
+    private static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+    private static final long DEFAULT_MAX_DISK_BYTES = 512L * 1024 * 1024;
+
+    private final int maxStates;
+    private final long maxBytes;
+    private final long maxDiskBytes;
+
+    public HistorySettings() {
+        maxStates = DEFAULT_MAX_STATES;
+        maxBytes = DEFAULT_MAX_BYTES;
+        maxDiskBytes = DEFAULT_MAX_DISK_BYTES;
+    }
+
+    /**
+     * Constructs a {@code HistorySettings} that keeps at most {@code maxStates} saved states, estimated to take at
+     * most {@code maxBytes} bytes, in memory, and the default budget on disk.
+     */
+    public HistorySettings(int maxStates, long maxBytes) {
+        this(maxStates, maxBytes, DEFAULT_MAX_DISK_BYTES);
+    }
+
+    /**
+     * Constructs a {@code HistorySettings} that keeps at most {@code maxStates} saved states, estimated to take at
+     * most {@code maxBytes} bytes, in memory, and at most {@code maxDiskBytes} bytes of saved states on disk.
+     */
+    public HistorySettings(int maxStates, long maxBytes, long maxDiskBytes) {
+        checkArgument(maxStates > 0 && maxBytes > 0 && maxDiskBytes > 0, MESSAGE_CONSTRAINTS);
+        this.maxStates = maxStates;
+        this.maxBytes = maxBytes;
+        this.maxDiskBytes = maxDiskBytes;
+    }
+
+    public int getMaxStates() {
+        return maxStates;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public long getMaxDiskBytes() {
+        return maxDiskBytes;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof HistorySettings)) { //this handles null as well.
+            return false;
+        }
+
+        HistorySettings o = (HistorySettings) other;
+
+        return maxStates == o.maxStates
+                && maxBytes == o.maxBytes
+                && maxDiskBytes == o.maxDiskBytes;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxStates, maxBytes, maxDiskBytes);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Max states : " + maxStates + "\n");
+        sb.append("Max bytes : " + maxBytes + "\n");
+        sb.append("Max disk bytes : " + maxDiskBytes);
+        return sb.toString();
+    }
+}
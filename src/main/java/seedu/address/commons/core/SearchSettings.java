@@ -0,0 +1,80 @@
+package seedu.address.commons.core;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A Serializable class that contains the settings of participant searches.
+ * Guarantees: immutable.
+ */
+public class SearchSettings implements Serializable {
+
+    public static final String MESSAGE_CONSTRAINTS = "The parallel filter threshold must be at least one participant";
+
+    private static final boolean DEFAULT_NAME_INDEX_ENABLED = true;
+    private static final int DEFAULT_PARALLEL_FILTER_THRESHOLD = 10000;
+
+    private final boolean isNameIndexEnabled;
+    private final int parallelFilterThreshold;
+
+    public SearchSettings() {
+        isNameIndexEnabled = DEFAULT_NAME_INDEX_ENABLED;
+        parallelFilterThreshold = DEFAULT_PARALLEL_FILTER_THRESHOLD;
+    }
+
+    /**
+     * Constructs a {@code SearchSettings} that answers name searches from an index of the words in participant names
+     * if {@code isNameIndexEnabled}, or by testing every participant's name otherwise.
+     */
+    public SearchSettings(boolean isNameIndexEnabled) {
+        this(isNameIndexEnabled, DEFAULT_PARALLEL_FILTER_THRESHOLD);
+    }
+
+    /**
+     * Constructs a {@code SearchSettings} like {@link #SearchSettings(boolean)}, that also tests the participants
+     * against a filter on several threads once there are at least {@code parallelFilterThreshold} of them.
+     */
+    public SearchSettings(boolean isNameIndexEnabled, int parallelFilterThreshold) {
+        checkArgument(parallelFilterThreshold > 0, MESSAGE_CONSTRAINTS);
+        this.isNameIndexEnabled = isNameIndexEnabled;
+        this.parallelFilterThreshold = parallelFilterThreshold;
+    }
+
+    public boolean isNameIndexEnabled() {
+        return isNameIndexEnabled;
+    }
+
+    public int getParallelFilterThreshold() {
+        return parallelFilterThreshold;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof SearchSettings)) { //this handles null as well.
+            return false;
+        }
+
+        SearchSettings o = (SearchSettings) other;
+
+        return isNameIndexEnabled == o.isNameIndexEnabled
+                && parallelFilterThreshold == o.parallelFilterThreshold;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(isNameIndexEnabled, parallelFilterThreshold);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Name index enabled : " + isNameIndexEnabled + "\n");
+        sb.append("Parallel filter threshold : " + parallelFilterThreshold);
+        return sb.toString();
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+
+/**
+ * The current date, shared by everything that depends on it.
+ * The date is worked out from the clock once and then kept until the next day starts, so reading it costs a
+ * comparison against the current time and allocates nothing.
+ */
+public final class DailyClock {
+
+    private static volatile Clock clock = Clock.systemDefaultZone();
+    private static volatile Today today = Today.of(clock);
+
+    private DailyClock() {}
+
+    /**
+     * Returns today's date as the number yyyymmdd, e.g. 20190401 for 1 April 2019.
+     * Dates in this form compare in date order, and the number of whole years between two of them is their difference
+     * divided by 10000.
+     */
+    public static int today() {
+        Today current = today;
+        Clock currentClock = clock;
+        if (currentClock.millis() >= current.endMillis) {
+            current = Today.of(currentClock);
+            today = current;
+        }
+        return current.date;
+    }
+
+    /**
+     * Replaces the clock the date is read from, e.g. with a fixed clock in tests.
+     */
+    public static void setClock(Clock newClock) {
+        requireNonNull(newClock);
+        clock = newClock;
+        today = Today.of(newClock);
+    }
+
+    /**
+     * Returns {@code date} as the number yyyymmdd.
+     */
+    public static int toNumber(LocalDate date) {
+        return date.getYear() * 10000 + date.getMonthValue() * 100 + date.getDayOfMonth();
+    }
+
+    /**
+     * A date and the time at which it ends.
+     */
+    private static final class Today {
+        private final int date;
+        private final long endMillis;
+
+        private Today(int date, long endMillis) {
+            this.date = date;
+            this.endMillis = endMillis;
+        }
+
+        private static Today of(Clock clock) {
+            LocalDate date = LocalDate.now(clock);
+            ZonedDateTime end = date.plusDays(1).atStartOfDay(clock.getZone());
+            return new Today(toNumber(date), end.toInstant().toEpochMilli());
+        }
+    }
+}
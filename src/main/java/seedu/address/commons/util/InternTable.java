@@ -0,0 +1,54 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * A table of the canonical instances of an immutable value type, keyed by what the values are created from.
+ * The first request for a key creates the value; later requests return that same instance without creating or
+ * validating anything, so every holder of an equal value shares one object.
+ * Safe for use by multiple threads.
+ */
+public class InternTable<K, V> {
+
+    private final ConcurrentMap<K, V> instances = new ConcurrentHashMap<>();
+    private final Function<K, V> factory;
+
+    /**
+     * Creates an empty table that creates the value for a key with {@code factory}.
+     * {@code factory} may throw to reject a key, in which case nothing is recorded for the key.
+     */
+    public InternTable(Function<K, V> factory) {
+        requireNonNull(factory);
+        this.factory = factory;
+    }
+
+    /**
+     * Returns the canonical value for {@code key}, creating it the first time {@code key} is requested.
+     * {@code key} must not be modified afterwards.
+     */
+    public V get(K key) {
+        requireNonNull(key);
+        V existing = instances.get(key);
+        return existing != null ? existing : instances.computeIfAbsent(key, factory);
+    }
+
+    /**
+     * Returns the value for {@code key} if it has been created, without creating it.
+     */
+    public Optional<V> find(K key) {
+        requireNonNull(key);
+        return Optional.ofNullable(instances.get(key));
+    }
+
+    /**
+     * Returns the number of keys in the table.
+     */
+    public int size() {
+        return instances.size();
+    }
+}
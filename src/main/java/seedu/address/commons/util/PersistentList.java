@@ -0,0 +1,319 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * An immutable, indexed sequence of elements.
+ * Every "modification" returns a new {@code PersistentList} and leaves the original untouched. The new list shares
+ * all unchanged structure with the original, so each modification only allocates O(log n) new nodes.
+ *
+ * The elements are stored in a height-balanced binary tree in which every node records the size of its subtree,
+ * which allows {@link #get(int)}, {@link #with(int, Object)}, {@link #plus(int, Object)} and {@link #minus(int)}
+ * to run in O(log n) time. Kept in order, it also finds where an element goes in O(log n) time with
+ * {@link #indexOfFirst(Predicate)}.
+ */
+public final class PersistentList<E> implements Iterable<E> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a {@code PersistentList} containing {@code elements} in order. Runs in O(n) time.
+     */
+    public static <E> PersistentList<E> copyOf(List<? extends E> elements) {
+        requireNonNull(elements);
+        return new PersistentList<>(build(new ArrayList<>(elements), 0, elements.size()));
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     */
+    public E get(int index) {
+        checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * Returns a list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<E> with(int index, E element) {
+        checkIndex(index, size());
+        return new PersistentList<>(set(root, index, element));
+    }
+
+    /**
+     * Returns a list with {@code element} appended to the end.
+     */
+    public PersistentList<E> plus(E element) {
+        return plus(size(), element);
+    }
+
+    /**
+     * Returns a list with {@code element} inserted at {@code index}, shifting later elements to the right.
+     */
+    public PersistentList<E> plus(int index, E element) {
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns a list with the element at {@code index} removed, shifting later elements to the left.
+     */
+    public PersistentList<E> minus(int index) {
+        checkIndex(index, size());
+        return new PersistentList<>(remove(root, index));
+    }
+
+    /**
+     * Returns the index of the first element for which {@code isAtOrAfter} is true, or the size of this list if there
+     * is none. {@code isAtOrAfter} must be false for the elements before some index and true from there on, as when
+     * looking for where an element goes in a sorted list. Runs in O(log n) time.
+     */
+    public int indexOfFirst(Predicate<? super E> isAtOrAfter) {
+        requireNonNull(isAtOrAfter);
+        int first = size();
+        int skipped = 0;
+        Node<E> node = root;
+        while (node != null) {
+            if (isAtOrAfter.test(node.value)) {
+                first = skipped + size(node.left);
+                node = node.left;
+            } else {
+                skipped += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return first;
+    }
+
+    /**
+     * Returns a new mutable {@code List} containing the elements of this list in order.
+     */
+    public List<E> toList() {
+        List<E> list = new ArrayList<>(size());
+        forEach(list::add);
+        return list;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private final Deque<Node<E>> path = new ArrayDeque<>();
+            private Node<E> next = root;
+
+            @Override
+            public boolean hasNext() {
+                return next != null || !path.isEmpty();
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                while (next != null) {
+                    path.push(next);
+                    next = next.left;
+                }
+                Node<E> current = path.pop();
+                next = current.right;
+                return current.value;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof PersistentList)) {
+            return false;
+        }
+
+        PersistentList<?> otherList = (PersistentList<?>) other;
+        if (size() != otherList.size()) {
+            return false;
+        }
+        Iterator<?> otherElements = otherList.iterator();
+        for (E element : this) {
+            if (!Objects.equals(element, otherElements.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (E element : this) {
+            hashCode = 31 * hashCode + Objects.hashCode(element);
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Bound: " + bound);
+        }
+    }
+
+    //// tree operations
+
+    /**
+     * Builds a perfectly balanced tree from {@code elements[from, to)}.
+     */
+    private static <E> Node<E> build(List<? extends E> elements, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node<>(build(elements, from, mid), elements.get(mid), build(elements, mid + 1, to));
+    }
+
+    /**
+     * Returns a copy of the path to {@code index} with the element there replaced by {@code value}.
+     */
+    private static <E> Node<E> set(Node<E> node, int index, E value) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node<>(set(node.left, index, value), node.value, node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.left, node.value, set(node.right, index - leftSize - 1, value));
+        } else {
+            return new Node<>(node.left, value, node.right);
+        }
+    }
+
+    /**
+     * Returns a rebalanced copy of the path to {@code index} with {@code value} inserted there.
+     */
+    private static <E> Node<E> insert(Node<E> node, int index, E value) {
+        if (node == null) {
+            return new Node<>(null, value, null);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(insert(node.left, index, value), node.value, node.right);
+        } else {
+            return balance(node.left, node.value, insert(node.right, index - leftSize - 1, value));
+        }
+    }
+
+    /**
+     * Returns a rebalanced copy of the path to {@code index} with the element there removed.
+     */
+    private static <E> Node<E> remove(Node<E> node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(remove(node.left, index), node.value, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.value, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            Node<E> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            return balance(node.left, successor.value, remove(node.right, 0));
+        }
+    }
+
+    /**
+     * Returns a node holding {@code value} with the given subtrees, rotating once or twice if the heights of the
+     * subtrees differ by more than one.
+     */
+    private static <E> Node<E> balance(Node<E> left, E value, Node<E> right) {
+        if (height(left) > height(right) + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.left, left.value, new Node<>(left.right, value, right));
+            }
+            Node<E> pivot = left.right;
+            return new Node<>(new Node<>(left.left, left.value, pivot.left), pivot.value,
+                    new Node<>(pivot.right, value, right));
+        }
+        if (height(right) > height(left) + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(new Node<>(left, value, right.left), right.value, right.right);
+            }
+            Node<E> pivot = right.left;
+            return new Node<>(new Node<>(left, value, pivot.left), pivot.value,
+                    new Node<>(pivot.right, right.value, right.right));
+        }
+        return new Node<>(left, value, right);
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * An immutable tree node. Nodes are shared between all lists derived from one another.
+     */
+    private static final class Node<E> {
+        private final Node<E> left;
+        private final E value;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        Node(Node<E> left, E value, Node<E> right) {
+            this.left = left;
+            this.value = value;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+}
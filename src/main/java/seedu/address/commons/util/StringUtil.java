@@ -65,4 +65,53 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}, the fewest single character
+     * insertions, deletions and substitutions that turn one into the other, or {@code maxDistance + 1} if it is more
+     * than {@code maxDistance}.
+     * Only the cells of the distance table within {@code maxDistance} of its diagonal are filled, and the filling
+     * stops as soon as a whole row is over {@code maxDistance}, so this takes O(maxDistance * length) time.
+     */
+    public static int editDistance(String first, String second, int maxDistance) {
+        requireNonNull(first);
+        requireNonNull(second);
+        checkArgument(maxDistance >= 0, "Maximum distance cannot be negative");
+        int tooFar = maxDistance + 1;
+        if (Math.abs(first.length() - second.length()) > maxDistance) {
+            return tooFar;
+        }
+
+        // previous[j] and current[j] are the distances from a prefix of first to the first j characters of second
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = Math.min(j, tooFar);
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            int from = Math.max(1, i - maxDistance);
+            int to = Math.min(second.length(), i + maxDistance);
+            current[0] = Math.min(i, tooFar);
+            if (from > 1) {
+                current[from - 1] = tooFar;
+            }
+            int rowMinimum = current[0];
+            for (int j = from; j <= to; j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                int distance = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                current[j] = Math.min(distance, tooFar);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (to < second.length()) {
+                current[to + 1] = tooFar;
+            }
+            if (rowMinimum > maxDistance) {
+                return tooFar;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
 }
@@ -13,7 +13,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.grouping.Group;
 import seedu.address.model.participant.Participant;
 
 /**
@@ -77,11 +76,9 @@ public class AddCommand extends Command {
             throw new CommandException(MESSAGE_NONEXISTENT_GROUP);
         }
 
-        Group updatedGroup = model.getGroup(toAdd.getGroup());
-        Participant toAddUpdated = getParticipantUpdatedGroup(toAdd, updatedGroup);
-        model.addParticipant(toAddUpdated);
+        model.addParticipant(toAdd);
         model.commitAddressBook();
-        return new CommandResult(String.format(MESSAGE_SUCCESS, toAddUpdated));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
     }
 
     @Override
@@ -90,13 +87,4 @@ public class AddCommand extends Command {
                 || (other instanceof AddCommand // instanceof handles nulls
                 && toAdd.equals(((AddCommand) other).toAdd));
     }
-
-    /**
-     * Creates and returns a {@code Participant} with the updated {@code group}.
-     */
-    public static Participant getParticipantUpdatedGroup(Participant participantToEdit, Group group) {
-        return new Participant(participantToEdit.getName(), participantToEdit.getSex(),
-                participantToEdit.getBirthday(), participantToEdit.getPhone(), participantToEdit.getEmail(),
-                participantToEdit.getMajor(), group, participantToEdit.getTags());
-    }
 }
@@ -13,7 +13,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.grouping.Group;
 import seedu.address.model.participant.Participant;
 
 /**
@@ -75,10 +74,8 @@ public class AddFreshmanCommand extends AddCommand {
             throw new CommandException(MESSAGE_NONEXISTENT_GROUP);
         }
 
-        Group updatedGroup = model.getGroup(toAdd.getGroup());
-        Participant toAddUpdated = getParticipantUpdatedGroup(toAdd, updatedGroup);
-        model.addParticipant(toAddUpdated);
+        model.addParticipant(toAdd);
         model.commitAddressBook();
-        return new CommandResult(String.format(MESSAGE_SUCCESS, toAddUpdated));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
     }
 }
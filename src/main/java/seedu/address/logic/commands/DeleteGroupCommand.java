@@ -2,12 +2,10 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import javafx.collections.ObservableList;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.grouping.Group;
-import seedu.address.model.participant.Participant;
 
 /**
  * Deletes a group identified by the group name.
@@ -41,27 +39,11 @@ public class DeleteGroupCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
 
-        ObservableList<Group> groupList = model.getFilteredGroupList();
-        ObservableList<Participant> participantList = model.getFilteredParticipantList();
+        Group toDelete = model.findGroup(groupName)
+                .orElseThrow(() -> new CommandException(MESSAGE_NONEXISTENT_GROUP));
 
-        Group toDelete = new Group (groupName);
-
-        boolean groupExists = false;
-        for (Group group : groupList) {
-            if (group.getGroupName().equals(groupName)) {
-                groupExists = true;
-                toDelete.setHouseName(group.getHouseName());
-                break;
-            }
-        }
-        if (!groupExists) {
-            throw new CommandException(MESSAGE_NONEXISTENT_GROUP);
-        }
-
-        for (Participant participant : participantList) {
-            if (participant.getGroup().getGroupName().equals(groupName)) {
-                throw new CommandException(MESSAGE_NOT_EMPTY_GROUP);
-            }
+        if (model.hasParticipantsInGroup(groupName)) {
+            throw new CommandException(MESSAGE_NOT_EMPTY_GROUP);
         }
 
         model.deleteGroup(toDelete);
@@ -2,11 +2,9 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import javafx.collections.ObservableList;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.grouping.Group;
 import seedu.address.model.grouping.House;
 
 /**
@@ -40,27 +38,14 @@ public class DeleteHouseCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
 
-        ObservableList<Group> groupList = model.getFilteredGroupList();
-        ObservableList<House> houseList = model.getFilteredHouseList();
+        House toDelete = model.findHouse(houseName)
+                .orElseThrow(() -> new CommandException(MESSAGE_NONEXISTENT_HOUSE));
 
-        boolean houseExists = false;
-        for (House house : houseList) {
-            if (house.getHouseName().equals(houseName)) {
-                houseExists = true;
-                break;
-            }
-        }
-        if (!houseExists) {
-            throw new CommandException(MESSAGE_NONEXISTENT_HOUSE);
-        }
-
-        for (Group group : groupList) {
-            if (group.getHouseName().equals(houseName)) {
-                throw new CommandException(MESSAGE_NOT_EMPTY_HOUSE);
-            }
+        if (!model.getGroupsInHouse(houseName).isEmpty()) {
+            throw new CommandException(MESSAGE_NOT_EMPTY_HOUSE);
         }
 
-        model.deleteHouse(new House(houseName));
+        model.deleteHouse(toDelete);
         model.commitAddressBook();
 
         return new CommandResult(String.format(MESSAGE_DELETE_HOUSE_SUCCESS, houseName));
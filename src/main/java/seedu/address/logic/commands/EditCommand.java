@@ -99,13 +99,6 @@ public class EditCommand extends Command {
             throw new CommandException(MESSAGE_NONEXISTENT_GROUP);
         }
 
-        if (!editedParticipant.getGroup().getGroupName().isEmpty()) {
-            Group updatedGroup = model.getGroup(editedParticipant.getGroup());
-            editedParticipant = new Participant(editedParticipant.getName(), editedParticipant.getSex(),
-                    editedParticipant.getBirthday(), editedParticipant.getPhone(), editedParticipant.getEmail(),
-                    editedParticipant.getMajor(), updatedGroup, editedParticipant.getTags());
-        }
-
         model.setParticipant(participantToEdit, editedParticipant);
         model.updateFilteredParticipantList(PREDICATE_SHOW_ALL_PARTICIPANTS);
         model.commitAddressBook();
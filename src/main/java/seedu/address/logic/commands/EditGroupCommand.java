@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.List;
 
-import javafx.collections.ObservableList;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -52,42 +51,27 @@ public class EditGroupCommand extends Command {
             throw new CommandException(MESSAGE_REPEAT_GROUP);
         }
 
-        ObservableList<Group> groupList = model.getAddressBook().getGroupList();
-
-        Group oldGroup = new Group(oldGroupName);
-        Group newGroup = new Group(newGroupName);
-
-        boolean nonexistent = true;
-        boolean existentNew = false;
-
-        for (Group toList : groupList) {
-            if (toList.getGroupName().equals(oldGroupName)) {
-                oldGroup.setHouseName(toList.getHouseName());
-                newGroup.setHouseName(toList.getHouseName());
-                nonexistent = false;
-            }
-            if (toList.getGroupName().equals(newGroupName)) {
-                existentNew = true;
-                break;
-            }
-        }
-
-        if (nonexistent) {
-            throw new CommandException(MESSAGE_NONEXISTENT_OLD_GROUP);
-        }
-        if (existentNew) {
+        Group oldGroup = model.findGroup(oldGroupName)
+                .orElseThrow(() -> new CommandException(MESSAGE_NONEXISTENT_OLD_GROUP));
+        if (model.findGroup(newGroupName).isPresent()) {
             throw new CommandException(MESSAGE_EXISTENT_NEW_GROUP);
         }
+        Group newGroup = new Group(newGroupName, oldGroup.getHouseName());
 
-        //updates persons with old group to new group
-        List<Participant> participantList = model.getAddressBook().getParticipantList();
-        for (Participant participant : participantList) {
-            if (participant.getGroup().equals(oldGroup)) {
+        //updates persons with old group to new group, as one change to the participant list
+        List<Participant> members = model.getParticipantsInGroup(oldGroupName);
+        model.beginBatch();
+        try {
+            for (Participant participant : members) {
                 Participant editedParticipant = getParticipantUpdatedGroup(participant, newGroup);
                 model.setParticipant(participant, editedParticipant);
             }
+            model.setGroup(oldGroup, newGroup);
+        } catch (RuntimeException e) {
+            model.abortBatch();
+            throw e;
         }
-        model.setGroup(oldGroup, newGroup);
+        model.endBatch();
         model.commitAddressBook();
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, oldGroupName, newGroupName));
@@ -2,15 +2,11 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
-
-import javafx.collections.ObservableList;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.grouping.Group;
 import seedu.address.model.grouping.House;
-import seedu.address.model.participant.Participant;
 
 /**
  * Edits the name of a House.
@@ -53,55 +49,27 @@ public class EditHouseCommand extends Command {
             throw new CommandException(MESSAGE_REPEAT_HOUSE);
         }
 
-        ObservableList<House> houseList = model.getFilteredHouseList();
-
-        House oldHouse = new House(oldHouseName);
-        House newHouse = new House(newHouseName);
-
-        boolean nonexistent = true;
-        boolean existentNew = false;
-
-        //check for existing houses
-        for (House toList : houseList) {
-            if (toList.getHouseName().equals(oldHouseName)) {
-                nonexistent = false;
-            }
-            if (toList.getHouseName().equals(newHouseName)) {
-                existentNew = true;
-            }
-        }
-
-        if (nonexistent) {
-            throw new CommandException(MESSAGE_NONEXISTENT_OLD_HOUSE);
-        }
-        if (existentNew) {
+        House oldHouse = model.findHouse(oldHouseName)
+                .orElseThrow(() -> new CommandException(MESSAGE_NONEXISTENT_OLD_HOUSE));
+        if (model.findHouse(newHouseName).isPresent()) {
             throw new CommandException(MESSAGE_EXISTENT_NEW_HOUSE);
         }
+        House newHouse = new House(newHouseName);
 
-        //updates groups in old House to new houseName
-        ObservableList<Group> groupList = model.getFilteredGroupList();
-        for (Group group : groupList) {
-            if (group.getHouseName().equals(oldHouseName)) {
+        model.beginBatch();
+        try {
+            //updates groups in old House to new houseName
+            //participants refer to their group by name only, so they need not be updated
+            for (Group group : model.getGroupsInHouse(oldHouseName)) {
                 Group newGroup = new Group(group.getGroupName(), newHouseName);
                 model.setGroup(group, newGroup);
             }
+            model.setHouse(oldHouse, newHouse);
+        } catch (RuntimeException e) {
+            model.abortBatch();
+            throw e;
         }
-        //updates participants with old house name to new house name
-        List<Participant> participantList = model.getAddressBook().getParticipantList();
-        for (Participant participant : participantList) {
-            if (participant.getGroup().getGroupName().isEmpty()) {
-                continue;
-            }
-            if (participant.getGroup().getHouseName().equals(oldHouseName)) {
-                Participant editedParticipant = new Participant(participant.getName(), participant.getSex(),
-                        participant.getBirthday(), participant.getPhone(), participant.getEmail(),
-                        participant.getMajor(), new Group(participant.getGroup().getGroupName(), newHouseName),
-                        participant.getTags());
-                model.setParticipant(participant, editedParticipant);
-            }
-        }
-
-        model.setHouse(oldHouse, newHouse);
+        model.endBatch();
         model.commitAddressBook();
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, oldHouseName, newHouseName));
@@ -0,0 +1,45 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.query.Query;
+
+/**
+ * Lists all participants that match a query combining conditions on their details.
+ */
+public class FilterCommand extends Command {
+
+    public static final String COMMAND_WORD = "filter";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all participants that match the query.\n"
+            + "A query compares a field with a value, e.g. major=CS or age<20, and combines comparisons with and, or, "
+            + "not and parentheses. The fields are name, sex, major, group, house, tag and age; only age can be "
+            + "compared with <, <=, > and >=, and any field with = and !=. Values with spaces go in double quotes.\n"
+            + "Parameters: QUERY\n"
+            + "Example: " + COMMAND_WORD + " major=CS and sex=F and group=G3 and age<20";
+
+    private final Query query;
+
+    public FilterCommand(Query query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        model.updateFilteredParticipantList(model.planQuery(query).getPredicate());
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredParticipantList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FilterCommand // instanceof handles nulls
+                && query.equals(((FilterCommand) other).query)); // state check
+    }
+}
@@ -10,26 +10,45 @@ import seedu.address.model.participant.NameContainsKeywordsPredicate;
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
  * Keyword matching is case insensitive.
+ * In fuzzy mode, a keyword instead matches the words of names closest to it within a number of single character edits.
+ *
+ * The names are matched through the name index of the participant list, but the listed participants stay a live,
+ * filtered view of the whole list rather than a result set worked out once: each participant is still tested, by
+ * looking its name words up in the index, so that participants added or edited after a find are listed correctly.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
+    public static final int MAX_DISTANCE = 3;
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Parameters: KEYWORD [MORE_KEYWORDS]... [d/DISTANCE]\n"
+            + "With DISTANCE (1 to " + MAX_DISTANCE + "), matches instead the name words closest to each "
+            + "keyword that are at most DISTANCE letters off.\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " alcie d/2";
 
     private final NameContainsKeywordsPredicate predicate;
+    /** How many single character edits a keyword may be off a name word, or 0 to match words exactly. */
+    private final int maxDistance;
 
     public FindCommand(NameContainsKeywordsPredicate predicate) {
+        this(predicate, 0);
+    }
+
+    public FindCommand(NameContainsKeywordsPredicate predicate, int maxDistance) {
         this.predicate = predicate;
+        this.maxDistance = maxDistance;
     }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
-        model.updateFilteredParticipantList(predicate);
+        model.updateFilteredParticipantList(maxDistance == 0
+                ? model.getNameKeywordsPredicate(predicate.getKeywords())
+                : model.getFuzzyNameKeywordsPredicate(predicate.getKeywords(), maxDistance));
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredParticipantList().size()));
     }
@@ -38,6 +57,7 @@ public class FindCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && predicate.equals(((FindCommand) other).predicate)); // state check
+                && predicate.equals(((FindCommand) other).predicate)
+                && maxDistance == ((FindCommand) other).maxDistance); // state check
     }
 }
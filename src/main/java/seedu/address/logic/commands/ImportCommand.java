@@ -35,12 +35,19 @@ public class ImportCommand extends Command {
             List<Participant> participants = WriteToExcel.readFromExcel();
             if (participants.size() >= 0) {
 
-                for (Participant participant : participants) {
-                    if (model.hasParticipant(participant)) {
-                        continue;
+                model.beginBatch();
+                try {
+                    for (Participant participant : participants) {
+                        if (model.hasParticipant(participant)) {
+                            continue;
+                        }
+                        model.addParticipant(participant);
                     }
-                    model.addParticipant(participant);
+                } catch (RuntimeException e) {
+                    model.abortBatch();
+                    throw e;
                 }
+                model.endBatch();
                 model.commitAddressBook();
                 message = String.format(MESSAGE_SUCCESS);
             } else {
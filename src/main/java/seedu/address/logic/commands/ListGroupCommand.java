@@ -2,7 +2,6 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -34,16 +33,7 @@ public class ListGroupCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
 
-        ObservableList<Group> groupList = model.getFilteredGroupList();
-        boolean contains = false;
-
-        for (Group group : groupList) {
-            if (group.getGroupName().equals(groupName)) {
-                contains = true;
-            }
-        }
-
-        if (!groupName.equals("EMPTY") && !contains) {
+        if (!groupName.equals("EMPTY") && !model.findGroup(groupName).isPresent()) {
             throw new CommandException(MESSAGE_NONEXISTENT_GROUP);
         }
 
@@ -2,13 +2,12 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.grouping.FindHousePredicate;
-import seedu.address.model.grouping.House;
+import seedu.address.model.grouping.Group;
+import seedu.address.model.participant.InHousePredicate;
 
 /**
  * Lists all participants belonging to a house to the user.
@@ -23,10 +22,9 @@ public class ListHouseCommand extends Command {
     public static final String MESSAGE_NONEXISTENT_HOUSE = "House does not exist.";
 
     private final String houseName;
-    private final FindHousePredicate predicate;
 
-    public ListHouseCommand(FindHousePredicate predicate, String houseName) {
-        this.predicate = predicate;
+    public ListHouseCommand(String houseName) {
+        requireNonNull(houseName);
         this.houseName = houseName;
     }
 
@@ -34,20 +32,12 @@ public class ListHouseCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
 
-        ObservableList<House> houseList = model.getFilteredHouseList();
-        boolean contains = false;
-
-        for (House house: houseList) {
-            if (house.getHouseName().equals(houseName)) {
-                contains = true;
-            }
-        }
-
-        if (!contains) {
+        if (!model.findHouse(houseName).isPresent()) {
             throw new CommandException(MESSAGE_NONEXISTENT_HOUSE);
         }
 
-        model.updateFilteredParticipantList(predicate);
+        model.updateFilteredParticipantList(new InHousePredicate(houseName, groupName ->
+                model.findGroup(groupName).map(Group::getHouseName).orElse("")));
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredParticipantList().size()));
     }
@@ -56,6 +46,6 @@ public class ListHouseCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof ListHouseCommand // instanceof handles nulls
-                && predicate.equals(((ListHouseCommand) other).predicate)); // state check
+                && houseName.equals(((ListHouseCommand) other).houseName)); // state check
     }
 }
@@ -0,0 +1,76 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.participant.ContactMatchesPredicate;
+import seedu.address.model.participant.Email;
+import seedu.address.model.participant.Participant;
+import seedu.address.model.participant.Phone;
+
+/**
+ * Lists and selects the participants with a phone or email, found from the address book's contact indexes.
+ */
+public class LookupCommand extends Command {
+
+    public static final String COMMAND_WORD = "lookup";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the participants with the given phone or email "
+            + "and selects the participant if there is only one. A leading + of a phone and the case of an email "
+            + "are ignored.\n"
+            + "Parameters: PHONE_OR_EMAIL\n"
+            + "Example: " + COMMAND_WORD + " 98765432";
+
+    public static final String MESSAGE_NOT_FOUND = "No participant has %1$s";
+
+    /** The phone to look up, or null if an email is looked up. */
+    private final Phone phone;
+    /** The email to look up, or null if a phone is looked up. */
+    private final Email email;
+
+    public LookupCommand(Phone phone) {
+        requireNonNull(phone);
+        this.phone = phone;
+        this.email = null;
+    }
+
+    public LookupCommand(Email email) {
+        requireNonNull(email);
+        this.phone = null;
+        this.email = email;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        Set<Participant> matches = phone != null
+                ? model.getParticipantsWithPhone(phone)
+                : model.getParticipantsWithEmail(email);
+        if (matches.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NOT_FOUND, phone != null ? phone : email));
+        }
+
+        Participant onlyMatch = matches.size() == 1 ? matches.iterator().next() : null;
+        // the list keeps following the phone or email as participants are edited
+        model.updateFilteredParticipantList(
+                phone != null ? new ContactMatchesPredicate(phone) : new ContactMatchesPredicate(email));
+        if (onlyMatch != null) {
+            model.setSelectedParticipant(onlyMatch);
+        }
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredParticipantList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof LookupCommand // instanceof handles nulls
+                && Objects.equals(phone, ((LookupCommand) other).phone)
+                && Objects.equals(email, ((LookupCommand) other).email)); // state check
+    }
+}
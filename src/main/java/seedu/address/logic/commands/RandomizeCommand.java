@@ -1,37 +1,109 @@
 package seedu.address.logic.commands;
 
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BUDGET;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SEED;
+
 import java.security.SecureRandom;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
-import seedu.address.commons.Value;
+import seedu.address.commons.util.DailyClock;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.allocation.Allocation;
+import seedu.address.model.allocation.BalancedAllocator;
+import seedu.address.model.allocation.IncrementalAllocator;
 import seedu.address.model.grouping.Group;
 import seedu.address.model.participant.Participant;
-import seedu.address.model.tag.Tag;
+import seedu.address.model.participant.Role;
 
 /**
  * Randomly assigns all participants to all available groups.
  *
  * Evenly distributes the participants (number differs from either 1 or 2).
+ * In balanced mode, the participants are instead allocated so that each group and house has a similar mix of sexes,
+ * majors, ages and OGLs, as worked out by a {@code BalancedAllocator}. Allocations from several seeds are tried on
+ * every core for a time budget and the best is kept; its seed is reported, so that it can be made again exactly.
+ * In incremental mode, the fewest participants are moved that even out the groups again, as worked out by an
+ * {@code IncrementalAllocator}, so that late registrations and new groups do not reshuffle everyone.
  */
 public class RandomizeCommand extends Command {
 
     public static final String COMMAND_WORD = "randomize";
 
+    public static final String BALANCED_KEYWORD = "balanced";
+    public static final String INCREMENTAL_KEYWORD = "incremental";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Evenly distribute all participants across all groups.";
+            + ": Evenly distribute all participants across all groups. With " + BALANCED_KEYWORD + ", a budget or a "
+            + "seed, also balance the sexes, majors, ages and OGLs of each group and house, trying as many "
+            + "allocations as fit in the budget, or making the allocation of the seed again. With "
+            + INCREMENTAL_KEYWORD + ", only move the fewest participants that even out the groups again.\n"
+            + "Parameters: [" + BALANCED_KEYWORD + "] [" + PREFIX_BUDGET + "TIME] [" + PREFIX_SEED + "SEED] or "
+            + INCREMENTAL_KEYWORD + "\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_BUDGET + "500ms";
 
     public static final String MESSAGE_SUCCESS = "Participants are evenly distributed";
+    public static final String MESSAGE_BALANCED_SUCCESS = "Participants are distributed in balance, with an imbalance "
+            + "of %1$.2f (0 is a perfect balance). Make this allocation again with: " + COMMAND_WORD + " "
+            + PREFIX_SEED + "%2$d\nThe imbalance of each group is:\n%3$s";
+    public static final String MESSAGE_INCREMENTAL_SUCCESS = "Moved %1$d participant(s) to even out the groups:\n%2$s";
+    public static final String MESSAGE_ALREADY_EVEN = "Groups are already even, so no participant was moved";
 
     public static final String MESSAGE_FAILURE = "Unable to distribute participants";
     public static final String MESSAGE_INSUFFICIENT_PARTICIPANTS = MESSAGE_FAILURE + ": Insufficient participants";
     public static final String MESSAGE_INSUFFICIENT_OGLS = MESSAGE_FAILURE + ": Insufficient OGLs";
     public static final String MESSAGE_INSUFFICIENT_GROUPS = MESSAGE_FAILURE + ": Insufficient groups";
 
+    private final boolean isBalanced;
+    private final boolean isIncremental;
+    private final Duration budget;
+    /** The seed of the allocation to make again, or null if allocations are tried for the budget. */
+    private final Long seed;
+
+    /**
+     * Creates a command that distributes the participants evenly, without balancing them.
+     */
+    public RandomizeCommand() {
+        this(false, false, Duration.ZERO, null);
+    }
+
+    /**
+     * Creates a command that distributes the participants in balance, trying allocations for {@code budget}, and at
+     * least one on every core.
+     */
+    public RandomizeCommand(Duration budget) {
+        this(true, false, budget, null);
+    }
+
+    /**
+     * Creates a command that distributes the participants in balance as the allocation with {@code seed} does.
+     */
+    public RandomizeCommand(long seed) {
+        this(true, false, Duration.ZERO, seed);
+    }
+
+    private RandomizeCommand(boolean isBalanced, boolean isIncremental, Duration budget, Long seed) {
+        this.isBalanced = isBalanced;
+        this.isIncremental = isIncremental;
+        this.budget = budget;
+        this.seed = seed;
+    }
+
+    /**
+     * Returns a command that moves the fewest participants that even out the groups again.
+     */
+    public static RandomizeCommand incremental() {
+        return new RandomizeCommand(false, true, Duration.ZERO, null);
+    }
+
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         List<Group> groups = model.getFilteredGroupList();
@@ -40,18 +112,9 @@ public class RandomizeCommand extends Command {
             throw new CommandException(MESSAGE_INSUFFICIENT_GROUPS);
         }
 
-        List<Participant> participants = model.getFilteredParticipantList();
-        List<Participant> freshmen = new ArrayList<>();
-        List<Participant> ogls = new ArrayList<>();
-
-        for (int i = 0; i < participants.size(); i++) {
-            Participant p = participants.get(i);
-            if (p.getTags().contains(new Tag(Value.FRESHMAN))) {
-                freshmen.add(p);
-            } else if (p.getTags().contains(new Tag(Value.OGL))) {
-                ogls.add(p);
-            }
-        }
+        // Copied, as reassigning participants changes the role views
+        List<Participant> freshmen = new ArrayList<>(model.getParticipantsWithRole(Role.FRESHMAN));
+        List<Participant> ogls = new ArrayList<>(model.getParticipantsWithRole(Role.OGL));
 
         if (freshmen.size() < 2) {
             throw new CommandException(MESSAGE_INSUFFICIENT_PARTICIPANTS);
@@ -59,6 +122,12 @@ public class RandomizeCommand extends Command {
             throw new CommandException(MESSAGE_INSUFFICIENT_OGLS);
         }
 
+        if (isBalanced) {
+            return allocateInBalance(model, groups, freshmen, ogls);
+        } else if (isIncremental) {
+            return allocateIncrementally(model, groups, freshmen, ogls);
+        }
+
         // SecureRandom is used as a seed for better randomness
         Collections.shuffle(freshmen, new SecureRandom());
         Collections.shuffle(ogls, new SecureRandom());
@@ -70,28 +139,94 @@ public class RandomizeCommand extends Command {
         Participant originalParticipant;
         Participant editedParticipant;
 
-        for (Participant freshman : freshmen) {
-            originalParticipant = freshman;
-            editedParticipant = getParticipantUpdatedGroup(originalParticipant,
-                    groups.get(counter % groups.size()));
+        // All participants are reassigned as a single change to the participant list
+        model.beginBatch();
+        try {
+            for (Participant freshman : freshmen) {
+                originalParticipant = freshman;
+                editedParticipant = getParticipantUpdatedGroup(originalParticipant,
+                        groups.get(counter % groups.size()));
 
-            model.setParticipant(originalParticipant, editedParticipant);
+                model.setParticipant(originalParticipant, editedParticipant);
 
-            ++counter;
-        }
-        for (Participant ogl : ogls) {
-            originalParticipant = ogl;
-            editedParticipant = getParticipantUpdatedGroup(originalParticipant,
-                    groups.get(counter % groups.size()));
+                ++counter;
+            }
+            for (Participant ogl : ogls) {
+                originalParticipant = ogl;
+                editedParticipant = getParticipantUpdatedGroup(originalParticipant,
+                        groups.get(counter % groups.size()));
 
-            model.setParticipant(originalParticipant, editedParticipant);
+                model.setParticipant(originalParticipant, editedParticipant);
 
-            ++counter;
+                ++counter;
+            }
+        } catch (RuntimeException e) {
+            model.abortBatch();
+            throw e;
         }
+        model.endBatch();
 
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
+    /**
+     * Allocates {@code freshmen} and {@code ogls} to {@code groups} in balance and reports the imbalance of each group.
+     */
+    private CommandResult allocateInBalance(Model model, List<Group> groups, List<Participant> freshmen,
+                                            List<Participant> ogls) {
+        BalancedAllocator allocator = new BalancedAllocator(groups, DailyClock.today());
+        // SecureRandom is used for the first seed for better randomness; the seeds tried after it follow from it
+        Allocation allocation = seed != null
+                ? allocator.allocate(freshmen, ogls, seed)
+                : allocator.allocateWithin(freshmen, ogls, new SecureRandom().nextLong(), budget);
+
+        // All participants are reassigned as a single change to the participant list
+        model.beginBatch();
+        try {
+            List<Participant> participants = allocation.getParticipants();
+            for (int i = 0; i < participants.size(); i++) {
+                model.setParticipant(participants.get(i),
+                        getParticipantUpdatedGroup(participants.get(i), allocation.getGroupOf(i)));
+            }
+        } catch (RuntimeException e) {
+            model.abortBatch();
+            throw e;
+        }
+        model.endBatch();
+
+        String groupImbalances = IntStream.range(0, allocation.getGroups().size())
+                .mapToObj(g -> String.format("%s %.2f", allocation.getGroups().get(g), allocation.getGroupImbalance(g)))
+                .collect(Collectors.joining(", "));
+        return new CommandResult(String.format(MESSAGE_BALANCED_SUCCESS, allocation.getImbalance(),
+                allocation.getSeed(), groupImbalances));
+    }
+
+    /**
+     * Moves the fewest of {@code freshmen} and {@code ogls} that even out {@code groups}, and reports who moved where.
+     */
+    private static CommandResult allocateIncrementally(Model model, List<Group> groups, List<Participant> freshmen,
+                                                       List<Participant> ogls) {
+        Map<Participant, Group> moves = new IncrementalAllocator(groups).rebalance(freshmen, ogls);
+        if (moves.isEmpty()) {
+            return new CommandResult(MESSAGE_ALREADY_EVEN);
+        }
+
+        model.beginBatch();
+        try {
+            moves.forEach((participant, group) ->
+                    model.setParticipant(participant, getParticipantUpdatedGroup(participant, group)));
+        } catch (RuntimeException e) {
+            model.abortBatch();
+            throw e;
+        }
+        model.endBatch();
+
+        String movedParticipants = moves.entrySet().stream()
+                .map(move -> String.format("%s to %s", move.getKey().getName(), move.getValue()))
+                .collect(Collectors.joining(", "));
+        return new CommandResult(String.format(MESSAGE_INCREMENTAL_SUCCESS, moves.size(), movedParticipants));
+    }
+
     /**
      * Creates and returns a {@code Participant} with the updated {@code group}.
      */
@@ -100,4 +235,14 @@ public class RandomizeCommand extends Command {
                 participantToEdit.getBirthday(), participantToEdit.getPhone(), participantToEdit.getEmail(),
                 participantToEdit.getMajor(), group, participantToEdit.getTags());
     }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RandomizeCommand // instanceof handles nulls
+                && isBalanced == ((RandomizeCommand) other).isBalanced
+                && isIncremental == ((RandomizeCommand) other).isIncremental
+                && budget.equals(((RandomizeCommand) other).budget)
+                && Objects.equals(seed, ((RandomizeCommand) other).seed)); // state check
+    }
 }
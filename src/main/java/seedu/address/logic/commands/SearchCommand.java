@@ -0,0 +1,68 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.participant.Participant;
+
+/**
+ * Finds the participants that best match the argument keywords in any of their details, and lists them.
+ * Keyword matching is case insensitive.
+ */
+public class SearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "search";
+
+    public static final int DEFAULT_LIMIT = 10;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the participants whose name, email, phone, "
+            + "major, group, house or tags best match the specified keywords (case-insensitive), and displays them "
+            + "as a list with index numbers.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]... [" + PREFIX_LIMIT + "MAX_RESULTS]\n"
+            + "Example: " + COMMAND_WORD + " alice computer red " + PREFIX_LIMIT + "5";
+
+    public static final String MESSAGE_SUCCESS = "%1$d participants listed! Best matches:\n%2$s";
+
+    private final List<String> keywords;
+    private final int limit;
+
+    /**
+     * Creates a SearchCommand that lists at most {@code limit} participants matching {@code keywords}.
+     */
+    public SearchCommand(List<String> keywords, int limit) {
+        requireNonNull(keywords);
+        this.keywords = keywords;
+        this.limit = limit;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        List<Participant> hits = model.searchParticipants(keywords, limit);
+
+        Set<Participant> hitSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        hitSet.addAll(hits);
+        model.updateFilteredParticipantList(hitSet::contains);
+
+        StringBuilder ranking = new StringBuilder();
+        for (int i = 0; i < hits.size(); i++) {
+            ranking.append(i + 1).append(". ").append(hits.get(i).getName().fullName).append('\n');
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, hits.size(), ranking.toString().trim()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SearchCommand // instanceof handles nulls
+                && keywords.equals(((SearchCommand) other).keywords)
+                && limit == ((SearchCommand) other).limit); // state check
+    }
+}
@@ -7,6 +7,7 @@ import java.util.List;
 import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
 import seedu.address.model.participant.Participant;
+import seedu.address.model.participant.Role;
 
 /**
  * Displays the size of all lists (Participant, OGL, Freshman, Group and House) in the Command result box.
@@ -22,17 +23,9 @@ public class SizeCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
 
-        List<Participant> participantList = model.getFilteredParticipantList();
-        int numOgl = 0;
-        int numFreshman = 0;
-
-        for (Participant participant : participantList) {
-            if (participant.getStringTags().contains("OGL")) {
-                numOgl++;
-            } else if (participant.getStringTags().contains("Freshman")) {
-                numFreshman++;
-            }
-        }
+        List<Participant> participantList = model.getAddressBook().getParticipantList();
+        int numOgl = model.getParticipantsWithRole(Role.OGL).size();
+        int numFreshman = model.getParticipantsWithRole(Role.FRESHMAN).size();
 
         int groupSize = model.sizeGroupList();
         int houseSize = model.sizeHouseList();
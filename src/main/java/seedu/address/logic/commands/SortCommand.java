@@ -0,0 +1,59 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.participant.SortKey;
+
+/**
+ * Sorts the listed participants by some of their details, and keeps them sorted as they change.
+ */
+public class SortCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort";
+    public static final String NO_SORT_KEYWORD = "none";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the listed participants by the given fields, "
+            + "each in ascending order unless followed by desc. Later fields order participants that are equal in the "
+            + "earlier ones. The fields are name, age, birthday, major, group and house. " + COMMAND_WORD + " "
+            + NO_SORT_KEYWORD + " lists the participants in the order they were added in again.\n"
+            + "Parameters: FIELD [asc|desc] [MORE_FIELDS]...\n"
+            + "Example: " + COMMAND_WORD + " house age desc name";
+
+    public static final String MESSAGE_SUCCESS = "Sorted participants by %1$s";
+    public static final String MESSAGE_UNSORTED = "Listed participants in the order they were added in";
+
+    private final List<SortKey> keys;
+
+    /**
+     * Creates a SortCommand that sorts the listed participants by {@code keys}, or stops sorting them if there are
+     * no keys.
+     */
+    public SortCommand(List<SortKey> keys) {
+        requireNonNull(keys);
+        this.keys = new ArrayList<>(keys);
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        model.sortFilteredParticipantList(keys);
+        if (keys.isEmpty()) {
+            return new CommandResult(MESSAGE_UNSORTED);
+        }
+        String description = keys.stream().map(SortKey::toString).collect(Collectors.joining(", "));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, description));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SortCommand // instanceof handles nulls
+                && keys.equals(((SortCommand) other).keys)); // state check
+    }
+}
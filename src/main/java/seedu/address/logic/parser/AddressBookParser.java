@@ -23,6 +23,7 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.ExportFreshmenCommand;
 import seedu.address.logic.commands.ExportOglCommand;
+import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
@@ -32,11 +33,14 @@ import seedu.address.logic.commands.ListGroupCommand;
 import seedu.address.logic.commands.ListHouseCommand;
 import seedu.address.logic.commands.ListOglCommand;
 import seedu.address.logic.commands.ListParticipantCommand;
+import seedu.address.logic.commands.LookupCommand;
 import seedu.address.logic.commands.RandomizeCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.SaveChartCommand;
+import seedu.address.logic.commands.SearchCommand;
 import seedu.address.logic.commands.SelectCommand;
 import seedu.address.logic.commands.SizeCommand;
+import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.commands.StatCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.ViewGroupsCommand;
@@ -125,6 +129,18 @@ public class AddressBookParser {
         case FindCommand.COMMAND_WORD:
             return new FindCommandParser().parse(arguments);
 
+        case SearchCommand.COMMAND_WORD:
+            return new SearchCommandParser().parse(arguments);
+
+        case FilterCommand.COMMAND_WORD:
+            return new FilterCommandParser().parse(arguments);
+
+        case SortCommand.COMMAND_WORD:
+            return new SortCommandParser().parse(arguments);
+
+        case LookupCommand.COMMAND_WORD:
+            return new LookupCommandParser().parse(arguments);
+
         case ListCommand.COMMAND_WORD:
             return new ListCommand();
 
@@ -156,7 +172,7 @@ public class AddressBookParser {
             return new RedoCommand();
 
         case RandomizeCommand.COMMAND_WORD:
-            return new RandomizeCommand();
+            return new RandomizeCommandParser().parse(arguments);
 
         case SizeCommand.COMMAND_WORD:
             return new SizeCommand();
@@ -14,5 +14,9 @@ public class CliSyntax {
     public static final Prefix PREFIX_MAJOR = new Prefix("m/");
     public static final Prefix PREFIX_GROUP = new Prefix("g/");
     public static final Prefix PREFIX_TAG = new Prefix("t/");
+    public static final Prefix PREFIX_LIMIT = new Prefix("k/");
+    public static final Prefix PREFIX_DISTANCE = new Prefix("d/");
+    public static final Prefix PREFIX_BUDGET = new Prefix("budget/");
+    public static final Prefix PREFIX_SEED = new Prefix("seed/");
 
 }
@@ -0,0 +1,191 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.query.AndQuery;
+import seedu.address.model.query.Clause;
+import seedu.address.model.query.NotQuery;
+import seedu.address.model.query.OrQuery;
+import seedu.address.model.query.Query;
+
+/**
+ * Parses input arguments and creates a new FilterCommand object.
+ *
+ * The query grammar, in which {@code and} binds tighter than {@code or} and keywords ignore case, is:
+ * <pre>
+ *     query  = and { "or" and }
+ *     and    = unary { "and" unary }
+ *     unary  = "not" unary | "(" query ")" | FIELD OPERATOR VALUE
+ * </pre>
+ */
+public class FilterCommandParser implements Parser<FilterCommand> {
+
+    public static final String MESSAGE_UNKNOWN_FIELD =
+            "Unknown field %1$s. The fields are name, sex, major, group, house, tag and age.";
+    public static final String MESSAGE_UNORDERED_FIELD = "Only age can be compared with <, <=, > and >=.";
+    public static final String MESSAGE_INVALID_AGE = "An age must be a whole number of years.";
+
+    /** The tokens of a query: quoted values, parentheses, operators, and words. */
+    private static final Pattern TOKEN_FORMAT = Pattern.compile("\\s*(\"[^\"]*\"|[()]|!=|<=|>=|[=<>]|[^\\s()=<>!\"]+)");
+
+    private List<String> tokens;
+    private int position;
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FilterCommand
+     * and returns a FilterCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FilterCommand parse(String args) throws ParseException {
+        tokens = tokenize(args.trim());
+        position = 0;
+        if (tokens.isEmpty()) {
+            throw invalidFormat();
+        }
+        Query query = parseOr();
+        if (position < tokens.size()) {
+            throw invalidFormat();
+        }
+        return new FilterCommand(query);
+    }
+
+    private static List<String> tokenize(String args) throws ParseException {
+        List<String> tokens = new ArrayList<>();
+        Matcher matcher = TOKEN_FORMAT.matcher(args);
+        int end = 0;
+        while (end < args.length()) {
+            if (!matcher.find(end) || matcher.start() != end) {
+                throw invalidFormat();
+            }
+            tokens.add(matcher.group(1));
+            end = matcher.end();
+        }
+        return tokens;
+    }
+
+    private Query parseOr() throws ParseException {
+        List<Query> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (nextIsKeyword("or")) {
+            position++;
+            operands.add(parseAnd());
+        }
+        return operands.size() == 1 ? operands.get(0) : new OrQuery(operands);
+    }
+
+    private Query parseAnd() throws ParseException {
+        List<Query> operands = new ArrayList<>();
+        operands.add(parseUnary());
+        while (nextIsKeyword("and")) {
+            position++;
+            operands.add(parseUnary());
+        }
+        return operands.size() == 1 ? operands.get(0) : new AndQuery(operands);
+    }
+
+    private Query parseUnary() throws ParseException {
+        if (nextIsKeyword("not")) {
+            position++;
+            return new NotQuery(parseUnary());
+        }
+        if (nextIsKeyword("(")) {
+            position++;
+            Query query = parseOr();
+            if (!nextIsKeyword(")")) {
+                throw invalidFormat();
+            }
+            position++;
+            return query;
+        }
+        return parseClause();
+    }
+
+    private Query parseClause() throws ParseException {
+        String fieldName = next();
+        Clause.Field field = null;
+        for (Clause.Field candidate : Clause.Field.values()) {
+            if (candidate.getKeyword().equalsIgnoreCase(fieldName)) {
+                field = candidate;
+            }
+        }
+        if (field == null) {
+            throw new ParseException(String.format(MESSAGE_UNKNOWN_FIELD, fieldName));
+        }
+
+        String symbol = next();
+        Clause.Operator operator = null;
+        for (Clause.Operator candidate : Clause.Operator.values()) {
+            if (candidate.getSymbol().equals(symbol)) {
+                operator = candidate;
+            }
+        }
+        if (operator == null) {
+            throw invalidFormat();
+        }
+        if (operator.isOrdering() && !field.isOrdered()) {
+            throw new ParseException(MESSAGE_UNORDERED_FIELD);
+        }
+
+        String value = next();
+        if (value.startsWith("\"")) {
+            value = value.substring(1, value.length() - 1).trim();
+        } else if (!Character.isLetterOrDigit(value.charAt(0))) {
+            throw invalidFormat();
+        }
+        if (value.isEmpty()) {
+            throw invalidFormat();
+        }
+        return new Clause(field, operator, normalise(field, value));
+    }
+
+    /**
+     * Returns {@code value} in the form that {@code field} is stored in.
+     * @throws ParseException if {@code value} is not a valid value of {@code field}
+     */
+    private static String normalise(Clause.Field field, String value) throws ParseException {
+        switch (field) {
+        case SEX:
+            return ParserUtil.parseSex(value).value;
+        case MAJOR:
+            return ParserUtil.parseMajor(value).value;
+        case GROUP:
+            return ParserUtil.parseGroup(value).getGroupName();
+        case HOUSE:
+            return value.substring(0, 1).toUpperCase() + value.substring(1).toLowerCase();
+        case TAG:
+            return ParserUtil.parseTag(value).tagName;
+        case AGE:
+            if (!value.matches("\\d{1,3}")) {
+                throw new ParseException(MESSAGE_INVALID_AGE);
+            }
+            return Integer.toString(Integer.parseInt(value));
+        default:
+            return value;
+        }
+    }
+
+    /**
+     * Returns true if the next token is the unquoted {@code keyword}, ignoring case.
+     */
+    private boolean nextIsKeyword(String keyword) {
+        return position < tokens.size() && tokens.get(position).equalsIgnoreCase(keyword);
+    }
+
+    private String next() throws ParseException {
+        if (position == tokens.size()) {
+            throw invalidFormat();
+        }
+        return tokens.get(position++);
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+    }
+}
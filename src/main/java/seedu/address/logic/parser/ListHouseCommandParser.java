@@ -2,11 +2,8 @@ package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
-import java.util.Arrays;
-
 import seedu.address.logic.commands.ListHouseCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.grouping.FindHousePredicate;
 
 /**
  * Parses input arguments and creates a new ListHouseCommand object
@@ -26,6 +23,6 @@ public class ListHouseCommandParser implements Parser<ListHouseCommand> {
 
         splitArgs[0] = splitArgs[0].substring(0, 1).toUpperCase() + splitArgs[0].substring(1).toLowerCase();
 
-        return new ListHouseCommand(new FindHousePredicate(Arrays.asList(splitArgs[0])), splitArgs[0]);
+        return new ListHouseCommand(splitArgs[0]);
     }
 }
@@ -0,0 +1,30 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.LookupCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new LookupCommand object
+ */
+public class LookupCommandParser implements Parser<LookupCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the LookupCommand
+     * and returns a LookupCommand object for execution. An argument with an '@' is taken as an email, and any other
+     * as a phone.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public LookupCommand parse(String args) throws ParseException {
+        String contact = args.trim();
+        if (contact.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, LookupCommand.MESSAGE_USAGE));
+        }
+
+        return contact.contains("@")
+                ? new LookupCommand(ParserUtil.parseEmail(contact))
+                : new LookupCommand(ParserUtil.parsePhone(contact));
+    }
+
+}
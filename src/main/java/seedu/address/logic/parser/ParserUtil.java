@@ -67,7 +67,7 @@ public class ParserUtil {
         if (!Sex.isValidSex(trimmedSex)) {
             throw new ParseException(Sex.MESSAGE_CONSTRAINTS);
         }
-        return new Sex(trimmedSex);
+        return Sex.of(trimmedSex);
     }
 
     /**
@@ -112,7 +112,7 @@ public class ParserUtil {
         if (!Major.isValidMajor(trimmedMajor)) {
             throw new ParseException(Major.MESSAGE_CONSTRAINTS);
         }
-        return new Major(trimmedMajor);
+        return Major.of(trimmedMajor);
     }
 
     /**
@@ -142,7 +142,7 @@ public class ParserUtil {
         if (!Group.isValidGroup(trimmedGroup)) {
             throw new ParseException(Group.MESSAGE_CONSTRAINTS);
         }
-        return new Group(trimmedGroup);
+        return Group.of(trimmedGroup);
     }
 
     /**
@@ -157,7 +157,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -0,0 +1,82 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BUDGET;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SEED;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.RandomizeCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RandomizeCommand object
+ */
+public class RandomizeCommandParser implements Parser<RandomizeCommand> {
+
+    /** The longest time budget, so that a mistyped budget cannot keep the application busy for long. */
+    public static final Duration MAX_BUDGET = Duration.ofSeconds(60);
+
+    public static final String MESSAGE_INVALID_BUDGET = "The budget should be a whole number of milliseconds or "
+            + "seconds, such as 500ms or 2s, of at most " + MAX_BUDGET.getSeconds() + "s";
+    public static final String MESSAGE_INVALID_SEED = "The seed should be a whole number, as reported by an earlier "
+            + RandomizeCommand.COMMAND_WORD;
+    public static final String MESSAGE_BUDGET_AND_SEED = "A seed makes a single allocation, so it cannot have a budget";
+
+    private static final Pattern BUDGET_FORMAT = Pattern.compile("(?<amount>\\d{1,9})(?<unit>ms|s)?");
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RandomizeCommand
+     * and returns a RandomizeCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RandomizeCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_BUDGET, PREFIX_SEED);
+        String mode = argMultimap.getPreamble().trim().toLowerCase(Locale.ROOT);
+        Optional<String> budget = argMultimap.getValue(PREFIX_BUDGET).map(String::trim);
+        Optional<String> seed = argMultimap.getValue(PREFIX_SEED).map(String::trim);
+        if (mode.equals(RandomizeCommand.INCREMENTAL_KEYWORD) && !budget.isPresent() && !seed.isPresent()) {
+            return RandomizeCommand.incremental();
+        } else if (!mode.isEmpty() && !mode.equals(RandomizeCommand.BALANCED_KEYWORD)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RandomizeCommand.MESSAGE_USAGE));
+        }
+
+        if (budget.isPresent() && seed.isPresent()) {
+            throw new ParseException(MESSAGE_BUDGET_AND_SEED);
+        } else if (seed.isPresent()) {
+            return new RandomizeCommand(parseSeed(seed.get()));
+        } else if (budget.isPresent()) {
+            return new RandomizeCommand(parseBudget(budget.get()));
+        }
+        return mode.isEmpty() ? new RandomizeCommand() : new RandomizeCommand(Duration.ZERO);
+    }
+
+    /**
+     * Parses {@code budget}, a number of milliseconds, or of seconds if followed by s.
+     */
+    private static Duration parseBudget(String budget) throws ParseException {
+        Matcher matcher = BUDGET_FORMAT.matcher(budget.toLowerCase(Locale.ROOT));
+        if (!matcher.matches()) {
+            throw new ParseException(MESSAGE_INVALID_BUDGET);
+        }
+        long amount = Long.parseLong(matcher.group("amount"));
+        Duration parsed = "s".equals(matcher.group("unit")) ? Duration.ofSeconds(amount) : Duration.ofMillis(amount);
+        if (parsed.compareTo(MAX_BUDGET) > 0) {
+            throw new ParseException(MESSAGE_INVALID_BUDGET);
+        }
+        return parsed;
+    }
+
+    private static long parseSeed(String seed) throws ParseException {
+        try {
+            return Long.parseLong(seed);
+        } catch (NumberFormatException nfe) {
+            throw new ParseException(MESSAGE_INVALID_SEED, nfe);
+        }
+    }
+
+}
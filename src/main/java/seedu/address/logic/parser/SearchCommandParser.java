@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new SearchCommand object
+ */
+public class SearchCommandParser implements Parser<SearchCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SearchCommand
+     * and returns a SearchCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SearchCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_LIMIT);
+        String keywords = argMultimap.getPreamble().trim();
+        if (keywords.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+        }
+
+        Optional<String> limit = argMultimap.getValue(PREFIX_LIMIT).map(String::trim);
+        if (limit.isPresent() && !StringUtil.isNonZeroUnsignedInteger(limit.get())) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+        }
+
+        return new SearchCommand(Arrays.asList(keywords.split("\\s+")),
+                limit.map(Integer::parseInt).orElse(SearchCommand.DEFAULT_LIMIT));
+    }
+
+}
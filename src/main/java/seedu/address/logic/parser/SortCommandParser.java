@@ -0,0 +1,60 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.participant.SortKey;
+
+/**
+ * Parses input arguments and creates a new SortCommand object.
+ */
+public class SortCommandParser implements Parser<SortCommand> {
+
+    public static final String MESSAGE_UNKNOWN_FIELD =
+            "Unknown field %1$s. The fields are name, age, birthday, major, group and house.";
+
+    private static final String ASCENDING = "asc";
+    private static final String DESCENDING = "desc";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SortCommand
+     * and returns a SortCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SortCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim().toLowerCase(Locale.ROOT);
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+        }
+        if (trimmedArgs.equals(SortCommand.NO_SORT_KEYWORD)) {
+            return new SortCommand(Collections.emptyList());
+        }
+
+        String[] words = trimmedArgs.split("\\s+");
+        List<SortKey> keys = new ArrayList<>();
+        for (int i = 0; i < words.length; i++) {
+            SortKey.Field field = parseField(words[i]);
+            boolean isAscending = true;
+            if (i + 1 < words.length && (words[i + 1].equals(ASCENDING) || words[i + 1].equals(DESCENDING))) {
+                isAscending = words[++i].equals(ASCENDING);
+            }
+            keys.add(new SortKey(field, isAscending));
+        }
+        return new SortCommand(keys);
+    }
+
+    private static SortKey.Field parseField(String word) throws ParseException {
+        for (SortKey.Field field : SortKey.Field.values()) {
+            if (field.getKeyword().equals(word)) {
+                return field;
+            }
+        }
+        throw new ParseException(String.format(MESSAGE_UNKNOWN_FIELD, word));
+    }
+}
@@ -2,19 +2,35 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import javafx.beans.InvalidationListener;
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
+import javafx.collections.transformation.FilteredList;
+import seedu.address.commons.util.DailyClock;
 import seedu.address.commons.util.InvalidationListenerManager;
 import seedu.address.model.grouping.Group;
 import seedu.address.model.grouping.House;
 import seedu.address.model.grouping.UniqueGroupList;
 import seedu.address.model.grouping.UniqueHouseList;
+import seedu.address.model.participant.Email;
+import seedu.address.model.participant.IndexedNameKeywordsPredicate;
+import seedu.address.model.participant.NameContainsKeywordsPredicate;
 import seedu.address.model.participant.Participant;
+import seedu.address.model.participant.Phone;
+import seedu.address.model.participant.Role;
 import seedu.address.model.participant.UniqueParticipantList;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlan;
 
 /**
  * Wraps all data at the address-book level
@@ -22,14 +38,21 @@ import seedu.address.model.participant.UniqueParticipantList;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
-    private final ObservableMap<String, Integer> ageData = FXCollections.observableHashMap();
-    private final ObservableMap<String, Integer> majorData = FXCollections.observableHashMap();
-    private final ObservableMap<String, Integer> sexData = FXCollections.observableHashMap();
-
     private final UniqueParticipantList participants;
     private final UniqueGroupList groups;
     private final UniqueHouseList houses;
     private final InvalidationListenerManager invalidationListenerManager = new InvalidationListenerManager();
+    private int openBatches = 0;
+    private boolean isModifiedInBatch = false;
+    private boolean isBatchAborted = false;
+
+    private final ParticipantTally ageTally = new ParticipantTally(participant ->
+            participant.getBirthday() == null ? null : participant.getBirthday().getAge(), DailyClock::today);
+    private final ParticipantTally majorTally = new ParticipantTally(participant -> participant.getMajor().value);
+    private final ParticipantTally sexTally = new ParticipantTally(participant ->
+            participant.getSex() == null ? null : participant.getSex().value);
+    private final Map<Role, ObservableList<Participant>> participantsByRole = new EnumMap<>(Role.class);
+    private final ParticipantSearchIndex searchIndex;
 
     /*
     * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
@@ -41,6 +64,16 @@ public class AddressBook implements ReadOnlyAddressBook {
         participants = new UniqueParticipantList();
         groups = new UniqueGroupList();
         houses = new UniqueHouseList();
+
+        participants.asUnmodifiableObservableList().addListener(ageTally);
+        participants.asUnmodifiableObservableList().addListener(majorTally);
+        participants.asUnmodifiableObservableList().addListener(sexTally);
+        searchIndex = new ParticipantSearchIndex(participants.asUnmodifiableObservableList());
+        participants.asUnmodifiableObservableList().addListener(searchIndex);
+        for (Role role : Role.values()) {
+            participantsByRole.put(role, new FilteredList<>(participants.asUnmodifiableObservableList(),
+                    participant -> participant.getRole() == role));
+        }
     }
 
     public AddressBook() {
@@ -64,41 +97,31 @@ public class AddressBook implements ReadOnlyAddressBook {
         indicateModified();
     }
 
-    /**
-     * Add data of a new participant
-     * @param toAdd
-     */
-    public void addData (Participant toAdd) {
-        ageData.put(toAdd.getBirthday().getAge(), (!ageData.containsKey(toAdd.getBirthday().getAge())) ? 1
-                : ageData.get(toAdd.getBirthday().getAge()) + 1);
-        majorData.put(toAdd.getMajor().value, (!majorData.containsKey(toAdd.getMajor().value)) ? 1
-                : majorData.get(toAdd.getMajor().value) + 1);
-        sexData.put(toAdd.getSex().value, (!sexData.containsKey(toAdd.getSex().value)) ? 1
-                : sexData.get(toAdd.getSex().value) + 1);
-    }
-
-    /**
-     * Delete data of a participant
-     */
-    public void deleteData (Participant toDelete) {
-        ageData.put(toDelete.getBirthday().getAge(), ageData.get(toDelete.getBirthday().getAge()) - 1);
-        majorData.put(toDelete.getMajor().value, majorData.get(toDelete.getMajor().value) - 1);
-        sexData.put(toDelete.getSex().value, sexData.get(toDelete.getSex().value) - 1);
-    }
-
     /**
     * Resets the existing data of this {@code AddressBook} with {@code newData}.
     */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setParticipants(newData.getParticipantList());
-        setGroups(newData.getGroupList());
-        setHouses(newData.getHouseList());
-
-        ageData.putAll(newData.getAgeData());
-        majorData.putAll(newData.getMajorData());
-        sexData.putAll(newData.getSexData());
+        if (newData instanceof AddressBook) {
+            // The lists of another AddressBook are already known to be unique, so they need not be validated again.
+            AddressBook trustedData = (AddressBook) newData;
+            participants.setParticipants(trustedData.participants);
+            groups.setGroup(trustedData.groups);
+            houses.setHouses(trustedData.houses);
+            indicateModified();
+        } else if (newData instanceof AddressBookSnapshot) {
+            // A snapshot is always taken from an AddressBook, so its lists are unique as well.
+            AddressBookSnapshot snapshot = (AddressBookSnapshot) newData;
+            participants.setUniqueParticipants(snapshot.getParticipants().toList());
+            groups.setUniqueGroups(snapshot.getGroups().toList());
+            houses.setUniqueHouses(snapshot.getHouses().toList());
+            indicateModified();
+        } else {
+            setParticipants(newData.getParticipantList());
+            setGroups(newData.getGroupList());
+            setHouses(newData.getHouseList());
+        }
     }
 
     /**
@@ -160,6 +183,129 @@ public class AddressBook implements ReadOnlyAddressBook {
         indicateModified();
     }
 
+    /**
+     * Returns the participants in the group named {@code groupName}.
+     */
+    public List<Participant> getParticipantsInGroup(String groupName) {
+        return participants.getParticipantsInGroup(groupName);
+    }
+
+    /**
+     * Returns the participants in a group of the house named {@code houseName}, group by group.
+     */
+    public List<Participant> getParticipantsInHouse(String houseName) {
+        List<Participant> members = new ArrayList<>();
+        for (Group group : groups.getGroupsInHouse(houseName)) {
+            members.addAll(participants.getParticipantsInGroup(group.getGroupName()));
+        }
+        return members;
+    }
+
+    /**
+     * Returns true if any participant is in the group named {@code groupName}.
+     */
+    public boolean hasParticipantsInGroup(String groupName) {
+        return participants.hasParticipantsInGroup(groupName);
+    }
+
+    /**
+     * Starts or stops indexing the participants by the words of their names, which name searches are answered from.
+     */
+    public void setNameIndexEnabled(boolean isEnabled) {
+        participants.setNameIndexEnabled(isEnabled);
+    }
+
+    /**
+     * Returns a predicate that tests whether a participant's name has any of {@code keywords} as a word, ignoring
+     * case. It is answered from the name index if that is enabled.
+     */
+    public Predicate<Participant> getNameKeywordsPredicate(List<String> keywords) {
+        requireNonNull(keywords);
+        return participants.isNameIndexEnabled()
+                ? new IndexedNameKeywordsPredicate(participants, keywords)
+                : new NameContainsKeywordsPredicate(keywords);
+    }
+
+    /**
+     * Returns a predicate that tests whether a participant's name has, as a word, one of the name words closest to
+     * any of {@code keywords} that are within {@code maxDistance} single character edits of it, ignoring case.
+     * The closest words are those in the names when this is called.
+     */
+    public Predicate<Participant> getFuzzyNameKeywordsPredicate(List<String> keywords, int maxDistance) {
+        requireNonNull(keywords);
+        List<String> lowerCaseKeywords = keywords.stream()
+                .map(keyword -> keyword.trim().toLowerCase(Locale.ROOT))
+                .collect(Collectors.toList());
+        return getNameKeywordsPredicate(new ArrayList<>(participants.closestNameWords(lowerCaseKeywords, maxDistance)));
+    }
+
+    /**
+     * Returns at most {@code limit} participants matching any of the words of {@code keywords}, best match first.
+     * The words are looked for in the participants' names, emails, phones, majors, groups, houses and tags.
+     */
+    public List<Participant> searchParticipants(List<String> keywords, int limit) {
+        requireNonNull(keywords);
+        return searchIndex.search(keywords, limit, word -> {
+            List<String> groupNames = new ArrayList<>();
+            for (House house : houses) {
+                if (ParticipantSearchIndex.toWords(house.getHouseName()).contains(word)) {
+                    groups.getGroupsInHouse(house.getHouseName())
+                            .forEach(group -> groupNames.add(group.getGroupName()));
+                }
+            }
+            return groupNames;
+        });
+    }
+
+    /**
+     * Returns the participants whose phone has the same number as {@code phone}, in no particular order.
+     */
+    public Set<Participant> getParticipantsWithPhone(Phone phone) {
+        requireNonNull(phone);
+        return participants.getParticipantsWithPhone(phone);
+    }
+
+    /**
+     * Returns the participants whose email is {@code email}, ignoring case, in no particular order.
+     */
+    public Set<Participant> getParticipantsWithEmail(Email email) {
+        requireNonNull(email);
+        return participants.getParticipantsWithEmail(email);
+    }
+
+    /**
+     * Returns a plan for finding the participants that match {@code query}, which checks the most selective parts of
+     * the query first and takes the matches from indexes where it can.
+     */
+    public QueryPlan planQuery(Query query) {
+        requireNonNull(query);
+        return new QueryPlanner(this).plan(query);
+    }
+
+    /**
+     * Returns an unmodifiable view of the participants with {@code lowerCaseWord} as a word of their names, or an
+     * empty Optional if the name index is disabled.
+     */
+    Optional<Set<Participant>> findNameWordMembers(String lowerCaseWord) {
+        return participants.findNameWordMembers(lowerCaseWord);
+    }
+
+    /**
+     * Returns an unmodifiable view of the participants in the group named {@code groupName}, in no particular order.
+     */
+    Set<Participant> getGroupMembers(String groupName) {
+        return participants.getGroupMembers(groupName);
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the participants with {@code role}, in list order.
+     * The view is kept up to date from the change events of the participant list, like the participant list itself.
+     */
+    public ObservableList<Participant> getParticipantsWithRole(Role role) {
+        requireNonNull(role);
+        return participantsByRole.get(role);
+    }
+
     //// group-level operations
 
     /**
@@ -207,6 +353,20 @@ public class AddressBook implements ReadOnlyAddressBook {
         return this.groups.getGroup(group);
     }
 
+    /**
+     * Returns the group named {@code groupName}, if it exists in the address book.
+     */
+    public Optional<Group> findGroup(String groupName) {
+        return groups.findByName(groupName);
+    }
+
+    /**
+     * Returns the groups in the house named {@code houseName}.
+     */
+    public List<Group> getGroupsInHouse(String houseName) {
+        return groups.getGroupsInHouse(houseName);
+    }
+
     //// house-level operations
     /**
      * Returns true if a house with the same identity as {@code house} exists in the address book.
@@ -216,6 +376,13 @@ public class AddressBook implements ReadOnlyAddressBook {
         return houses.contains(house);
     }
 
+    /**
+     * Returns the house named {@code houseName}, if it exists in the address book.
+     */
+    public Optional<House> findHouse(String houseName) {
+        return houses.findByName(houseName);
+    }
+
     /**
      * Adds a house to the address book.
      * The house must not already exist in the address book.
@@ -246,6 +413,98 @@ public class AddressBook implements ReadOnlyAddressBook {
         indicateModified();
     }
 
+    //// batch operations
+
+    /**
+     * Starts a batch of changes. Until the matching {@link #endBatch()}, changes are buffered: they are visible to the
+     * methods of this address book, but the observable lists keep showing the data as it was when the batch began,
+     * and listeners are not notified. Batches may be nested; only the outermost batch takes effect.
+     * A batch that is ended with {@link #abortBatch()} instead drops all its changes.
+     */
+    public void beginBatch() {
+        if (openBatches++ == 0) {
+            participants.beginBatch();
+            groups.beginBatch();
+            houses.beginBatch();
+        }
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}.
+     * At the end of the outermost batch, each list that was changed is updated with a single change, and listeners
+     * are notified once.
+     */
+    public void endBatch() {
+        if (openBatches == 0) {
+            throw new IllegalStateException("There is no batch to end.");
+        }
+        if (--openBatches > 0) {
+            return;
+        }
+
+        if (isBatchAborted) {
+            isBatchAborted = false;
+            isModifiedInBatch = false;
+            participants.abortBatch();
+            groups.abortBatch();
+            houses.abortBatch();
+            return;
+        }
+        participants.endBatch();
+        groups.endBatch();
+        houses.endBatch();
+        if (isModifiedInBatch) {
+            isModifiedInBatch = false;
+            indicateModified();
+        }
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}, dropping its changes.
+     * The changes of a nested batch cannot be told apart from those of the batches around it, so the outermost batch
+     * drops all its changes when it ends, and listeners are not notified.
+     */
+    public void abortBatch() {
+        if (openBatches == 0) {
+            throw new IllegalStateException("There is no batch to abort.");
+        }
+        isBatchAborted = true;
+        endBatch();
+    }
+
+    public boolean isInBatch() {
+        return openBatches > 0;
+    }
+
+    //// history replay operations
+
+    /**
+     * Replaces the participants in {@code [from, to)} with {@code replacement}.
+     * The resulting participant list must be one this address book has held before, so it is not validated again.
+     */
+    void spliceParticipants(int from, int to, List<Participant> replacement) {
+        participants.spliceUnique(from, to, replacement);
+        indicateModified();
+    }
+
+    /**
+     * Replaces the groups in {@code [from, to)} with {@code replacement}.
+     * The resulting group list must be one this address book has held before, so it is not validated again.
+     */
+    void spliceGroups(int from, int to, List<Group> replacement) {
+        groups.spliceUnique(from, to, replacement);
+        indicateModified();
+    }
+
+    /**
+     * Replaces the houses in {@code [from, to)} with {@code replacement}.
+     * The resulting house list must be one this address book has held before, so it is not validated again.
+     */
+    void spliceHouses(int from, int to, List<House> replacement) {
+        houses.spliceUnique(from, to, replacement);
+        indicateModified();
+    }
+
     @Override
     public void addListener(InvalidationListener listener) {
         invalidationListenerManager.addListener(listener);
@@ -257,57 +516,33 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Notifies listeners that the address book has been modified.
+     * Notifies listeners that the address book has been modified, or, during a batch, once the batch ends.
      */
     protected void indicateModified() {
+        if (isInBatch()) {
+            isModifiedInBatch = true;
+            return;
+        }
         invalidationListenerManager.callListeners(this);
     }
 
     //// util methods
 
+    @Override
     public ObservableMap<String, Integer> getAgeData() {
-        ageData.clear();
-        ObservableMap<String, Integer> rawData = FXCollections.observableHashMap();
-        for (Participant p : participants) {
-            String key = p.getBirthday().getAge();
-            Integer value = (rawData.containsKey(key)) ? (rawData.get(key) + 1) : (1);
-            rawData.put(key, value);
-        }
-
-        for (String key : rawData.keySet()) {
-            ageData.put(key + " (" + rawData.get(key) + ")", rawData.get(key));
-        }
-        return FXCollections.observableMap(ageData);
+        // Ages go up as days go by, not only as participants change
+        ageTally.recountIfStale(participants.asUnmodifiableObservableList());
+        return ageTally.asUnmodifiableObservableMap();
     }
 
+    @Override
     public ObservableMap<String, Integer> getMajorData() {
-        majorData.clear();
-        ObservableMap<String, Integer> rawData = FXCollections.observableHashMap();
-        for (Participant p : participants) {
-            String key = p.getMajor().value;
-            Integer value = (rawData.containsKey(key)) ? (rawData.get(key) + 1) : (1);
-            rawData.put(key, value);
-        }
-
-        for (String key : rawData.keySet()) {
-            majorData.put(key + " (" + rawData.get(key) + ")", rawData.get(key));
-        }
-        return FXCollections.unmodifiableObservableMap(majorData);
+        return majorTally.asUnmodifiableObservableMap();
     }
 
+    @Override
     public ObservableMap<String, Integer> getSexData() {
-        sexData.clear();
-        ObservableMap<String, Integer> rawData = FXCollections.observableHashMap();
-        for (Participant p : participants) {
-            String key = p.getSex().value;
-            Integer value = (rawData.containsKey(key)) ? (rawData.get(key) + 1) : (1);
-            rawData.put(key, value);
-        }
-
-        for (String key : rawData.keySet()) {
-            sexData.put(key + " (" + rawData.get(key) + ")", rawData.get(key));
-        }
-        return FXCollections.unmodifiableObservableMap(sexData);
+        return sexTally.asUnmodifiableObservableMap();
     }
 
     @Override
@@ -0,0 +1,121 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.function.Function;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.grouping.Group;
+import seedu.address.model.grouping.House;
+import seedu.address.model.participant.Participant;
+
+/**
+ * An immutable state of an address book, as saved by {@code VersionedAddressBook}.
+ * The lists are {@code PersistentList}s, so consecutive snapshots share everything that did not change between them.
+ * The lists are only ever taken from an {@code AddressBook}, so they are known to contain no duplicates.
+ */
+final class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final PersistentList<Participant> participants;
+    private final PersistentList<Group> groups;
+    private final PersistentList<House> houses;
+
+    AddressBookSnapshot(PersistentList<Participant> participants, PersistentList<Group> groups,
+                        PersistentList<House> houses) {
+        requireAllNonNull(participants, groups, houses);
+        this.participants = participants;
+        this.groups = groups;
+        this.houses = houses;
+    }
+
+    /**
+     * Returns a snapshot of the current contents of {@code addressBook}.
+     */
+    static AddressBookSnapshot of(ReadOnlyAddressBook addressBook) {
+        return new AddressBookSnapshot(PersistentList.copyOf(addressBook.getParticipantList()),
+                PersistentList.copyOf(addressBook.getGroupList()), PersistentList.copyOf(addressBook.getHouseList()));
+    }
+
+    PersistentList<Participant> getParticipants() {
+        return participants;
+    }
+
+    PersistentList<Group> getGroups() {
+        return groups;
+    }
+
+    PersistentList<House> getHouses() {
+        return houses;
+    }
+
+    @Override
+    public ObservableList<Participant> getParticipantList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(participants.toList()));
+    }
+
+    @Override
+    public ObservableList<Group> getGroupList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(groups.toList()));
+    }
+
+    @Override
+    public ObservableList<House> getHouseList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(houses.toList()));
+    }
+
+    @Override
+    public ObservableMap<String, Integer> getAgeData() {
+        return tally(participant -> participant.getBirthday() == null ? null : participant.getBirthday().getAge());
+    }
+
+    @Override
+    public ObservableMap<String, Integer> getMajorData() {
+        return tally(participant -> participant.getMajor().value);
+    }
+
+    @Override
+    public ObservableMap<String, Integer> getSexData() {
+        return tally(participant -> participant.getSex() == null ? null : participant.getSex().value);
+    }
+
+    /**
+     * Counts the participants by the value of {@code field}, in the same format as {@code AddressBook}.
+     * A snapshot never changes, so the counts are worked out once per call instead of being kept up to date.
+     */
+    private ObservableMap<String, Integer> tally(Function<Participant, String> field) {
+        ObservableMap<String, Integer> counts = FXCollections.observableHashMap();
+        for (Participant participant : participants) {
+            String value = field.apply(participant);
+            if (value != null) {
+                counts.merge(value, 1, Integer::sum);
+            }
+        }
+        return FXCollections.unmodifiableObservableMap(counts);
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        // a snapshot never changes, so there is nothing to listen to
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        // a snapshot never changes, so there is nothing to listen to
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AddressBookSnapshot // instanceof handles nulls
+                && participants.equals(((AddressBookSnapshot) other).participants));
+    }
+
+    @Override
+    public int hashCode() {
+        return participants.hashCode();
+    }
+}
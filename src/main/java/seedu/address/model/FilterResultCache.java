@@ -0,0 +1,164 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.transformation.FilteredList;
+import seedu.address.model.participant.Participant;
+import seedu.address.model.participant.ThreadSafeParticipantPredicate;
+
+/**
+ * Remembers which participants matched the last few predicates a {@code FilteredList} of participants was filtered
+ * by, so that filtering it again by an equal predicate reads back each answer instead of testing the participant.
+ *
+ * The results are only reused while the address book is at the version they were taken at; the version moves on
+ * whenever its participant, group or house lists change, and the results of older versions are dropped then, so that
+ * they do not keep replaced or removed participants alive. This cache must be registered as a listener of those lists
+ * before the filtered list is, so that the version has moved on by the time the filtered list tests a changed
+ * participant.
+ *
+ * Once there are enough participants, a {@link ThreadSafeParticipantPredicate} that has no answers cached is tested
+ * against a snapshot of the participants on the common fork-join pool first. The filtered list then reads the
+ * answers back in one pass on the calling thread, and changes in one event as usual.
+ */
+final class FilterResultCache implements ListChangeListener<Object> {
+
+    /** How many predicates the results are kept for; the least recently used are forgotten first. */
+    static final int CAPACITY = 8;
+
+    private final Map<Predicate<? super Participant>, CachedFilter> filters =
+            new LinkedHashMap<Predicate<? super Participant>, CachedFilter>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Predicate<? super Participant>, CachedFilter> eldest) {
+                    return size() > CAPACITY;
+                }
+            };
+    private final int parallelThreshold;
+    private int version = 0;
+
+    /**
+     * Creates a cache that works out the answers of thread safe predicates in parallel once there are at least
+     * {@code parallelThreshold} participants.
+     */
+    FilterResultCache(int parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    @Override
+    public void onChanged(Change<?> change) {
+        version++;
+        // the predicate the filtered list holds may be one of these, so it keeps working but forgets its answers
+        filters.values().forEach(CachedFilter::forget);
+        filters.clear();
+    }
+
+    /**
+     * Filters {@code participants} by {@code predicate}, using the participants that matched an equal predicate
+     * at the current version if there are any.
+     */
+    void filter(FilteredList<Participant> participants, Predicate<? super Participant> predicate) {
+        requireNonNull(participants);
+        requireNonNull(predicate);
+        CachedFilter filter = filters.get(predicate);
+        if (filter == null) {
+            filter = new CachedFilter(predicate, version);
+            filters.put(predicate, filter);
+            if (predicate instanceof ThreadSafeParticipantPredicate
+                    && participants.getSource().size() >= parallelThreshold) {
+                filter.recordInParallel(participants.getSource().toArray(new Participant[0]));
+            }
+        }
+        // the first time a filter is set, the filtered list tests every participant in order and the answers are
+        // recorded; after that they are replayed in the same order
+        filter.rewind();
+        participants.setPredicate(filter);
+        filter.isComplete = true;
+    }
+
+    /**
+     * A predicate that records whether each participant it tests matches at one version, and replays the answers
+     * when the participants are tested again in the same order at that version. The filtered list tests all the
+     * participants in order whenever its predicate is set, so a participant is only tested with the original
+     * predicate if it was not recorded at that position, or at any later version.
+     */
+    private final class CachedFilter implements Predicate<Participant> {
+        private final Predicate<? super Participant> predicate;
+        private final int version;
+        private Participant[] tested = new Participant[16];
+        private final BitSet matches = new BitSet();
+        private int size = 0;
+        private int replayed = 0;
+        private boolean isComplete = false;
+
+        CachedFilter(Predicate<? super Participant> predicate, int version) {
+            this.predicate = predicate;
+            this.version = version;
+        }
+
+        /**
+         * Starts replaying the answers from the first participant.
+         */
+        void rewind() {
+            replayed = 0;
+        }
+
+        /**
+         * Drops the recorded answers, which are of an older version and will not be replayed again.
+         */
+        void forget() {
+            tested = new Participant[0];
+            matches.clear();
+            size = 0;
+        }
+
+        /**
+         * Records the answers for {@code snapshot}, the participants in the order the filtered list will test them,
+         * testing blocks of them on several threads.
+         */
+        void recordInParallel(Participant[] snapshot) {
+            long[] words = new long[(snapshot.length + Long.SIZE - 1) / Long.SIZE];
+            // each block of participants sets the bits of one word, so no two threads write to the same word
+            IntStream.range(0, words.length).parallel().forEach(word -> {
+                long bits = 0L;
+                int end = Math.min(snapshot.length, (word + 1) * Long.SIZE);
+                for (int i = word * Long.SIZE; i < end; i++) {
+                    if (predicate.test(snapshot[i])) {
+                        bits |= 1L << (i % Long.SIZE);
+                    }
+                }
+                words[word] = bits;
+            });
+            tested = snapshot;
+            size = snapshot.length;
+            matches.or(BitSet.valueOf(words));
+            isComplete = true;
+        }
+
+        @Override
+        public boolean test(Participant participant) {
+            if (version != FilterResultCache.this.version) {
+                return predicate.test(participant);
+            }
+            if (isComplete) {
+                if (replayed < size && tested[replayed] == participant) {
+                    return matches.get(replayed++);
+                }
+                return predicate.test(participant);
+            }
+            boolean isMatch = predicate.test(participant);
+            if (size == tested.length) {
+                tested = Arrays.copyOf(tested, size * 2);
+            }
+            tested[size] = participant;
+            matches.set(size++, isMatch);
+            return isMatch;
+        }
+    }
+}
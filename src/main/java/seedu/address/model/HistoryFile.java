@@ -0,0 +1,231 @@
+package seedu.address.model;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.grouping.Group;
+import seedu.address.model.grouping.House;
+import seedu.address.model.participant.Birthday;
+import seedu.address.model.participant.Email;
+import seedu.address.model.participant.Major;
+import seedu.address.model.participant.Name;
+import seedu.address.model.participant.Participant;
+import seedu.address.model.participant.Phone;
+import seedu.address.model.participant.Sex;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A file that saved address book states are spilled to when the undo history outgrows its memory budget.
+ * Each state is appended once, as a deflate-compressed record, and read back when the user undoes or redoes that far.
+ * The file is a temporary file, created on the first spill and deleted when the application exits, or as soon as no
+ * record in it is needed any more. The records of forgotten states stay in the file until it is compacted.
+ */
+final class HistoryFile {
+
+    private Path path;
+    private long size = 0;
+
+    /**
+     * Returns the number of bytes in the file, including the records that are no longer needed.
+     */
+    long size() {
+        return size;
+    }
+
+    /**
+     * Appends {@code state} to the file and returns the position to read it back from.
+     * The record takes up the bytes from that position to the new {@link #size()}.
+     */
+    long write(AddressBookSnapshot state) throws IOException {
+        if (path == null) {
+            path = createFile();
+        }
+
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(record))) {
+            writeState(out, state);
+        }
+
+        long position = size;
+        try (DataOutputStream file = new DataOutputStream(Files.newOutputStream(path, StandardOpenOption.APPEND))) {
+            file.writeInt(record.size());
+            record.writeTo(file);
+        }
+        size += Integer.BYTES + record.size();
+        return position;
+    }
+
+    /**
+     * Reads back the state written at {@code position}.
+     */
+    AddressBookSnapshot read(long position) throws IOException {
+        byte[] record;
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "r")) {
+            file.seek(position);
+            record = new byte[file.readInt()];
+            file.readFully(record);
+        }
+
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(record)))) {
+            return readState(in);
+        }
+    }
+
+    /**
+     * Rewrites the file with only the records at {@code positions}, in that order, and returns the position each of
+     * them can be read back from afterwards. Deletes the file if there are no records to keep.
+     * If the file cannot be rewritten, it is left as it was.
+     */
+    long[] compact(long[] positions) throws IOException {
+        if (positions.length == 0) {
+            delete();
+            return positions;
+        }
+
+        Path compacted = createFile();
+        long[] newPositions = new long[positions.length];
+        long newSize = 0;
+        try (RandomAccessFile in = new RandomAccessFile(path.toFile(), "r");
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(compacted)))) {
+            for (int i = 0; i < positions.length; i++) {
+                in.seek(positions[i]);
+                byte[] record = new byte[in.readInt()];
+                in.readFully(record);
+                out.writeInt(record.length);
+                out.write(record);
+                newPositions[i] = newSize;
+                newSize += Integer.BYTES + record.length;
+            }
+        } catch (IOException ioe) {
+            Files.deleteIfExists(compacted);
+            throw ioe;
+        }
+
+        Files.delete(path);
+        path = compacted;
+        size = newSize;
+        return newPositions;
+    }
+
+    /**
+     * Deletes the file, if it has been created. The next record written starts a new file.
+     */
+    void delete() throws IOException {
+        if (path != null) {
+            Files.deleteIfExists(path);
+            path = null;
+            size = 0;
+        }
+    }
+
+    private static Path createFile() throws IOException {
+        Path file = Files.createTempFile("addressbook", ".history");
+        file.toFile().deleteOnExit();
+        return file;
+    }
+
+    //// record format
+
+    private static void writeState(DataOutputStream out, AddressBookSnapshot state) throws IOException {
+        out.writeInt(state.getParticipants().size());
+        for (Participant participant : state.getParticipants()) {
+            writeParticipant(out, participant);
+        }
+        out.writeInt(state.getGroups().size());
+        for (Group group : state.getGroups()) {
+            writeGroup(out, group);
+        }
+        out.writeInt(state.getHouses().size());
+        for (House house : state.getHouses()) {
+            out.writeUTF(house.getHouseName());
+        }
+    }
+
+    private static AddressBookSnapshot readState(DataInputStream in) throws IOException {
+        List<Participant> participants = new ArrayList<>();
+        for (int i = in.readInt(); i > 0; i--) {
+            participants.add(readParticipant(in));
+        }
+        List<Group> groups = new ArrayList<>();
+        for (int i = in.readInt(); i > 0; i--) {
+            groups.add(readGroup(in));
+        }
+        List<House> houses = new ArrayList<>();
+        for (int i = in.readInt(); i > 0; i--) {
+            houses.add(new House(in.readUTF()));
+        }
+        return new AddressBookSnapshot(PersistentList.copyOf(participants), PersistentList.copyOf(groups),
+                PersistentList.copyOf(houses));
+    }
+
+    /**
+     * Writes the fields of {@code participant} in the form they are validated in, like the storage adapters do.
+     */
+    private static void writeParticipant(DataOutputStream out, Participant participant) throws IOException {
+        out.writeUTF(participant.getName().fullName);
+        writeNullable(out, participant.getSex() == null ? null : participant.getSex().value);
+        writeNullable(out, participant.getBirthday() == null ? null : participant.getBirthday().value);
+        out.writeUTF(participant.getPhone().value);
+        out.writeUTF(participant.getEmail().value);
+        out.writeUTF(participant.getMajor().value);
+        out.writeBoolean(participant.getGroup() != null);
+        if (participant.getGroup() != null) {
+            writeGroup(out, participant.getGroup());
+        }
+        out.writeInt(participant.getTags().size());
+        for (Tag tag : participant.getTags()) {
+            out.writeUTF(tag.tagName);
+        }
+    }
+
+    private static Participant readParticipant(DataInputStream in) throws IOException {
+        Name name = new Name(in.readUTF());
+        String sex = readNullable(in);
+        String birthday = readNullable(in);
+        Phone phone = new Phone(in.readUTF());
+        Email email = new Email(in.readUTF());
+        Major major = Major.of(in.readUTF());
+        Group group = in.readBoolean() ? readGroup(in) : null;
+        Set<Tag> tags = new HashSet<>();
+        for (int i = in.readInt(); i > 0; i--) {
+            tags.add(Tag.of(in.readUTF()));
+        }
+        return new Participant(name, sex == null ? null : Sex.of(sex),
+                birthday == null ? null : new Birthday(birthday), phone, email, major, group, tags);
+    }
+
+    private static void writeGroup(DataOutputStream out, Group group) throws IOException {
+        out.writeUTF(group.getGroupName());
+        writeNullable(out, group.getHouseName());
+    }
+
+    private static Group readGroup(DataInputStream in) throws IOException {
+        return new Group(in.readUTF(), readNullable(in));
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.util.PersistentList;
+
+/**
+ * A primitive modification of a list: the elements {@code removed} at index {@code from} were replaced by the
+ * elements {@code added}. A single add, remove or set is a delta with at most one element on each side.
+ * Deltas record enough to be applied in either direction, so a committed change can be undone and redone in place.
+ */
+final class ListDelta<E> {
+
+    private final int from;
+    private final List<E> removed;
+    private final List<E> added;
+
+    private ListDelta(int from, List<E> removed, List<E> added) {
+        this.from = from;
+        this.removed = removed;
+        this.added = added;
+    }
+
+    /**
+     * Returns the deltas described by {@code change}, in the order they were made, or an empty {@code Optional} if
+     * {@code change} reorders the list or replaces all of it.
+     * Such changes are cheaper to restore from a saved state than to replay.
+     */
+    static <E> Optional<List<ListDelta<E>>> of(ListChangeListener.Change<? extends E> change) {
+        List<ListDelta<E>> deltas = new ArrayList<>();
+        int size = change.getList().size();
+        while (change.next()) {
+            if (change.wasPermutated() || (change.getRemovedSize() > 0 && change.getAddedSize() == size)) {
+                return Optional.empty();
+            }
+            if (change.wasAdded() || change.wasRemoved()) {
+                List<E> removed = new ArrayList<>(change.getRemoved());
+                List<E> added = new ArrayList<>(change.getAddedSubList());
+                deltas.add(new ListDelta<>(change.getFrom(), Collections.unmodifiableList(removed),
+                        Collections.unmodifiableList(added)));
+            }
+        }
+        return Optional.of(deltas);
+    }
+
+    /**
+     * Returns the number of elements removed and added by this delta.
+     */
+    int size() {
+        return removed.size() + added.size();
+    }
+
+    /**
+     * Returns {@code list} with this delta applied to it.
+     */
+    PersistentList<E> applyTo(PersistentList<E> list) {
+        PersistentList<E> updated = list;
+        int replaced = Math.min(removed.size(), added.size());
+        for (int i = 0; i < replaced; i++) {
+            updated = updated.with(from + i, added.get(i));
+        }
+        for (int i = replaced; i < removed.size(); i++) {
+            updated = updated.minus(from + replaced);
+        }
+        for (int i = replaced; i < added.size(); i++) {
+            updated = updated.plus(from + i, added.get(i));
+        }
+        return updated;
+    }
+
+    /**
+     * Makes the change recorded by this delta again on {@code target}.
+     */
+    void redo(Target<E> target) {
+        target.splice(from, from + removed.size(), added);
+    }
+
+    /**
+     * Reverts the change recorded by this delta on {@code target}.
+     */
+    void undo(Target<E> target) {
+        target.splice(from, from + added.size(), removed);
+    }
+
+    /**
+     * A list that deltas can be replayed on.
+     */
+    @FunctionalInterface
+    interface Target<E> {
+        /**
+         * Replaces the elements in {@code [from, to)} with {@code replacement}.
+         */
+        void splice(int from, int to, List<E> replacement);
+    }
+}
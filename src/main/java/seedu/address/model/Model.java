@@ -1,6 +1,9 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.beans.property.ReadOnlyProperty;
@@ -9,7 +12,13 @@ import javafx.collections.ObservableMap;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.grouping.Group;
 import seedu.address.model.grouping.House;
+import seedu.address.model.participant.Email;
 import seedu.address.model.participant.Participant;
+import seedu.address.model.participant.Phone;
+import seedu.address.model.participant.Role;
+import seedu.address.model.participant.SortKey;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlan;
 
 /**
  * The API of the Model component.
@@ -116,15 +125,80 @@ public interface Model {
      */
     void setParticipant(Participant target, Participant editedParticipant);
 
+    /**
+     * Returns the participants in the group named {@code groupName}.
+     */
+    List<Participant> getParticipantsInGroup(String groupName);
+
+    /**
+     * Returns the participants in a group of the house named {@code houseName}.
+     */
+    List<Participant> getParticipantsInHouse(String houseName);
+
+    /**
+     * Returns true if any participant is in the group named {@code groupName}.
+     */
+    boolean hasParticipantsInGroup(String groupName);
+
+    /**
+     * Returns an unmodifiable view of the participants with {@code role}, which is kept up to date.
+     */
+    ObservableList<Participant> getParticipantsWithRole(Role role);
+
+    /**
+     * Returns a predicate that tests whether a participant's name has any of {@code keywords} as a word, ignoring
+     * case. It is answered from an index of the words in participant names if the search settings enable one.
+     */
+    Predicate<Participant> getNameKeywordsPredicate(List<String> keywords);
+
+    /**
+     * Returns a predicate that tests whether a participant's name has, as a word, one of the name words closest to
+     * any of {@code keywords} that are within {@code maxDistance} single character edits of it, ignoring case.
+     */
+    Predicate<Participant> getFuzzyNameKeywordsPredicate(List<String> keywords, int maxDistance);
+
+    /**
+     * Returns a plan for finding the participants that match {@code query}, which checks the most selective parts of
+     * the query first and takes the matches from indexes where it can.
+     */
+    QueryPlan planQuery(Query query);
+
+    /**
+     * Returns at most {@code limit} participants matching any of the words of {@code keywords} in any of their details,
+     * best match first.
+     */
+    List<Participant> searchParticipants(List<String> keywords, int limit);
+
+    /**
+     * Returns the participants whose phone has the same number as {@code phone}, ignoring any leading '+', in no
+     * particular order. They are looked up in a hash index, without checking the other participants.
+     */
+    Set<Participant> getParticipantsWithPhone(Phone phone);
+
+    /**
+     * Returns the participants whose email is {@code email}, ignoring case, in no particular order. They are looked
+     * up in a hash index, without checking the other participants.
+     */
+    Set<Participant> getParticipantsWithEmail(Email email);
+
     /** Returns an unmodifiable view of the filtered participant list */
     ObservableList<Participant> getFilteredParticipantList();
 
     /**
      * Updates the filter of the filtered participant list to filter by the given {@code predicate}.
+     * The participants that matched the last few predicates are remembered until the address book changes, so
+     * predicates that are equal must match the same participants of an unchanged address book.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredParticipantList(Predicate<Participant> predicate);
 
+    /**
+     * Sorts the filtered participant list by {@code keys}, the first key first, and keeps it sorted as participants
+     * change. Puts the list back in the order the participants were added in if there are no keys.
+     * @throws NullPointerException if {@code keys} is null.
+     */
+    void sortFilteredParticipantList(List<SortKey> keys);
+
     // ================ Undo/Redo functions ======================
     /** Returns an unmodifiable view of the undo list */
     ObservableList<String> getUndoList();
@@ -154,9 +228,30 @@ public interface Model {
 
     /**
      * Saves the current address book state for undo/redo.
+     * During a batch, the state is saved once the batch ends.
      */
     void commitAddressBook();
 
+    /**
+     * Starts buffering changes to the address book, until the matching {@code endBatch()}.
+     * Queries such as {@code hasParticipant} see the buffered changes, but the observable lists keep showing the
+     * address book as it was when the batch began.
+     * A batch ended with {@code abortBatch()} instead leaves the address book as it was when the batch began.
+     */
+    void beginBatch();
+
+    /**
+     * Applies the changes buffered since the matching {@code beginBatch()} as a single change per list, notifies
+     * listeners once and makes any commit requested during the batch.
+     */
+    void endBatch();
+
+    /**
+     * Drops the changes buffered since the matching {@code beginBatch()}, and any commit requested during the batch,
+     * as when a change in the batch fails. If the batch is nested, the outermost batch drops all its changes.
+     */
+    void abortBatch();
+
     /**
      * Selected participant in the filtered participant list.
      * null if no participant is selected.
@@ -199,8 +294,21 @@ public interface Model {
      */
     void setGroup(Group target, Group editedGroup);
 
+    /**
+     * Returns the group in the address book with the same name as {@code toGet}, or {@code toGet} if there is none.
+     */
     Group getGroup(Group toGet);
 
+    /**
+     * Returns the group named {@code groupName}, if it exists in the address book.
+     */
+    Optional<Group> findGroup(String groupName);
+
+    /**
+     * Returns the groups in the house named {@code houseName}.
+     */
+    List<Group> getGroupsInHouse(String houseName);
+
     /** Returns an unmodifiable view of the filtered group list */
     ObservableList<Group> getFilteredGroupList();
 
@@ -221,6 +329,11 @@ public interface Model {
      */
     House getHouse(House house);
 
+    /**
+     * Returns the house named {@code houseName}, if it exists in the address book.
+     */
+    Optional<House> findHouse(String houseName);
+
     /**
      * Returns true if a house with the same identity as {@code house} exists in the address book.
      */
@@ -4,7 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -17,10 +20,17 @@ import javafx.collections.ObservableMap;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.DailyClock;
 import seedu.address.model.grouping.Group;
 import seedu.address.model.grouping.House;
+import seedu.address.model.participant.Email;
 import seedu.address.model.participant.Participant;
+import seedu.address.model.participant.Phone;
+import seedu.address.model.participant.Role;
+import seedu.address.model.participant.SortKey;
 import seedu.address.model.participant.exceptions.ParticipantNotFoundException;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlan;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -31,7 +41,9 @@ public class ModelManager implements Model {
     private final VersionedAddressBook versionedAddressBook;
     private final UserPrefs userPrefs;
 
+    private final FilterResultCache filterResults;
     private final FilteredList<Participant> filteredParticipants;
+    private final SortedParticipantView sortedParticipants;
     private final SimpleObjectProperty<Participant> selectedParticipant = new SimpleObjectProperty<>();
 
     private final FilteredList<Group> filteredGroups;
@@ -41,6 +53,11 @@ public class ModelManager implements Model {
     private final SimpleObjectProperty<House> selectedHouses = new SimpleObjectProperty<>();
 
     private String undoableCommand;
+    private boolean isCommitPending = false;
+    /** Whether all participants are to be shown once the batch ends, as a participant was added during it. */
+    private boolean isShowAllPending = false;
+    /** Whether the batch, or one nested in it, was aborted, so that its pending changes are dropped when it ends. */
+    private boolean isBatchAborted = false;
     private String fileName;
 
     /**
@@ -52,10 +69,20 @@ public class ModelManager implements Model {
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        versionedAddressBook = new VersionedAddressBook(addressBook);
+        versionedAddressBook = new VersionedAddressBook(addressBook, userPrefs.getHistorySettings());
+        versionedAddressBook.setNameIndexEnabled(userPrefs.getSearchSettings().isNameIndexEnabled());
         this.userPrefs = new UserPrefs(userPrefs);
+        filterResults = new FilterResultCache(userPrefs.getSearchSettings().getParallelFilterThreshold());
+        // registered before the filtered lists, so that cached results are dropped before they are used again
+        versionedAddressBook.getParticipantList().addListener(filterResults);
+        versionedAddressBook.getGroupList().addListener(filterResults);
+        versionedAddressBook.getHouseList().addListener(filterResults);
         filteredParticipants = new FilteredList<>(versionedAddressBook.getParticipantList());
-        filteredParticipants.addListener(this::ensureSelectedParticipantIsValid);
+        sortedParticipants = new SortedParticipantView(filteredParticipants, groupName ->
+                versionedAddressBook.findGroup(groupName).map(Group::getHouseName).orElse(""), DailyClock::today);
+        sortedParticipants.addListener(this::ensureSelectedParticipantIsValid);
+        versionedAddressBook.getGroupList().addListener((ListChangeListener<Group>) change ->
+                sortedParticipants.refreshHouses());
 
         filteredGroups = new FilteredList<>(versionedAddressBook.getGroupList());
         filteredGroups.addListener(this::ensureSelectedGroupIsValid);
@@ -141,7 +168,12 @@ public class ModelManager implements Model {
     @Override
     public void addParticipant(Participant participant) {
         versionedAddressBook.addParticipant(participant);
-        updateFilteredParticipantList(PREDICATE_SHOW_ALL_PARTICIPANTS);
+        if (versionedAddressBook.isInBatch()) {
+            // the filtered list only sees the new participant when the batch ends, so it is filtered once then
+            isShowAllPending = true;
+        } else {
+            updateFilteredParticipantList(PREDICATE_SHOW_ALL_PARTICIPANTS);
+        }
         undoableCommand = "Add " + participant.getName().fullName;
     }
 
@@ -153,6 +185,68 @@ public class ModelManager implements Model {
         undoableCommand = "Edit " + editedParticipant.getName().fullName;
     }
 
+    @Override
+    public List<Participant> getParticipantsInGroup(String groupName) {
+        requireNonNull(groupName);
+        return versionedAddressBook.getParticipantsInGroup(groupName);
+    }
+
+    @Override
+    public List<Participant> getParticipantsInHouse(String houseName) {
+        requireNonNull(houseName);
+        return versionedAddressBook.getParticipantsInHouse(houseName);
+    }
+
+    @Override
+    public boolean hasParticipantsInGroup(String groupName) {
+        requireNonNull(groupName);
+        return versionedAddressBook.hasParticipantsInGroup(groupName);
+    }
+
+    @Override
+    public ObservableList<Participant> getParticipantsWithRole(Role role) {
+        requireNonNull(role);
+        return versionedAddressBook.getParticipantsWithRole(role);
+    }
+
+    @Override
+    public Predicate<Participant> getNameKeywordsPredicate(List<String> keywords) {
+        requireNonNull(keywords);
+        return versionedAddressBook.getNameKeywordsPredicate(keywords);
+    }
+
+    @Override
+    public Predicate<Participant> getFuzzyNameKeywordsPredicate(List<String> keywords, int maxDistance) {
+        requireNonNull(keywords);
+        return versionedAddressBook.getFuzzyNameKeywordsPredicate(keywords, maxDistance);
+    }
+
+    @Override
+    public QueryPlan planQuery(Query query) {
+        requireNonNull(query);
+        QueryPlan plan = versionedAddressBook.planQuery(query);
+        logger.fine("Planned query " + query + " as " + plan);
+        return plan;
+    }
+
+    @Override
+    public List<Participant> searchParticipants(List<String> keywords, int limit) {
+        requireNonNull(keywords);
+        return versionedAddressBook.searchParticipants(keywords, limit);
+    }
+
+    @Override
+    public Set<Participant> getParticipantsWithPhone(Phone phone) {
+        requireNonNull(phone);
+        return versionedAddressBook.getParticipantsWithPhone(phone);
+    }
+
+    @Override
+    public Set<Participant> getParticipantsWithEmail(Email email) {
+        requireNonNull(email);
+        return versionedAddressBook.getParticipantsWithEmail(email);
+    }
+
     //=========== Charts Related =============================================================================
 
     @Override
@@ -201,18 +295,24 @@ public class ModelManager implements Model {
     }
 
     /**
-     * Returns an unmodifiable view of the list of {@code Undoable Command} backed by the internal list of
-     * {@code versionedAddressBook}
+     * Returns an unmodifiable view of the list of {@code Participant} backed by the internal list of
+     * {@code versionedAddressBook}, filtered and then sorted
      */
     @Override
     public ObservableList<Participant> getFilteredParticipantList() {
-        return filteredParticipants;
+        return sortedParticipants;
     }
 
     @Override
     public void updateFilteredParticipantList(Predicate<Participant> predicate) {
         requireNonNull(predicate);
-        filteredParticipants.setPredicate(predicate);
+        filterResults.filter(filteredParticipants, predicate);
+    }
+
+    @Override
+    public void sortFilteredParticipantList(List<SortKey> keys) {
+        requireNonNull(keys);
+        sortedParticipants.setSortKeys(keys);
     }
 
     //=========== Undo/Redo =================================================================================
@@ -239,10 +339,57 @@ public class ModelManager implements Model {
 
     @Override
     public void commitAddressBook() {
+        if (versionedAddressBook.isInBatch()) {
+            // the lists are only brought up to date when the batch ends
+            isCommitPending = true;
+            return;
+        }
         versionedAddressBook.commit();
         versionedAddressBook.addUndoableCommand(undoableCommand);
     }
 
+    //=========== Batch =====================================================================================
+
+    @Override
+    public void beginBatch() {
+        versionedAddressBook.beginBatch();
+    }
+
+    @Override
+    public void endBatch() {
+        versionedAddressBook.endBatch();
+        if (versionedAddressBook.isInBatch()) {
+            return;
+        }
+        if (isBatchAborted) {
+            dropPendingChanges();
+            return;
+        }
+        if (isShowAllPending) {
+            isShowAllPending = false;
+            updateFilteredParticipantList(PREDICATE_SHOW_ALL_PARTICIPANTS);
+        }
+        if (isCommitPending) {
+            isCommitPending = false;
+            commitAddressBook();
+        }
+    }
+
+    @Override
+    public void abortBatch() {
+        isBatchAborted = true;
+        versionedAddressBook.abortBatch();
+        if (!versionedAddressBook.isInBatch()) {
+            dropPendingChanges();
+        }
+    }
+
+    private void dropPendingChanges() {
+        isBatchAborted = false;
+        isShowAllPending = false;
+        isCommitPending = false;
+    }
+
     //=========== Selected participant ===========================================================================
 
     @Override
@@ -297,6 +444,18 @@ public class ModelManager implements Model {
         return versionedAddressBook.getGroup(toGet);
     }
 
+    @Override
+    public Optional<Group> findGroup(String groupName) {
+        requireNonNull(groupName);
+        return versionedAddressBook.findGroup(groupName);
+    }
+
+    @Override
+    public List<Group> getGroupsInHouse(String houseName) {
+        requireNonNull(houseName);
+        return versionedAddressBook.getGroupsInHouse(houseName);
+    }
+
     @Override
     public ObservableList<Group> getFilteredGroupList() {
         return filteredGroups;
@@ -316,7 +475,14 @@ public class ModelManager implements Model {
     // ================ House Operations ======================
     @Override
     public House getHouse(House house) {
-        return null;
+        requireNonNull(house);
+        return versionedAddressBook.findHouse(house.getHouseName()).orElse(null);
+    }
+
+    @Override
+    public Optional<House> findHouse(String houseName) {
+        requireNonNull(houseName);
+        return versionedAddressBook.findHouse(houseName);
     }
 
     @Override
@@ -468,7 +634,7 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return versionedAddressBook.equals(other.versionedAddressBook)
                 && userPrefs.equals(other.userPrefs)
-                && filteredParticipants.equals(other.filteredParticipants)
+                && sortedParticipants.equals(other.sortedParticipants)
                 && Objects.equals(selectedParticipant.get(), other.selectedParticipant.get());
     }
 
@@ -0,0 +1,357 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.participant.Participant;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Ranks the participants of a list by how well they match a search, using the BM25 scoring function over the words of
+ * their name, email, phone, major, group and tags.
+ * The words are indexed the first time the list is searched, and kept up to date from the change events of the list
+ * after that, so a search only looks at the participants that have a searched word.
+ *
+ * Each indexed participant has a slot number, and each word lists the slots of the participants that have it.
+ * A removed participant's slot is only marked as empty; the index is compacted once most slots are empty.
+ * The scores of a search are added up in an array of slots that is kept between searches, and only the slots that
+ * were scored are ranked and then cleared, so a search takes O(p + h log k) for p postings of the searched words,
+ * h participants found and at most k listed.
+ */
+final class ParticipantSearchIndex implements ListChangeListener<Participant> {
+
+    /** How quickly the score of a word saturates as it repeats in one participant. */
+    private static final double K1 = 1.2;
+    /** How much a participant with more words is penalised. */
+    private static final double B = 0.75;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final List<Participant> participants;
+    private final Map<String, Postings> postingsByWord = new HashMap<>();
+    /** The members of each group, for words that match through a participant's group rather than its own fields. */
+    private final Map<String, Postings> postingsByGroup = new HashMap<>();
+    private final Map<Participant, Integer> slots = new IdentityHashMap<>();
+    /** The participant in each slot, or null if the slot is empty. */
+    private Participant[] slotParticipants = new Participant[INITIAL_CAPACITY];
+    /** The number of words of the participant in each slot. */
+    private int[] slotLengths = new int[INITIAL_CAPACITY];
+    /** The score of the participant in each slot during a search, and zero otherwise. */
+    private double[] slotScores = new double[INITIAL_CAPACITY];
+    /** The slots scored so far in a search, of which there are {@code hitCount}. */
+    private int[] hitSlots = new int[INITIAL_CAPACITY];
+    private int hitCount = 0;
+    private int usedSlots = 0;
+    private long totalLength = 0;
+    private boolean isBuilt = false;
+
+    /**
+     * Creates an index of {@code participants}, which this index must be registered as a listener of.
+     */
+    ParticipantSearchIndex(List<Participant> participants) {
+        requireNonNull(participants);
+        this.participants = participants;
+    }
+
+    @Override
+    public void onChanged(Change<? extends Participant> change) {
+        if (!isBuilt) {
+            return;
+        }
+        while (change.next()) {
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+        if (usedSlots > INITIAL_CAPACITY && slots.size() < usedSlots / 2) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Returns at most {@code limit} participants with any of the words of {@code keywords}, best match first.
+     * {@code groupsMatching} gives, for a word, the names of the groups whose members match it through something
+     * other than their own fields, such as the house of the group; each member counts as having the word once.
+     */
+    List<Participant> search(List<String> keywords, int limit, Function<String, List<String>> groupsMatching) {
+        requireNonNull(keywords);
+        requireNonNull(groupsMatching);
+        if (!isBuilt) {
+            rebuild();
+            isBuilt = true;
+        }
+        if (slots.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        double averageLength = (double) totalLength / slots.size();
+        try {
+            for (String keyword : keywords) {
+                for (String word : toWords(keyword)) {
+                    addScores(Collections.singletonList(postingsByWord.get(word)), averageLength);
+                    addScores(groupsMatching.apply(word).stream().map(postingsByGroup::get)
+                            .collect(Collectors.toList()), averageLength);
+                }
+            }
+
+            // the heap is no larger than the number of participants found, however many are asked for
+            TopSlots best = new TopSlots(Math.min(limit, hitCount), slotScores);
+            for (int i = 0; i < hitCount; i++) {
+                best.offer(hitSlots[i]);
+            }
+            List<Participant> hits = new ArrayList<>();
+            for (int slot : best.toSortedArray()) {
+                hits.add(slotParticipants[slot]);
+            }
+            return hits;
+        } finally {
+            for (int i = 0; i < hitCount; i++) {
+                slotScores[hitSlots[i]] = 0;
+            }
+            hitCount = 0;
+        }
+    }
+
+    /**
+     * Adds to the scores of the slots the BM25 score of one word for each participant that has it, given the postings
+     * of the word in {@code postingsOfWord}. Null postings have no participants.
+     */
+    private void addScores(List<Postings> postingsOfWord, double averageLength) {
+        int documentFrequency = 0;
+        for (Postings postings : postingsOfWord) {
+            documentFrequency += postings == null ? 0 : postings.liveCount;
+        }
+        if (documentFrequency == 0) {
+            return;
+        }
+        double idf = Math.log(1 + (slots.size() - documentFrequency + 0.5) / (documentFrequency + 0.5));
+        for (Postings postings : postingsOfWord) {
+            for (int i = 0; postings != null && i < postings.size; i++) {
+                int slot = postings.slots[i];
+                if (slotParticipants[slot] == null) {
+                    continue;
+                }
+                int frequency = postings.frequencies[i];
+                double lengthRatio = slotLengths[slot] / averageLength;
+                if (slotScores[slot] == 0) {
+                    // every word scores above zero, as its idf is
+                    hitSlots[hitCount++] = slot;
+                }
+                slotScores[slot] += idf * frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * lengthRatio));
+            }
+        }
+    }
+
+    /**
+     * Returns the lower case words of {@code text}, which are its runs of ASCII letters and digits.
+     */
+    static List<String> toWords(String text) {
+        List<String> words = new ArrayList<>();
+        addWords(text, words);
+        return words;
+    }
+
+    private static void addWords(String text, List<String> words) {
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordChar = i < text.length() && isAsciiLetterOrDigit(text.charAt(i));
+            if (isWordChar && start < 0) {
+                start = i;
+            } else if (!isWordChar && start >= 0) {
+                words.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    private static List<String> wordsOf(Participant participant) {
+        List<String> words = new ArrayList<>();
+        addWords(participant.getName().fullName, words);
+        addWords(participant.getEmail().value, words);
+        addWords(participant.getPhone().value, words);
+        addWords(participant.getMajor().value, words);
+        if (participant.getGroup() != null) {
+            addWords(participant.getGroup().getGroupName(), words);
+        }
+        for (Tag tag : participant.getTags()) {
+            addWords(tag.tagName, words);
+        }
+        return words;
+    }
+
+    private void add(Participant participant) {
+        if (usedSlots == slotParticipants.length) {
+            slotParticipants = Arrays.copyOf(slotParticipants, usedSlots * 2);
+            slotLengths = Arrays.copyOf(slotLengths, usedSlots * 2);
+            slotScores = Arrays.copyOf(slotScores, usedSlots * 2);
+            hitSlots = Arrays.copyOf(hitSlots, usedSlots * 2);
+        }
+        int slot = usedSlots++;
+        List<String> words = wordsOf(participant);
+        slotParticipants[slot] = participant;
+        slotLengths[slot] = words.size();
+        slots.put(participant, slot);
+        totalLength += words.size();
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        words.forEach(word -> frequencies.merge(word, 1, Integer::sum));
+        frequencies.forEach((word, frequency) ->
+                postingsByWord.computeIfAbsent(word, unused -> new Postings()).add(slot, frequency));
+        if (participant.getGroup() != null) {
+            postingsByGroup.computeIfAbsent(participant.getGroup().getGroupName(), unused -> new Postings())
+                    .add(slot, 1);
+        }
+    }
+
+    private void remove(Participant participant) {
+        Integer slot = slots.remove(participant);
+        if (slot == null) {
+            return;
+        }
+        slotParticipants[slot] = null;
+        totalLength -= slotLengths[slot];
+        for (String word : new HashSet<>(wordsOf(participant))) {
+            Postings postings = postingsByWord.get(word);
+            if (postings != null && --postings.liveCount == 0) {
+                postingsByWord.remove(word);
+            }
+        }
+        if (participant.getGroup() != null) {
+            String groupName = participant.getGroup().getGroupName();
+            Postings members = postingsByGroup.get(groupName);
+            if (members != null && --members.liveCount == 0) {
+                postingsByGroup.remove(groupName);
+            }
+        }
+    }
+
+    /**
+     * Indexes the participants of the list afresh, dropping the empty slots.
+     */
+    private void rebuild() {
+        postingsByWord.clear();
+        postingsByGroup.clear();
+        slots.clear();
+        slotParticipants = new Participant[Math.max(INITIAL_CAPACITY, participants.size())];
+        slotLengths = new int[slotParticipants.length];
+        slotScores = new double[slotParticipants.length];
+        hitSlots = new int[slotParticipants.length];
+        usedSlots = 0;
+        totalLength = 0;
+        participants.forEach(this::add);
+    }
+
+    /**
+     * The best {@code limit} slots offered, by score and then by slot, kept in a binary heap with the worst at the top.
+     */
+    private static final class TopSlots {
+        private final double[] scores;
+        private final int[] heap;
+        private int size = 0;
+
+        TopSlots(int limit, double[] scores) {
+            this.scores = scores;
+            this.heap = new int[limit];
+        }
+
+        void offer(int slot) {
+            if (size < heap.length) {
+                heap[size] = slot;
+                siftUp(size++);
+            } else if (isBetter(slot, heap[0])) {
+                heap[0] = slot;
+                siftDown(0);
+            }
+        }
+
+        /**
+         * Returns the slots, best first.
+         */
+        int[] toSortedArray() {
+            int[] sorted = new int[size];
+            while (size > 0) {
+                sorted[size - 1] = heap[0];
+                heap[0] = heap[--size];
+                siftDown(0);
+            }
+            return sorted;
+        }
+
+        /**
+         * Returns true if {@code slot} ranks above {@code other}: by a higher score, or an equal score and an earlier
+         * slot.
+         */
+        private boolean isBetter(int slot, int other) {
+            return scores[slot] > scores[other] || (scores[slot] == scores[other] && slot < other);
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) / 2;
+                if (!isBetter(heap[parent], heap[index])) {
+                    return;
+                }
+                swap(parent, index);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int worst = index;
+                for (int child = 2 * index + 1; child <= 2 * index + 2 && child < size; child++) {
+                    if (isBetter(heap[worst], heap[child])) {
+                        worst = child;
+                    }
+                }
+                if (worst == index) {
+                    return;
+                }
+                swap(worst, index);
+                index = worst;
+            }
+        }
+
+        private void swap(int i, int j) {
+            int slot = heap[i];
+            heap[i] = heap[j];
+            heap[j] = slot;
+        }
+    }
+
+    /**
+     * The slots of the participants that have a word, and how many times each has it.
+     * Includes empty slots, which are skipped; {@code liveCount} counts the rest.
+     */
+    private static final class Postings {
+        private int[] slots = new int[4];
+        private int[] frequencies = new int[4];
+        private int size = 0;
+        private int liveCount = 0;
+
+        void add(int slot, int frequency) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            slots[size] = slot;
+            frequencies[size] = frequency;
+            size++;
+            liveCount++;
+        }
+    }
+}
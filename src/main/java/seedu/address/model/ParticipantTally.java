@@ -0,0 +1,82 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableMap;
+import seedu.address.model.participant.Participant;
+
+/**
+ * Counts the participants of a list by the value of one of their fields.
+ * The counts are kept up to date from the change events of the list, so each change costs O(1) per participant added
+ * or removed and reading the counts never scans the list.
+ * Participants without a value for the field are not counted.
+ * A field that changes over time, like an age, comes with a generation that changes whenever the field may have; the
+ * counts are then taken again from the whole list the first time they are updated or read in a new generation.
+ */
+final class ParticipantTally implements ListChangeListener<Participant> {
+
+    private final Function<Participant, String> field;
+    private final IntSupplier generation;
+    private int countedGeneration;
+    private final ObservableMap<String, Integer> counts = FXCollections.observableHashMap();
+    private final ObservableMap<String, Integer> unmodifiableCounts = FXCollections.unmodifiableObservableMap(counts);
+
+    ParticipantTally(Function<Participant, String> field) {
+        this(field, () -> 0);
+    }
+
+    ParticipantTally(Function<Participant, String> field, IntSupplier generation) {
+        requireNonNull(field);
+        requireNonNull(generation);
+        this.field = field;
+        this.generation = generation;
+        this.countedGeneration = generation.getAsInt();
+    }
+
+    @Override
+    public void onChanged(Change<? extends Participant> change) {
+        if (recountIfStale(change.getList())) {
+            return;
+        }
+        while (change.next()) {
+            change.getRemoved().forEach(participant -> adjust(participant, -1));
+            change.getAddedSubList().forEach(participant -> adjust(participant, 1));
+        }
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the number of participants with each value of the field.
+     */
+    ObservableMap<String, Integer> asUnmodifiableObservableMap() {
+        return unmodifiableCounts;
+    }
+
+    /**
+     * Counts {@code participants} afresh if the generation has changed since they were last counted.
+     * {@code participants} must be the list this tally listens to.
+     * Returns true if they were counted afresh.
+     */
+    boolean recountIfStale(List<? extends Participant> participants) {
+        int currentGeneration = generation.getAsInt();
+        if (currentGeneration == countedGeneration) {
+            return false;
+        }
+        countedGeneration = currentGeneration;
+        counts.clear();
+        participants.forEach(participant -> adjust(participant, 1));
+        return true;
+    }
+
+    private void adjust(Participant participant, int delta) {
+        String value = field.apply(participant);
+        if (value != null) {
+            counts.merge(value, delta, (count, change) -> count + change == 0 ? null : count + change);
+        }
+    }
+}
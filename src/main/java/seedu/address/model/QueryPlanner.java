@@ -0,0 +1,268 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.Value;
+import seedu.address.model.grouping.Group;
+import seedu.address.model.participant.Participant;
+import seedu.address.model.participant.Role;
+import seedu.address.model.query.AndQuery;
+import seedu.address.model.query.Clause;
+import seedu.address.model.query.NotQuery;
+import seedu.address.model.query.OrQuery;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlan;
+import seedu.address.model.tag.TagQuery;
+
+/**
+ * Plans a {@code Query} against an address book.
+ *
+ * Each clause is given an estimate of how many participants it matches, from the counts the address book keeps by
+ * major, sex and age, the sizes of groups, houses and roles, and the name index. An and checks its operands from the
+ * most selective, and an or from the least selective, so that each stops as early as it can.
+ *
+ * Some clauses are counted exactly by an index: a group or a house by the group members, the freshman tag by the
+ * freshmen, and a name by the name index if it is enabled. The indexes only choose the order the clauses are checked
+ * in; the plan still checks every participant, so the filtered list it is used for stays live like the other lists,
+ * and participants added or edited after the query are matched correctly.
+ */
+final class QueryPlanner {
+
+    private final AddressBook addressBook;
+    private final int participantCount;
+
+    QueryPlanner(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        this.addressBook = addressBook;
+        this.participantCount = addressBook.getParticipantList().size();
+    }
+
+    /**
+     * Returns the plan for {@code query} against the participants of the address book as they are now.
+     * The plan works out ages as of the day each participant is checked, so a view filtered by it past midnight
+     * checks changed participants against the new day's ages.
+     */
+    QueryPlan plan(Query query) {
+        requireNonNull(query);
+        Step step = planStep(query);
+        return new QueryPlan(step.test, step.toString());
+    }
+
+    private Step planStep(Query query) {
+        if (query instanceof AndQuery) {
+            return planAnd(((AndQuery) query).getOperands());
+        } else if (query instanceof OrQuery) {
+            return planOr(((OrQuery) query).getOperands());
+        } else if (query instanceof NotQuery) {
+            Step operand = planStep(((NotQuery) query).getOperand());
+            return new Step(operand.test.negate(), participantCount - operand.estimate, "not " + operand.description);
+        } else {
+            return planClause((Clause) query);
+        }
+    }
+
+    private Step planAnd(List<Query> operands) {
+        List<Step> steps = operands.stream()
+                .map(this::planStep)
+                .sorted(Comparator.comparingInt(step -> step.estimate))
+                .collect(Collectors.toList());
+        if (steps.size() == 1) {
+            return steps.get(0);
+        }
+        return new Step(allOf(steps), steps.get(0).estimate, describe(steps, " and "));
+    }
+
+    private Step planOr(List<Query> operands) {
+        List<Step> steps = operands.stream()
+                .map(this::planStep)
+                .sorted(Comparator.comparingInt((Step step) -> step.estimate).reversed())
+                .collect(Collectors.toList());
+        if (steps.size() == 1) {
+            return steps.get(0);
+        }
+        int estimate = Math.min(participantCount, steps.stream().mapToInt(step -> step.estimate).sum());
+        Step[] ordered = steps.toArray(new Step[0]);
+        Predicate<Participant> test = participant -> {
+            for (Step step : ordered) {
+                if (step.test.test(participant)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+        return new Step(test, estimate, describe(steps, " or "));
+    }
+
+    private Step planClause(Clause clause) {
+        if (clause.getOperator() == Clause.Operator.NOT_EQUAL) {
+            Step equal = planClause(new Clause(clause.getField(), Clause.Operator.EQUAL, clause.getValue()));
+            return new Step(equal.test.negate(), participantCount - equal.estimate, clause.toString());
+        }
+
+        String value = clause.getValue();
+        switch (clause.getField()) {
+        case NAME:
+            return planName(clause);
+        case SEX:
+            return fromCount(clause, addressBook.getSexData(),
+                    participant -> participant.getSex() != null && value.equals(participant.getSex().value));
+        case MAJOR:
+            return fromCount(clause, addressBook.getMajorData(),
+                    participant -> participant.getMajor() != null && value.equals(participant.getMajor().value));
+        case GROUP:
+            return new Step(participant -> participant.getGroup() != null
+                    && value.equals(participant.getGroup().getGroupName()), addressBook.getGroupMembers(value).size(),
+                    clause.toString());
+        case HOUSE:
+            return planHouse(clause);
+        case TAG:
+            return planTag(clause);
+        default:
+            return planAge(clause);
+        }
+    }
+
+    private Step planName(Clause clause) {
+        List<String> words = Arrays.asList(clause.getValue().trim().toLowerCase(Locale.ROOT).split("\\s+"));
+        // each word is looked for in the name itself, which is quicker than looking the participant up in the index
+        String[] wordArray = words.toArray(new String[0]);
+        Predicate<Participant> test = participant -> {
+            for (String word : wordArray) {
+                if (!hasWord(participant.getName().fullName, word)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+
+        // at most as many participants as have the rarest of the words, if the name index can tell
+        int estimate = participantCount;
+        for (String word : words) {
+            Optional<Set<Participant>> withWord = addressBook.findNameWordMembers(word);
+            if (!withWord.isPresent()) {
+                return new Step(test, participantCount, clause.toString());
+            }
+            estimate = Math.min(estimate, withWord.get().size());
+        }
+        return new Step(test, estimate, clause.toString());
+    }
+
+    /**
+     * Returns true if {@code lowerCaseWord} is one of the space separated words of {@code name}, ignoring case.
+     */
+    private static boolean hasWord(String name, String lowerCaseWord) {
+        int start = 0;
+        while (start <= name.length()) {
+            int end = name.indexOf(' ', start);
+            if (end < 0) {
+                end = name.length();
+            }
+            if (end - start == lowerCaseWord.length()
+                    && name.regionMatches(true, start, lowerCaseWord, 0, lowerCaseWord.length())) {
+                return true;
+            }
+            start = end + 1;
+        }
+        return false;
+    }
+
+    private Step planHouse(Clause clause) {
+        // participants refer to their group by name only, so their house is looked up through the group list
+        Set<String> groupNames = addressBook.getGroupsInHouse(clause.getValue()).stream()
+                .map(Group::getGroupName)
+                .collect(Collectors.toSet());
+        int estimate = groupNames.stream().mapToInt(name -> addressBook.getGroupMembers(name).size()).sum();
+        return new Step(participant -> participant.getGroup() != null
+                && groupNames.contains(participant.getGroup().getGroupName()), estimate, clause.toString());
+    }
+
+    private Step planTag(Clause clause) {
+        TagQuery tagQuery = new TagQuery(Collections.singletonList(clause.getValue()));
+        Predicate<Participant> test = participant -> tagQuery.isMatchedBy(participant.getTagMask());
+        if (clause.getValue().equalsIgnoreCase(Value.FRESHMAN)) {
+            // every participant tagged as a freshman has the freshman role
+            return new Step(test, addressBook.getParticipantsWithRole(Role.FRESHMAN).size(), clause.toString());
+        }
+        // participants tagged as OGLs may also be freshmen, so the OGL role only bounds their number from below
+        int estimate = clause.getValue().equalsIgnoreCase(Value.OGL)
+                ? addressBook.getParticipantsWithRole(Role.OGL).size()
+                : participantCount;
+        return new Step(test, estimate, clause.toString());
+    }
+
+    private Step planAge(Clause clause) {
+        int age = Integer.parseInt(clause.getValue());
+        Clause.Operator operator = clause.getOperator();
+        return fromCount(clause, addressBook.getAgeData(), participant -> participant.getBirthday() != null
+                && operator.compare(participant.getBirthday().getAgeInYears(), age));
+    }
+
+    /**
+     * Returns the step of a clause that is estimated from {@code counts}, the number of participants with each value
+     * of the clause's field, and can only be answered by checking every participant with {@code test}.
+     */
+    private Step fromCount(Clause clause, Map<String, Integer> counts, Predicate<Participant> test) {
+        int estimate;
+        if (clause.getField().isOrdered()) {
+            int value = Integer.parseInt(clause.getValue());
+            estimate = counts.entrySet().stream()
+                    .filter(count -> clause.getOperator().compare(Integer.parseInt(count.getKey()), value))
+                    .mapToInt(Map.Entry::getValue)
+                    .sum();
+        } else {
+            estimate = counts.getOrDefault(clause.getValue(), 0);
+        }
+        return new Step(test, estimate, clause.toString());
+    }
+
+    private static Predicate<Participant> allOf(List<Step> steps) {
+        Step[] ordered = steps.toArray(new Step[0]);
+        return participant -> {
+            for (Step step : ordered) {
+                if (!step.test.test(participant)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    private static String describe(List<Step> steps, String connective) {
+        return steps.size() == 1
+                ? steps.get(0).toString()
+                : steps.stream().map(Step::toString).collect(Collectors.joining(connective, "(", ")"));
+    }
+
+    /**
+     * A planned part of a query.
+     */
+    private static final class Step {
+        private final Predicate<Participant> test;
+        /** About how many participants match. */
+        private final int estimate;
+        /** How the participants are checked, without the estimate. */
+        private final String description;
+
+        Step(Predicate<Participant> test, int estimate, String description) {
+            this.test = test;
+            this.estimate = Math.max(0, estimate);
+            this.description = description;
+        }
+
+        @Override
+        public String toString() {
+            return description + " ~" + estimate;
+        }
+    }
+}
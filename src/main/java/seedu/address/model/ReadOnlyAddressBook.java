@@ -20,8 +20,8 @@ public interface ReadOnlyAddressBook extends Observable {
 
 
     /**
-     * Return an unmodifiable view of the persons data
-     * by age, major and sex.
+     * Return an unmodifiable, live view of the number of persons
+     * with each age, major and sex.
      */
     ObservableMap<String, Integer> getAgeData();
     ObservableMap<String, Integer> getMajorData();
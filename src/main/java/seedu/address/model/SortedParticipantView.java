@@ -0,0 +1,282 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.participant.Participant;
+import seedu.address.model.participant.SortKey;
+
+/**
+ * A view of a list of participants sorted by some {@code SortKey}s, or in the order of the list if there are none.
+ *
+ * The sort keys of a participant are worked out once, when it enters the view, and the sorted participants are kept
+ * in a {@code PersistentList}, so a participant added to, removed from or edited in the list is moved into place in
+ * O(log n) time instead of the whole view being sorted again. Ties are broken by name, then by the order the
+ * participants entered the view. A change to a large share of the list, like a new filter, sorts the view afresh.
+ * Participants without a birthday sort as if born before everyone else, and those without a group or a house before
+ * the others.
+ * Ages are in whole years, so participants of the same age tie and are ordered by the next key. As ages change with
+ * the day, a view sorted by age is sorted afresh on the first change to the list on a new day.
+ */
+final class SortedParticipantView extends TransformationList<Participant, Participant> {
+
+    /** A change to more than one in this many participants of the view sorts it afresh. */
+    private static final int MAX_INCREMENTAL_SHARE = 4;
+
+    private final Function<String, String> houseOfGroup;
+    private final IntSupplier today;
+    /** The day the ages of the entries are worked out on, as the number yyyymmdd. */
+    private int sortedOn;
+    private final Map<Participant, Entry> entries = new IdentityHashMap<>();
+    private List<SortKey> keys = Collections.emptyList();
+    /** The order of the entries, or null if the view is in the order of the list. */
+    private Comparator<Entry> order = null;
+    private PersistentList<Entry> sorted = PersistentList.empty();
+    private long nextSequence = 0;
+
+    /**
+     * Creates a view of {@code source} in its own order. {@code houseOfGroup} gives the name of the house of a group
+     * from the name of the group, or an empty string if the group has no house. {@code today} gives the day ages are
+     * worked out on, as the number yyyymmdd.
+     */
+    SortedParticipantView(ObservableList<Participant> source, Function<String, String> houseOfGroup,
+            IntSupplier today) {
+        super(source);
+        requireNonNull(houseOfGroup);
+        requireNonNull(today);
+        this.houseOfGroup = houseOfGroup;
+        this.today = today;
+        this.sortedOn = today.getAsInt();
+    }
+
+    /**
+     * Sorts the view by {@code keys}, the first key first, or puts it back in the order of the list if there are no
+     * keys.
+     */
+    void setSortKeys(List<SortKey> keys) {
+        requireNonNull(keys);
+        List<Participant> previous = new ArrayList<>(this);
+        this.keys = new ArrayList<>(keys);
+        order = keys.isEmpty() ? null : orderOf(keys);
+        sortedOn = today.getAsInt();
+        sortAfresh(previous);
+    }
+
+    /**
+     * Sorts the view afresh if it is sorted by house, as the houses of some groups may have changed.
+     */
+    void refreshHouses() {
+        if (isSortedBy(SortKey.Field.HOUSE)) {
+            sortAfresh(new ArrayList<>(this));
+        }
+    }
+
+    private boolean isSortedBy(SortKey.Field field) {
+        return keys.stream().anyMatch(key -> key.getField() == field);
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends Participant> change) {
+        if (order == null) {
+            forward(change);
+            return;
+        }
+
+        int changedCount = 0;
+        while (change.next()) {
+            changedCount += change.getRemovedSize() + change.getAddedSize();
+        }
+        change.reset();
+        // the entries already in the view have the ages of the day they were sorted on
+        int day = today.getAsInt();
+        boolean isAgeStale = day != sortedOn && isSortedBy(SortKey.Field.AGE);
+        sortedOn = day;
+        if (isAgeStale || changedCount > sorted.size() / MAX_INCREMENTAL_SHARE) {
+            sortAfresh(new ArrayList<>(this));
+            return;
+        }
+
+        beginChange();
+        while (change.next()) {
+            // participants are immutable, so only additions and removals can move one
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::insert);
+        }
+        endChange();
+    }
+
+    /**
+     * Returns the index of the participant at {@code index} of this view in the list. Runs in O(n) time once the
+     * view is sorted.
+     */
+    @Override
+    public int getSourceIndex(int index) {
+        return order == null ? index : getSource().indexOf(get(index));
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        if (order == null) {
+            return index;
+        }
+        Entry entry = entries.get(getSource().get(index));
+        return sorted.indexOfFirst(other -> order.compare(other, entry) >= 0);
+    }
+
+    @Override
+    public Participant get(int index) {
+        return order == null ? getSource().get(index) : sorted.get(index).participant;
+    }
+
+    @Override
+    public int size() {
+        return order == null ? getSource().size() : sorted.size();
+    }
+
+    private void insert(Participant participant) {
+        Entry entry = new Entry(participant, nextSequence++);
+        entries.put(participant, entry);
+        int index = sorted.indexOfFirst(other -> order.compare(other, entry) > 0);
+        sorted = sorted.plus(index, entry);
+        nextAdd(index, index + 1);
+    }
+
+    private void remove(Participant participant) {
+        Entry entry = entries.remove(participant);
+        if (entry == null) {
+            return;
+        }
+        int index = sorted.indexOfFirst(other -> order.compare(other, entry) >= 0);
+        sorted = sorted.minus(index);
+        nextRemove(index, participant);
+    }
+
+    /**
+     * Sorts all the participants of the list again, with their sort keys worked out afresh, replacing
+     * {@code previous}, the participants the view had.
+     */
+    private void sortAfresh(List<Participant> previous) {
+        entries.clear();
+        sorted = PersistentList.empty();
+        if (order != null) {
+            List<Entry> all = new ArrayList<>();
+            for (Participant participant : getSource()) {
+                Entry entry = new Entry(participant, nextSequence++);
+                entries.put(participant, entry);
+                all.add(entry);
+            }
+            all.sort(order);
+            sorted = PersistentList.copyOf(all);
+        }
+
+        beginChange();
+        if (!previous.isEmpty()) {
+            nextRemove(0, previous);
+        }
+        if (size() > 0) {
+            nextAdd(0, size());
+        }
+        endChange();
+    }
+
+    /**
+     * Passes on {@code change} to the list as a change to this view, which is in the same order.
+     */
+    private void forward(ListChangeListener.Change<? extends Participant> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i);
+                }
+                nextPermutation(change.getFrom(), change.getTo(), permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    nextRemove(change.getFrom(), change.getRemoved());
+                }
+                if (change.wasAdded()) {
+                    nextAdd(change.getFrom(), change.getTo());
+                }
+            }
+        }
+        endChange();
+    }
+
+    private static Comparator<Entry> orderOf(List<SortKey> keys) {
+        Comparator<Entry> order = null;
+        for (SortKey key : keys) {
+            Comparator<Entry> byKey = orderOf(key.getField());
+            byKey = key.isAscending() ? byKey : byKey.reversed();
+            order = order == null ? byKey : order.thenComparing(byKey);
+        }
+        return order.thenComparing(entry -> entry.name).thenComparingLong(entry -> entry.sequence);
+    }
+
+    private static Comparator<Entry> orderOf(SortKey.Field field) {
+        switch (field) {
+        case NAME:
+            return Comparator.comparing(entry -> entry.name);
+        case AGE:
+            return Comparator.comparingInt(entry -> entry.age);
+        case BIRTHDAY:
+            return Comparator.comparingInt(entry -> entry.date);
+        case MAJOR:
+            return Comparator.comparing(entry -> entry.major);
+        case GROUP:
+            return Comparator.comparing(entry -> entry.group);
+        default:
+            return Comparator.comparing(entry -> entry.house);
+        }
+    }
+
+    /**
+     * A participant in the view with its sort keys.
+     */
+    private final class Entry {
+        private final Participant participant;
+        private final String name;
+        /** The birthday as the number yyyymmdd, or 0 if there is none. */
+        private final int date;
+        /** The age in whole years on the day the view is sorted on, or the largest int if there is no birthday. */
+        private final int age;
+        private final String major;
+        private final String group;
+        private final String house;
+        /** The order the participant entered the view in, which breaks ties between equal names. */
+        private final long sequence;
+
+        Entry(Participant participant, long sequence) {
+            this.participant = participant;
+            this.name = participant.getName().fullName.toLowerCase(Locale.ROOT);
+            this.date = participant.getBirthday() == null ? 0 : participant.getBirthday().getDateNumber();
+            this.age = participant.getBirthday() == null
+                    ? Integer.MAX_VALUE : participant.getBirthday().getAgeInYears(sortedOn);
+            this.major = participant.getMajor().value;
+            String groupName = participant.getGroup() == null ? "" : participant.getGroup().getGroupName();
+            this.group = groupName.toLowerCase(Locale.ROOT);
+            this.house = groupName.isEmpty() ? "" : houseOfGroup.apply(groupName).toLowerCase(Locale.ROOT);
+            this.sequence = sequence;
+        }
+    }
+}
@@ -8,6 +8,8 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.HistorySettings;
+import seedu.address.commons.core.SearchSettings;
 
 /**
  * Represents User's preferences.
@@ -15,6 +17,8 @@ import seedu.address.commons.core.GuiSettings;
 public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
+    private HistorySettings historySettings = new HistorySettings();
+    private SearchSettings searchSettings = new SearchSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
     private Path chartStoragePath = Paths.get("charts");
 
@@ -37,6 +41,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     public void resetData(ReadOnlyUserPrefs newUserPrefs) {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
+        setHistorySettings(newUserPrefs.getHistorySettings());
+        setSearchSettings(newUserPrefs.getSearchSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
     }
 
@@ -49,6 +55,24 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.guiSettings = guiSettings;
     }
 
+    public HistorySettings getHistorySettings() {
+        return historySettings;
+    }
+
+    public void setHistorySettings(HistorySettings historySettings) {
+        requireNonNull(historySettings);
+        this.historySettings = historySettings;
+    }
+
+    public SearchSettings getSearchSettings() {
+        return searchSettings;
+    }
+
+    public void setSearchSettings(SearchSettings searchSettings) {
+        requireNonNull(searchSettings);
+        this.searchSettings = searchSettings;
+    }
+
     public Path getChartStoragePath() {
         File theDir = new File(chartStoragePath.toString());
 
@@ -80,12 +104,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
+                && historySettings.equals(o.historySettings)
+                && searchSettings.equals(o.searchSettings)
                 && addressBookFilePath.equals(o.addressBookFilePath);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, historySettings, searchSettings, addressBookFilePath);
     }
 
     @Override
@@ -1,64 +1,120 @@
 package seedu.address.model;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
 
-import javafx.collections.ObservableMap;
-
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.HistorySettings;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.grouping.Group;
+import seedu.address.model.grouping.House;
+import seedu.address.model.participant.Participant;
 
 /**
  * {@code AddressBook} that keeps track of its own history.
+ * Each saved state is an {@code AddressBookSnapshot} that shares all unchanged data with the other saved states,
+ * so the memory used by the history grows with the size of each change rather than with the size of the data.
+ * Each commit also records the primitive changes that led to its state, so that undo and redo can usually replay them
+ * in place, making only the list changes the original command made, instead of resetting all the data.
+ *
+ * The saved states kept in memory are limited by a {@code HistorySettings} budget. The states farthest from the
+ * current state are spilled to a {@code HistoryFile} once the budget is exceeded, and read back when the user undoes
+ * or redoes that far. Once the spilled states outgrow the disk budget, the states at the far end of the history are
+ * forgotten. The history file is compacted once at least half of it holds the records of forgotten states, so it takes
+ * at most about twice the disk budget.
  */
 public class VersionedAddressBook extends AddressBook {
 
+    /** A rough estimate of the memory kept alive by one participant, group or house of a saved state. */
+    private static final long ESTIMATED_BYTES_PER_ELEMENT = 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(VersionedAddressBook.class);
+
     private ArrayList<String> redoList = new ArrayList<>();
     private ArrayList<String> undoList = new ArrayList<>();
 
-    private final List<ReadOnlyAddressBook> addressBookStateList;
+    private final List<SavedState> addressBookStateList;
     private int currentStatePointer;
 
+    private final HistorySettings historySettings;
+    private final HistoryFile historyFile = new HistoryFile();
+    private int statesInMemory;
+    private long bytesInMemory;
+    /** The bytes taken up in the history file by the records of the states still in the state list. */
+    private long spilledBytes;
+    private boolean canSpill = true;
+
+    // Persistent copies of the current lists, kept up to date through the change events of the lists,
+    // so that a commit only has to wrap them in a snapshot.
+    private PersistentList<Participant> currentParticipants;
+    private PersistentList<Group> currentGroups;
+    private PersistentList<House> currentHouses;
+    private boolean isRestoringState = false;
+    private Revision pendingRevision = new Revision();
 
     public VersionedAddressBook(ReadOnlyAddressBook initialState) {
+        this(initialState, new HistorySettings());
+    }
+
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, HistorySettings historySettings) {
         super(initialState);
+        this.historySettings = historySettings;
+
+        AddressBookSnapshot initialSnapshot = AddressBookSnapshot.of(this);
+        currentParticipants = initialSnapshot.getParticipants();
+        currentGroups = initialSnapshot.getGroups();
+        currentHouses = initialSnapshot.getHouses();
+        getParticipantList().addListener((ListChangeListener<Participant>) change -> {
+            if (!isRestoringState) {
+                currentParticipants = record(currentParticipants, change, pendingRevision.participantDeltas);
+            }
+        });
+        getGroupList().addListener((ListChangeListener<Group>) change -> {
+            if (!isRestoringState) {
+                currentGroups = record(currentGroups, change, pendingRevision.groupDeltas);
+            }
+        });
+        getHouseList().addListener((ListChangeListener<House>) change -> {
+            if (!isRestoringState) {
+                currentHouses = record(currentHouses, change, pendingRevision.houseDeltas);
+            }
+        });
 
         addressBookStateList = new ArrayList<>();
-        addressBookStateList.add(new AddressBook(initialState));
+        Revision initialRevision = new Revision();
+        initialRevision.markUnreplayable();
+        addToMemory(new SavedState(initialSnapshot, initialRevision));
         currentStatePointer = 0;
     }
 
     public boolean isEmpty() {
-        return addressBookStateList.get(currentStatePointer).getParticipantList().isEmpty();
-    }
-
-    public ObservableMap<String, Integer> getAgeData() {
-        return addressBookStateList.get(currentStatePointer).getAgeData();
-    }
-
-    public ObservableMap<String, Integer> getMajorData() {
-        return addressBookStateList.get(currentStatePointer).getMajorData();
-    }
-
-    public ObservableMap<String, Integer> getSexData() {
-        return addressBookStateList.get(currentStatePointer).getSexData();
+        return getParticipantList().isEmpty();
     }
 
     public void addUndoableCommand (String undoableCommand) {
         undoList.add(0, undoableCommand);
     }
     /**
-     * Saves a copy of the current {@code AddressBook} state at the end of the state list.
+     * Saves a snapshot of the current {@code AddressBook} state at the end of the state list.
      * Undone states are removed from the state list.
      */
     public void commit() {
         redoList.clear();
         removeStatesAfterCurrentPointer();
-        addressBookStateList.add(new AddressBook(this));
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(currentParticipants, currentGroups, currentHouses);
+        addToMemory(new SavedState(snapshot, pendingRevision));
+        pendingRevision = new Revision();
         currentStatePointer++;
+        enforceBudget();
         indicateModified();
     }
 
     private void removeStatesAfterCurrentPointer() {
-        addressBookStateList.subList(currentStatePointer + 1, addressBookStateList.size()).clear();
+        forgetStates(currentStatePointer + 1, addressBookStateList.size());
     }
 
     /**
@@ -68,12 +124,23 @@ public class VersionedAddressBook extends AddressBook {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
+        AddressBookSnapshot state;
+        try {
+            state = loadState(currentStatePointer - 1);
+        } catch (IOException ioe) {
+            logger.warning("Could not read back undo history, discarding older states: " + ioe);
+            forgetStates(0, currentStatePointer);
+            throw new NoUndoableStateException();
+        }
+
         if (undoList.size() > 0) {
             redoList.add(0, undoList.get(0));
             undoList.remove(0);
         }
+        Revision revision = addressBookStateList.get(currentStatePointer).revision;
         currentStatePointer--;
-        resetData(addressBookStateList.get(currentStatePointer));
+        restoreState(state, revision, revision::undo);
+        enforceBudget();
     }
 
     public ArrayList<String> getUndoList() {
@@ -87,12 +154,23 @@ public class VersionedAddressBook extends AddressBook {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
+        AddressBookSnapshot state;
+        try {
+            state = loadState(currentStatePointer + 1);
+        } catch (IOException ioe) {
+            logger.warning("Could not read back redo history, discarding newer states: " + ioe);
+            forgetStates(currentStatePointer + 1, addressBookStateList.size());
+            throw new NoRedoableStateException();
+        }
+
         if (redoList.size() > 0) {
             undoList.add(0, redoList.get(0));
             redoList.remove(0);
         }
         currentStatePointer++;
-        resetData(addressBookStateList.get(currentStatePointer));
+        Revision revision = addressBookStateList.get(currentStatePointer).revision;
+        restoreState(state, revision, revision::redo);
+        enforceBudget();
     }
 
     public ArrayList<String> getRedoList() {
@@ -100,6 +178,207 @@ public class VersionedAddressBook extends AddressBook {
     }
 
 
+    /**
+     * Brings the address book to {@code state} by replaying {@code revision} with {@code replay}.
+     * Falls back to resetting all the data to {@code state} if {@code revision} cannot be replayed, or if the address
+     * book has changed since the last commit, in which case the recorded indices no longer apply.
+     * The lists of {@code state} become the current persistent lists.
+     */
+    private void restoreState(AddressBookSnapshot state, Revision revision, Runnable replay) {
+        isRestoringState = true;
+        try {
+            if (revision.isReplayable() && pendingRevision.isEmpty()) {
+                replay.run();
+            } else {
+                resetData(state);
+            }
+        } finally {
+            isRestoringState = false;
+        }
+        currentParticipants = state.getParticipants();
+        currentGroups = state.getGroups();
+        currentHouses = state.getHouses();
+        pendingRevision = new Revision();
+    }
+
+    /**
+     * Records the changes described by {@code change} in {@code pendingDeltas} and returns {@code list} updated with
+     * them. Each added, removed or replaced element costs O(log n); a change that replaces the whole list or reorders
+     * it is handled by copying the resulting list instead, and makes the pending revision unreplayable.
+     */
+    private <E> PersistentList<E> record(PersistentList<E> list, ListChangeListener.Change<? extends E> change,
+                                         List<ListDelta<E>> pendingDeltas) {
+        Optional<List<ListDelta<E>>> deltas = ListDelta.of(change);
+        if (!deltas.isPresent()) {
+            pendingRevision.markUnreplayable();
+            return PersistentList.copyOf(change.getList());
+        }
+
+        PersistentList<E> updated = list;
+        for (ListDelta<E> delta : deltas.get()) {
+            updated = delta.applyTo(updated);
+            if (pendingRevision.isReplayable()) {
+                pendingDeltas.add(delta);
+            }
+        }
+        return updated;
+    }
+
+    //// history budget
+
+    /**
+     * Returns the state at {@code index}, reading it back from the history file if it has been spilled.
+     */
+    private AddressBookSnapshot loadState(int index) throws IOException {
+        SavedState savedState = addressBookStateList.get(index);
+        if (savedState.snapshot != null) {
+            return savedState.snapshot;
+        }
+
+        AddressBookSnapshot snapshot = historyFile.read(savedState.spillPosition);
+        savedState.snapshot = snapshot;
+        // a state read back shares nothing with the other states
+        savedState.estimatedBytes = estimateBytes(snapshot);
+        statesInMemory++;
+        bytesInMemory += savedState.estimatedBytes;
+        return snapshot;
+    }
+
+    /**
+     * Appends {@code savedState} to the state list and counts it against the budget.
+     */
+    private void addToMemory(SavedState savedState) {
+        addressBookStateList.add(savedState);
+        statesInMemory++;
+        bytesInMemory += savedState.estimatedBytes;
+    }
+
+    /**
+     * Removes the states in {@code [from, to)} from the state list, moving the current state pointer along with the
+     * remaining states. The undo and redo lists are trimmed to the states that are left.
+     */
+    private void forgetStates(int from, int to) {
+        List<SavedState> forgotten = addressBookStateList.subList(from, to);
+        for (SavedState savedState : forgotten) {
+            if (savedState.snapshot != null) {
+                statesInMemory--;
+                bytesInMemory -= savedState.estimatedBytes;
+            }
+            spilledBytes -= savedState.spillBytes;
+        }
+        forgotten.clear();
+
+        if (currentStatePointer >= to) {
+            currentStatePointer -= to - from;
+        }
+        while (undoList.size() > currentStatePointer) {
+            undoList.remove(undoList.size() - 1);
+        }
+        while (redoList.size() > addressBookStateList.size() - 1 - currentStatePointer) {
+            redoList.remove(redoList.size() - 1);
+        }
+    }
+
+    /**
+     * Spills the states farthest from the current state until the states in memory fit in the history budget, then
+     * forgets the states at the far end of the history until the spilled states fit in the disk budget, and reclaims
+     * the space of forgotten states in the history file.
+     * The current state itself is never spilled or forgotten.
+     */
+    private void enforceBudget() {
+        spillOverBudget();
+        while (spilledBytes > historySettings.getMaxDiskBytes() && addressBookStateList.size() > 1) {
+            // the end farther from the current state goes first, as spilling does
+            if (currentStatePointer >= addressBookStateList.size() - 1 - currentStatePointer) {
+                forgetStates(0, 1);
+            } else {
+                forgetStates(addressBookStateList.size() - 1, addressBookStateList.size());
+            }
+        }
+        compactHistoryFile();
+    }
+
+    private void spillOverBudget() {
+        while (canSpill && (statesInMemory > historySettings.getMaxStates()
+                || bytesInMemory > historySettings.getMaxBytes())) {
+            int farthest = -1;
+            for (int i = 0; i < addressBookStateList.size(); i++) {
+                boolean isCandidate = i != currentStatePointer && addressBookStateList.get(i).snapshot != null;
+                if (isCandidate && (farthest == -1
+                        || Math.abs(i - currentStatePointer) > Math.abs(farthest - currentStatePointer))) {
+                    farthest = i;
+                }
+            }
+            if (farthest == -1) {
+                return;
+            }
+            spill(addressBookStateList.get(farthest));
+        }
+    }
+
+    /**
+     * Writes {@code savedState} to the history file, unless it is there already, and drops it from memory.
+     * If the history file cannot be written, spilling is disabled and the states are kept in memory.
+     */
+    private void spill(SavedState savedState) {
+        try {
+            if (savedState.spillPosition < 0) {
+                savedState.spillPosition = historyFile.write(savedState.snapshot);
+                savedState.spillBytes = historyFile.size() - savedState.spillPosition;
+                spilledBytes += savedState.spillBytes;
+            }
+        } catch (IOException ioe) {
+            logger.warning("Could not spill undo history to disk, keeping it in memory: " + ioe);
+            canSpill = false;
+            return;
+        }
+
+        savedState.snapshot = null;
+        // the recorded changes refer to the data being dropped, so this state is restored in full from now on
+        savedState.revision.markUnreplayable();
+        statesInMemory--;
+        bytesInMemory -= savedState.estimatedBytes;
+    }
+
+    /**
+     * Rewrites the history file with only the records of the states still in the state list, once at least half of
+     * it holds the records of forgotten states, or deletes it once it holds none of the states.
+     * Each record is copied only once the file has at least doubled since it was last compacted, so compacting costs
+     * about as much as spilling did.
+     */
+    private void compactHistoryFile() {
+        if (historyFile.size() == 0 || spilledBytes > historyFile.size() / 2) {
+            return;
+        }
+        List<SavedState> spilled = new ArrayList<>();
+        for (SavedState savedState : addressBookStateList) {
+            if (savedState.spillPosition >= 0) {
+                spilled.add(savedState);
+            }
+        }
+        try {
+            long[] positions = historyFile.compact(spilled.stream().mapToLong(state -> state.spillPosition).toArray());
+            for (int i = 0; i < spilled.size(); i++) {
+                spilled.get(i).spillPosition = positions[i];
+            }
+        } catch (IOException ioe) {
+            // the records are still where they were, so only the space is lost
+            logger.warning("Could not compact undo history on disk: " + ioe);
+        }
+    }
+
+    private static long estimateBytes(AddressBookSnapshot snapshot) {
+        return (snapshot.getParticipants().size() + snapshot.getGroups().size() + snapshot.getHouses().size())
+                * ESTIMATED_BYTES_PER_ELEMENT;
+    }
+
+    /**
+     * Returns the number of bytes in the history file, including the records of forgotten states.
+     */
+    long getHistoryFileSize() {
+        return historyFile.size();
+    }
+
     /**
      * Returns true if {@code undo()} has address book states to undo.
      */
@@ -130,10 +409,125 @@ public class VersionedAddressBook extends AddressBook {
 
         // state check
         return super.equals(otherVersionedAddressBook)
-                && addressBookStateList.equals(otherVersionedAddressBook.addressBookStateList)
+                && hasSameStates(otherVersionedAddressBook)
                 && currentStatePointer == otherVersionedAddressBook.currentStatePointer;
     }
 
+    /**
+     * Returns true if {@code other} has saved the same states as this address book.
+     * States that cannot be read back from the history file are not considered the same as any other state.
+     */
+    private boolean hasSameStates(VersionedAddressBook other) {
+        if (addressBookStateList.size() != other.addressBookStateList.size()) {
+            return false;
+        }
+        try {
+            for (int i = 0; i < addressBookStateList.size(); i++) {
+                if (!readState(i).equals(other.readState(i))) {
+                    return false;
+                }
+            }
+        } catch (IOException ioe) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the state at {@code index} without bringing it back into memory.
+     */
+    private AddressBookSnapshot readState(int index) throws IOException {
+        SavedState savedState = addressBookStateList.get(index);
+        return savedState.snapshot != null ? savedState.snapshot : historyFile.read(savedState.spillPosition);
+    }
+
+    /**
+     * A saved state together with the changes that led to it from the state before.
+     * Its snapshot is null while the state is spilled to the history file.
+     */
+    private static class SavedState {
+        private AddressBookSnapshot snapshot;
+        private long spillPosition = -1;
+        /** The bytes taken up by the record of the state in the history file, or 0 if it has not been spilled. */
+        private long spillBytes;
+        private long estimatedBytes;
+        private final Revision revision;
+
+        SavedState(AddressBookSnapshot snapshot, Revision revision) {
+            this.snapshot = snapshot;
+            this.revision = revision;
+            // a state that was not reached through recorded changes shares nothing with the state before it
+            this.estimatedBytes = revision.isReplayable()
+                    ? revision.size() * ESTIMATED_BYTES_PER_ELEMENT
+                    : estimateBytes(snapshot);
+        }
+    }
+
+    /**
+     * The primitive changes made to each list between two commits, in the order they were made.
+     * Changes to different lists are independent of each other, so each list can be replayed on its own.
+     */
+    private class Revision {
+        private final List<ListDelta<Participant>> participantDeltas = new ArrayList<>();
+        private final List<ListDelta<Group>> groupDeltas = new ArrayList<>();
+        private final List<ListDelta<House>> houseDeltas = new ArrayList<>();
+        private boolean isReplayable = true;
+
+        boolean isReplayable() {
+            return isReplayable;
+        }
+
+        /**
+         * Returns true if no change has been recorded in this revision.
+         */
+        boolean isEmpty() {
+            return isReplayable && participantDeltas.isEmpty() && groupDeltas.isEmpty() && houseDeltas.isEmpty();
+        }
+
+        /**
+         * Returns the number of elements added and removed by the recorded changes.
+         */
+        long size() {
+            return participantDeltas.stream().mapToLong(ListDelta::size).sum()
+                    + groupDeltas.stream().mapToLong(ListDelta::size).sum()
+                    + houseDeltas.stream().mapToLong(ListDelta::size).sum();
+        }
+
+        /**
+         * Discards the recorded changes; the revision can then only be restored from the saved states.
+         */
+        void markUnreplayable() {
+            isReplayable = false;
+            participantDeltas.clear();
+            groupDeltas.clear();
+            houseDeltas.clear();
+        }
+
+        /**
+         * Makes the recorded changes again, in the order they were made.
+         */
+        void redo() {
+            participantDeltas.forEach(delta -> delta.redo(VersionedAddressBook.this::spliceParticipants));
+            groupDeltas.forEach(delta -> delta.redo(VersionedAddressBook.this::spliceGroups));
+            houseDeltas.forEach(delta -> delta.redo(VersionedAddressBook.this::spliceHouses));
+        }
+
+        /**
+         * Reverts the recorded changes, in the reverse order they were made.
+         */
+        void undo() {
+            for (int i = participantDeltas.size() - 1; i >= 0; i--) {
+                participantDeltas.get(i).undo(VersionedAddressBook.this::spliceParticipants);
+            }
+            for (int i = groupDeltas.size() - 1; i >= 0; i--) {
+                groupDeltas.get(i).undo(VersionedAddressBook.this::spliceGroups);
+            }
+            for (int i = houseDeltas.size() - 1; i >= 0; i--) {
+                houseDeltas.get(i).undo(VersionedAddressBook.this::spliceHouses);
+            }
+        }
+    }
+
     /**
      * Thrown when trying to {@code undo()} but can't.
      */
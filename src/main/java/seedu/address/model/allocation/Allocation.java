@@ -0,0 +1,78 @@
+package seedu.address.model.allocation;
+
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.grouping.Group;
+import seedu.address.model.participant.Participant;
+
+/**
+ * An allocation of participants to groups, with how far each group is from a balanced mix of participants, and the
+ * seed that allocates them in the same way again.
+ * Guarantees: immutable.
+ *
+ * @see BalancedAllocator
+ */
+public class Allocation {
+
+    private final List<Participant> participants;
+    private final List<Group> groups;
+    private final int[] groupIndices;
+    private final double[] groupImbalances;
+    private final double imbalance;
+    private final long seed;
+
+    /**
+     * Creates an allocation of the participant at each index of {@code participants} to the group at the same index
+     * of {@code groupIndices}, which indexes {@code groups}. {@code groupImbalances} gives the imbalance of each group,
+     * and {@code imbalance} that of the allocation as a whole. {@code seed} is the seed it was made with.
+     */
+    Allocation(List<Participant> participants, List<Group> groups, int[] groupIndices, double[] groupImbalances,
+               double imbalance, long seed) {
+        this.participants = Collections.unmodifiableList(participants);
+        this.groups = Collections.unmodifiableList(groups);
+        this.groupIndices = groupIndices;
+        this.groupImbalances = groupImbalances;
+        this.imbalance = imbalance;
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the participants allocated, in the order they were given in.
+     */
+    public List<Participant> getParticipants() {
+        return participants;
+    }
+
+    public List<Group> getGroups() {
+        return groups;
+    }
+
+    /**
+     * Returns the group the participant at {@code index} of {@link #getParticipants()} is allocated to.
+     */
+    public Group getGroupOf(int index) {
+        return groups.get(groupIndices[index]);
+    }
+
+    /**
+     * Returns the imbalance of the group at {@code index} of {@link #getGroups()}. 0 is a perfect balance.
+     */
+    public double getGroupImbalance(int index) {
+        return groupImbalances[index];
+    }
+
+    /**
+     * Returns the imbalance of the whole allocation, which is that of all its groups and houses together.
+     */
+    public double getImbalance() {
+        return imbalance;
+    }
+
+    /**
+     * Returns the seed that allocates the same participants to the same groups in the same way again.
+     */
+    public long getSeed() {
+        return seed;
+    }
+}
@@ -0,0 +1,443 @@
+package seedu.address.model.allocation;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.grouping.Group;
+import seedu.address.model.participant.Participant;
+
+/**
+ * Allocates participants to groups so that each group, and each house, is as close as it can be to a sample of all
+ * the participants: about the same share of each sex and of each major, the same spread of ages, and the same number
+ * of OGLs.
+ *
+ * How far a group is from that is its imbalance. For each sex, each major and for being an OGL, it is the square of
+ * the difference between how many of the group's participants have it and how many would for the group's size. For
+ * age, it is the same for the sum of the participants' standardised ages and for the sum of their squares, so that
+ * both the mean and the spread of ages count. The imbalance of a house is worked out the same way from all the
+ * participants of its groups, and that of an allocation is the sum of the imbalances of every group and house.
+ *
+ * The participants are first placed one at a time, OGLs first and then those of the rarest majors, each in the group
+ * with room where it lowers the imbalance most; the group sizes differ by at most one. An OGL only goes to a group
+ * with the fewest OGLs so far, so the numbers of OGLs differ by at most one too, and every group has one if there are
+ * enough. Then pairs of participants of the same role in different groups are swapped for as long as that lowers the
+ * imbalance, which keeps the OGLs of each group however unusual they are. A swap only changes the counts of what the
+ * two participants differ in, so its effect on the imbalance is worked out in constant time.
+ *
+ * Everything random in an allocation comes from its seed, so the same seed allocates the same participants to the same
+ * groups in the same way again. Several allocations with different seeds can be tried in parallel, keeping the best.
+ */
+public class BalancedAllocator {
+
+    private static final Logger logger = LogsCenter.getLogger(BalancedAllocator.class);
+
+    /** An OGL too many or too few in a group counts as much as this many participants of another sex or major. */
+    private static final double OGL_WEIGHT = 4;
+    /** Swaps are tried until this many times as many swaps as there are participants in a row do not help. */
+    private static final int PATIENCE = 10;
+    /** At most this many times as many swaps as there are participants are tried. */
+    private static final int MAX_ATTEMPTS = 100;
+    /** Changes to the imbalance smaller than this are taken as rounding errors. */
+    private static final double EPSILON = 1e-9;
+
+    private final List<Group> groups;
+    private final int[] houseOfGroup;
+    private final int houseCount;
+    private final int today;
+
+    /**
+     * Creates an allocator to {@code groups}, which must not be empty, that works out ages on {@code today}, given
+     * as the number yyyymmdd.
+     */
+    public BalancedAllocator(List<Group> groups, int today) {
+        requireNonNull(groups);
+        checkArgument(!groups.isEmpty(), "There must be a group to allocate participants to");
+        this.groups = new ArrayList<>(groups);
+        this.today = today;
+
+        Map<String, Integer> houseIndices = new HashMap<>();
+        houseOfGroup = new int[groups.size()];
+        for (int g = 0; g < groups.size(); g++) {
+            String houseName = String.valueOf(groups.get(g).getHouseName());
+            if (!houseIndices.containsKey(houseName)) {
+                houseIndices.put(houseName, houseIndices.size());
+            }
+            houseOfGroup[g] = houseIndices.get(houseName);
+        }
+        houseCount = houseIndices.size();
+    }
+
+    /**
+     * Allocates {@code freshmen} and {@code ogls} to the groups, breaking ties and choosing the swaps to try with a
+     * random number generator seeded with {@code seed}.
+     */
+    public Allocation allocate(List<Participant> freshmen, List<Participant> ogls, long seed) {
+        requireAllNonNull(freshmen, ogls);
+        List<Participant> participants = new ArrayList<>(freshmen);
+        participants.addAll(ogls);
+        Search search = new Search(participants, ogls.size(), new Random(seed));
+        search.placeGreedily();
+        search.swapWhileBetter();
+        return search.toAllocation(seed);
+    }
+
+    /**
+     * Allocates {@code freshmen} and {@code ogls} with seeds derived from {@code seed}, one at a time on each core,
+     * and returns the allocation with the least imbalance. Each core starts another allocation until {@code budget}
+     * has passed, and finishes every allocation it starts, so that the result can be replayed with
+     * {@link #allocate(List, List, long)} and its seed.
+     */
+    public Allocation allocateWithin(List<Participant> freshmen, List<Participant> ogls, long seed, Duration budget) {
+        requireAllNonNull(freshmen, ogls, budget);
+        long start = System.nanoTime();
+        long deadline = start + budget.toNanos();
+        AtomicLong attempts = new AtomicLong();
+        // each task runs on its own worker of the common fork-join pool, or on the calling thread
+        Allocation best = IntStream.range(0, Runtime.getRuntime().availableProcessors()).parallel()
+                .mapToObj(core -> {
+                    Allocation bestOfCore = null;
+                    do {
+                        Allocation allocation = allocate(freshmen, ogls, seedOf(seed, attempts.getAndIncrement()));
+                        bestOfCore = bestOfCore == null ? allocation : better(bestOfCore, allocation);
+                    } while (System.nanoTime() < deadline);
+                    return bestOfCore;
+                })
+                .reduce(BalancedAllocator::better)
+                .get();
+        logger.fine(String.format("Tried %d allocations in %d ms, best imbalance %.2f from seed %d", attempts.get(),
+                (System.nanoTime() - start) / 1_000_000, best.getImbalance(), best.getSeed()));
+        return best;
+    }
+
+    /**
+     * Returns the seed of the allocation numbered {@code attempt} of those derived from {@code seed}. Consecutive
+     * attempts get unrelated seeds, so that their random number generators do not follow each other.
+     */
+    static long seedOf(long seed, long attempt) {
+        long mixed = seed + (attempt + 1) * 0x9E3779B97F4A7C15L;
+        mixed = (mixed ^ (mixed >>> 30)) * 0xBF58476D1CE4E5B9L;
+        mixed = (mixed ^ (mixed >>> 27)) * 0x94D049BB133111EBL;
+        return mixed ^ (mixed >>> 31);
+    }
+
+    /**
+     * Returns the allocation with the least imbalance, or the one with the smaller seed if they are as balanced, so
+     * that the result does not depend on which allocation finished first.
+     */
+    private static Allocation better(Allocation first, Allocation second) {
+        int comparison = Double.compare(first.getImbalance(), second.getImbalance());
+        if (comparison == 0) {
+            comparison = Long.compare(first.getSeed(), second.getSeed());
+        }
+        return comparison <= 0 ? first : second;
+    }
+
+    /**
+     * The state of one allocation of some participants. Each participant has a one for its sex, its major and, if it
+     * is an OGL, for being an OGL, and its standardised age and the square of that; each group and house keeps the
+     * difference between the sums of these over its participants and what they would be for its size.
+     */
+    private final class Search {
+        private final List<Participant> participants;
+        private final Random random;
+
+        private final int[] sexFeature;
+        private final int[] majorFeature;
+        private final boolean[] isOgl;
+        private final int oglCount;
+        private final double[] age;
+        private final int oglFeature;
+        private final int ageFeature;
+        private final int ageSquareFeature;
+        private final double[] weights;
+
+        private final int[] capacities;
+        private final int[] groupOrder;
+        private final double[][] groupDeviations;
+        private final double[][] houseDeviations;
+        private final int[] groupOf;
+
+        /**
+         * Sets up the allocation of {@code participants}, the last {@code oglCount} of which are the OGLs.
+         */
+        Search(List<Participant> participants, int oglCount, Random random) {
+            this.participants = participants;
+            this.random = random;
+            this.oglCount = oglCount;
+            int n = participants.size();
+
+            Map<String, Integer> sexes = new HashMap<>();
+            Map<String, Integer> majors = new HashMap<>();
+            for (Participant participant : participants) {
+                sexes.putIfAbsent(sexOf(participant), sexes.size());
+                majors.putIfAbsent(participant.getMajor().value, majors.size());
+            }
+            oglFeature = sexes.size() + majors.size();
+            ageFeature = oglFeature + 1;
+            ageSquareFeature = oglFeature + 2;
+            weights = new double[oglFeature + 3];
+            Arrays.fill(weights, 1);
+            weights[oglFeature] = OGL_WEIGHT;
+
+            sexFeature = new int[n];
+            majorFeature = new int[n];
+            isOgl = new boolean[n];
+            age = new double[n];
+            for (int i = 0; i < n; i++) {
+                Participant participant = participants.get(i);
+                sexFeature[i] = sexes.get(sexOf(participant));
+                majorFeature[i] = sexes.size() + majors.get(participant.getMajor().value);
+                isOgl[i] = i >= n - oglCount;
+            }
+            standardiseAges();
+
+            double[] means = new double[weights.length];
+            for (int i = 0; i < n; i++) {
+                means[sexFeature[i]]++;
+                means[majorFeature[i]]++;
+                means[oglFeature] += isOgl[i] ? 1 : 0;
+                means[ageFeature] += age[i];
+                means[ageSquareFeature] += age[i] * age[i];
+            }
+            for (int f = 0; f < means.length; f++) {
+                means[f] /= Math.max(1, n);
+            }
+
+            int groupCount = groups.size();
+            groupOrder = shuffledIndices(groupCount);
+            capacities = new int[groupCount];
+            for (int k = 0; k < groupCount; k++) {
+                capacities[groupOrder[k]] = n / groupCount + (k < n % groupCount ? 1 : 0);
+            }
+            groupDeviations = new double[groupCount][weights.length];
+            houseDeviations = new double[houseCount][weights.length];
+            for (int g = 0; g < groupCount; g++) {
+                for (int f = 0; f < weights.length; f++) {
+                    groupDeviations[g][f] = -capacities[g] * means[f];
+                    houseDeviations[houseOfGroup[g]][f] -= capacities[g] * means[f];
+                }
+            }
+            groupOf = new int[n];
+        }
+
+        /**
+         * Places every participant, OGLs first and then those of the rarest majors, in the group with room where it
+         * lowers the imbalance most. OGLs only go to the groups with room that have the fewest OGLs.
+         */
+        void placeGreedily() {
+            int[] majorCounts = new int[weights.length];
+            Arrays.stream(majorFeature).forEach(feature -> majorCounts[feature]++);
+            List<Integer> order = new ArrayList<>();
+            for (int i : shuffledIndices(participants.size())) {
+                order.add(i);
+            }
+            order.sort(Comparator.comparing((Integer i) -> !isOgl[i])
+                    .thenComparingInt(i -> majorCounts[majorFeature[i]]));
+
+            int[] sizes = new int[groups.size()];
+            int[] oglCounts = new int[groups.size()];
+            for (int i : order) {
+                int fewestOgls = Integer.MAX_VALUE;
+                for (int g = 0; g < groups.size(); g++) {
+                    if (sizes[g] < capacities[g]) {
+                        fewestOgls = Math.min(fewestOgls, oglCounts[g]);
+                    }
+                }
+
+                int best = -1;
+                double bestDelta = Double.POSITIVE_INFINITY;
+                for (int g : groupOrder) {
+                    if (sizes[g] == capacities[g] || (isOgl[i] && oglCounts[g] > fewestOgls)) {
+                        continue;
+                    }
+                    double delta = addDelta(groupDeviations[g], i) + addDelta(houseDeviations[houseOfGroup[g]], i);
+                    if (delta < bestDelta - EPSILON) {
+                        best = g;
+                        bestDelta = delta;
+                    }
+                }
+                groupOf[i] = best;
+                sizes[best]++;
+                oglCounts[best] += isOgl[i] ? 1 : 0;
+                add(groupDeviations[best], i, 1);
+                add(houseDeviations[houseOfGroup[best]], i, 1);
+            }
+        }
+
+        /**
+         * Swaps random pairs of participants of the same role in different groups whenever that lowers the imbalance,
+         * until swaps stop helping.
+         */
+        void swapWhileBetter() {
+            int n = participants.size();
+            int freshmanCount = n - oglCount;
+            long maxAttempts = (long) MAX_ATTEMPTS * n;
+            long patience = (long) PATIENCE * n;
+            long sinceImprovement = 0;
+            for (long attempt = 0; attempt < maxAttempts && sinceImprovement < patience; attempt++) {
+                int a = random.nextInt(n);
+                // an OGL is only swapped with another OGL, so that no group is left without one
+                int b = isOgl[a] ? freshmanCount + random.nextInt(oglCount) : random.nextInt(freshmanCount);
+                int g = groupOf[a];
+                int h = groupOf[b];
+                if (g == h) {
+                    sinceImprovement++;
+                    continue;
+                }
+
+                double delta = replaceDelta(groupDeviations[g], a, b) + replaceDelta(groupDeviations[h], b, a);
+                boolean isAcrossHouses = houseOfGroup[g] != houseOfGroup[h];
+                if (isAcrossHouses) {
+                    delta += replaceDelta(houseDeviations[houseOfGroup[g]], a, b)
+                            + replaceDelta(houseDeviations[houseOfGroup[h]], b, a);
+                }
+                if (delta >= -EPSILON) {
+                    sinceImprovement++;
+                    continue;
+                }
+
+                move(groupDeviations[g], groupDeviations[h], a);
+                move(groupDeviations[h], groupDeviations[g], b);
+                if (isAcrossHouses) {
+                    move(houseDeviations[houseOfGroup[g]], houseDeviations[houseOfGroup[h]], a);
+                    move(houseDeviations[houseOfGroup[h]], houseDeviations[houseOfGroup[g]], b);
+                }
+                groupOf[a] = h;
+                groupOf[b] = g;
+                sinceImprovement = 0;
+            }
+        }
+
+        Allocation toAllocation(long seed) {
+            double[] groupImbalances = new double[groups.size()];
+            double imbalance = 0;
+            for (int g = 0; g < groups.size(); g++) {
+                groupImbalances[g] = imbalanceOf(groupDeviations[g]);
+                imbalance += groupImbalances[g];
+            }
+            for (double[] deviations : houseDeviations) {
+                imbalance += imbalanceOf(deviations);
+            }
+            return new Allocation(participants, groups, groupOf.clone(), groupImbalances, imbalance, seed);
+        }
+
+        /**
+         * Replaces each known age with how many standard deviations it is from the mean age. Participants without a
+         * birthday count as being of the mean age.
+         */
+        private void standardiseAges() {
+            double sum = 0;
+            double sumOfSquares = 0;
+            int known = 0;
+            for (int i = 0; i < participants.size(); i++) {
+                Participant participant = participants.get(i);
+                if (participant.getBirthday() != null) {
+                    age[i] = participant.getBirthday().getAgeInYears(today);
+                    sum += age[i];
+                    sumOfSquares += age[i] * age[i];
+                    known++;
+                }
+            }
+            double mean = sum / Math.max(1, known);
+            double deviation = Math.sqrt(Math.max(0, sumOfSquares / Math.max(1, known) - mean * mean));
+            for (int i = 0; i < participants.size(); i++) {
+                boolean hasAge = participants.get(i).getBirthday() != null && deviation > 0;
+                age[i] = hasAge ? (age[i] - mean) / deviation : 0;
+            }
+        }
+
+        /**
+         * Returns how much the imbalance of {@code deviations} changes if participant {@code i} is added.
+         */
+        private double addDelta(double[] deviations, int i) {
+            double delta = change(deviations, sexFeature[i], 1) + change(deviations, majorFeature[i], 1);
+            if (isOgl[i]) {
+                delta += change(deviations, oglFeature, 1);
+            }
+            return delta + change(deviations, ageFeature, age[i])
+                    + change(deviations, ageSquareFeature, age[i] * age[i]);
+        }
+
+        /**
+         * Returns how much the imbalance of {@code deviations} changes if participant {@code out} is replaced by
+         * participant {@code in}.
+         */
+        private double replaceDelta(double[] deviations, int out, int in) {
+            double delta = 0;
+            if (sexFeature[out] != sexFeature[in]) {
+                delta += change(deviations, sexFeature[out], -1) + change(deviations, sexFeature[in], 1);
+            }
+            if (majorFeature[out] != majorFeature[in]) {
+                delta += change(deviations, majorFeature[out], -1) + change(deviations, majorFeature[in], 1);
+            }
+            if (isOgl[out] != isOgl[in]) {
+                delta += change(deviations, oglFeature, isOgl[in] ? 1 : -1);
+            }
+            return delta + change(deviations, ageFeature, age[in] - age[out])
+                    + change(deviations, ageSquareFeature, age[in] * age[in] - age[out] * age[out]);
+        }
+
+        /**
+         * Returns how much the imbalance of {@code deviations} changes if that of feature {@code f} changes by
+         * {@code by}.
+         */
+        private double change(double[] deviations, int f, double by) {
+            return weights[f] * by * (2 * deviations[f] + by);
+        }
+
+        /**
+         * Moves participant {@code i} from the group or house with {@code from} deviations to the one with {@code to}.
+         */
+        private void move(double[] from, double[] to, int i) {
+            add(from, i, -1);
+            add(to, i, 1);
+        }
+
+        /**
+         * Adds participant {@code i}, {@code sign} times, to {@code deviations}.
+         */
+        private void add(double[] deviations, int i, int sign) {
+            deviations[sexFeature[i]] += sign;
+            deviations[majorFeature[i]] += sign;
+            deviations[oglFeature] += isOgl[i] ? sign : 0;
+            deviations[ageFeature] += sign * age[i];
+            deviations[ageSquareFeature] += sign * age[i] * age[i];
+        }
+
+        private double imbalanceOf(double[] deviations) {
+            double imbalance = 0;
+            for (int f = 0; f < deviations.length; f++) {
+                imbalance += weights[f] * deviations[f] * deviations[f];
+            }
+            return imbalance;
+        }
+
+        private int[] shuffledIndices(int count) {
+            List<Integer> indices = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                indices.add(i);
+            }
+            Collections.shuffle(indices, random);
+            return indices.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        private String sexOf(Participant participant) {
+            return participant.getSex() == null ? "" : participant.getSex().value;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package seedu.address.model.allocation;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import seedu.address.model.grouping.Group;
+import seedu.address.model.participant.Participant;
+
+/**
+ * Evens out how many freshmen and how many OGLs each group has while moving as few participants as possible, so that
+ * an allocation survives late registrations and new groups without everyone having to be told a new group.
+ *
+ * For each role, the number of its participants in every group is made to differ by at most one. Participants who are
+ * in none of the groups, such as those who registered late, always have to be placed. The groups that keep one
+ * participant more than the others are those that already have the most, so a group only loses participants if it has
+ * more than it can keep; the participants it loses are the last registered. This moves the fewest participants that
+ * any even allocation does.
+ *
+ * The participants to place go one at a time to the group with the fewest of their role that is still short of what
+ * it should have, found with a min-heap of the groups in O(log g) for g groups. Freshmen are placed after OGLs, and
+ * ties go to the group with fewer participants in all.
+ */
+public class IncrementalAllocator {
+
+    private final List<Group> groups;
+    private final Map<String, Integer> groupIndices = new HashMap<>();
+
+    /**
+     * Creates an allocator to {@code groups}, which must not be empty.
+     */
+    public IncrementalAllocator(List<Group> groups) {
+        requireNonNull(groups);
+        checkArgument(!groups.isEmpty(), "There must be a group to allocate participants to");
+        this.groups = new ArrayList<>(groups);
+        for (int g = 0; g < groups.size(); g++) {
+            groupIndices.put(groups.get(g).getGroupName(), g);
+        }
+    }
+
+    /**
+     * Returns the participants of {@code freshmen} and {@code ogls} that have to move, in the order given, each with
+     * the group to move to. Each list is in the order the participants registered in.
+     */
+    public Map<Participant, Group> rebalance(List<Participant> freshmen, List<Participant> ogls) {
+        requireAllNonNull(freshmen, ogls);
+        int[] sizes = new int[groups.size()];
+        for (Participant participant : freshmen) {
+            addTo(sizes, groupIndexOf(participant));
+        }
+        for (Participant participant : ogls) {
+            addTo(sizes, groupIndexOf(participant));
+        }
+
+        Map<Participant, Group> moves = new LinkedHashMap<>();
+        rebalanceRole(ogls, sizes, moves);
+        rebalanceRole(freshmen, sizes, moves);
+        return moves;
+    }
+
+    /**
+     * Adds to {@code moves} the moves that even out how many of {@code participants}, who have the same role, each
+     * group has. {@code sizes} holds how many participants of any role each group has, and is kept up to date.
+     */
+    private void rebalanceRole(List<Participant> participants, int[] sizes, Map<Participant, Group> moves) {
+        int groupCount = groups.size();
+        List<List<Participant>> members = new ArrayList<>();
+        for (int g = 0; g < groupCount; g++) {
+            members.add(new ArrayList<>());
+        }
+        List<Participant> toPlace = new ArrayList<>();
+        for (Participant participant : participants) {
+            Integer g = groupIndexOf(participant);
+            if (g == null) {
+                toPlace.add(participant);
+            } else {
+                members.get(g).add(participant);
+            }
+        }
+
+        // the groups with the most participants of this role keep the extra ones
+        int[] counts = members.stream().mapToInt(List::size).toArray();
+        List<Integer> byCount = new ArrayList<>();
+        for (int g = 0; g < groupCount; g++) {
+            byCount.add(g);
+        }
+        byCount.sort(Comparator.<Integer>comparingInt(g -> -counts[g]).thenComparingInt(g -> sizes[g]));
+        int[] targets = new int[groupCount];
+        for (int rank = 0; rank < groupCount; rank++) {
+            int g = byCount.get(rank);
+            targets[g] = participants.size() / groupCount + (rank < participants.size() % groupCount ? 1 : 0);
+        }
+
+        // groups with too many participants lose those who registered last
+        for (int g = 0; g < groupCount; g++) {
+            List<Participant> groupMembers = members.get(g);
+            while (counts[g] > targets[g]) {
+                toPlace.add(groupMembers.remove(--counts[g]));
+                sizes[g]--;
+            }
+        }
+
+        PriorityQueue<Integer> shortGroups = new PriorityQueue<>(Comparator.<Integer>comparingInt(g -> counts[g])
+                .thenComparingInt(g -> sizes[g]).thenComparingInt(g -> g));
+        for (int g = 0; g < groupCount; g++) {
+            if (counts[g] < targets[g]) {
+                shortGroups.add(g);
+            }
+        }
+        for (Participant participant : toPlace) {
+            int g = shortGroups.remove();
+            counts[g]++;
+            sizes[g]++;
+            moves.put(participant, groups.get(g));
+            if (counts[g] < targets[g]) {
+                shortGroups.add(g);
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the group of {@code participant}, or null if it is in none of the groups or has no group.
+     */
+    private Integer groupIndexOf(Participant participant) {
+        return participant.getGroup() == null ? null : groupIndices.get(participant.getGroup().getGroupName());
+    }
+
+    private static void addTo(int[] sizes, Integer groupIndex) {
+        if (groupIndex != null) {
+            sizes[groupIndex]++;
+        }
+    }
+}
@@ -2,15 +2,15 @@ package seedu.address.model.grouping;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.model.participant.Participant;
+import seedu.address.model.participant.ThreadSafeParticipantPredicate;
 
 /**
 * Tests that a {@code Participant}'s {@code Group} group name matches the group name given.
 */
-public class FindGroupPredicate implements Predicate<Participant> {
+public class FindGroupPredicate implements ThreadSafeParticipantPredicate {
 
     private final List<String> keywords;
     private List<String> emptyString = Arrays.asList("EMPTY");
@@ -34,4 +34,9 @@ public class FindGroupPredicate implements Predicate<Participant> {
                 || (other instanceof FindGroupPredicate // instanceof handles nulls
                 && keywords.equals(((FindGroupPredicate) other).keywords)); // state check
     }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
 }
@@ -4,12 +4,11 @@ import java.util.List;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
-import seedu.address.model.participant.Participant;
 
 /**
- * Tests that a {@code Participant}'s {@code Group} house name matches the house name given.
+ * Tests that a {@code Group}'s house name matches the house name given.
  */
-public class FindHousePredicate implements Predicate<Participant> {
+public class FindHousePredicate implements Predicate<Group> {
 
     private final List<String> keywords;
 
@@ -18,12 +17,12 @@ public class FindHousePredicate implements Predicate<Participant> {
     }
 
     @Override
-    public boolean test(Participant participant) {
-        if (participant.getGroup().getGroupName().isEmpty()) {
+    public boolean test(Group group) {
+        if (group.getGroupName().isEmpty() || group.getHouseName() == null) {
             return false;
         }
         return keywords.stream()
-                .allMatch(keyword-> StringUtil.containsWordIgnoreCase(participant.getGroup().getHouseName(), keyword));
+                .allMatch(keyword-> StringUtil.containsWordIgnoreCase(group.getHouseName(), keyword));
     }
 
     @Override
@@ -1,15 +1,22 @@
 package seedu.address.model.grouping;
 
+import seedu.address.commons.util.InternTable;
+
 /**
  * Represents a participant's camp grouping
  * Can only be created within a house that has already been created.
+ * Groups are immutable. Participants refer to their group by name only, so the house of a group is recorded once,
+ * in the group list of the address book.
  */
 public class Group {
 
     public static final String MESSAGE_CONSTRAINTS = "Group can take any value";
 
-    private String groupName;
-    private String houseName;
+    /** The canonical groups without a house, by name. These are the groups that participants refer to. */
+    private static final InternTable<String, Group> groupsWithoutHouse = new InternTable<>(Group::new);
+
+    private final String groupName;
+    private final String houseName;
 
     public Group(String groupName) {
         this(groupName, null);
@@ -20,6 +27,13 @@ public class Group {
         this.groupName = groupName;
     }
 
+    /**
+     * Returns the canonical group named {@code groupName} that does not record its house.
+     */
+    public static Group of(String groupName) {
+        return groupsWithoutHouse.get(groupName);
+    }
+
     public String getGroupName() {
         return groupName;
     }
@@ -46,8 +60,11 @@ public class Group {
         return houseName;
     }
 
-    public void setHouseName(String houseName) {
-        this.houseName = houseName;
+    /**
+     * Returns a group with the same name as this group that does not record its house.
+     */
+    public Group withoutHouse() {
+        return of(groupName);
     }
 
     // ========= Participants Operations =========
@@ -62,4 +79,9 @@ public class Group {
                 || (other instanceof Group // instanceof handles nulls
                 && this.getGroupName().equals(((Group) other).getGroupName())); // state check
     }
+
+    @Override
+    public int hashCode() {
+        return groupName.hashCode();
+    }
 }
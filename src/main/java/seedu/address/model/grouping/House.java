@@ -2,11 +2,12 @@ package seedu.address.model.grouping;
 
 /**
  * Represents a house in a camp.
+ * Houses are immutable; renaming a house replaces it.
  */
 
 public class House {
 
-    private String houseName;
+    private final String houseName;
 
     /**
      * Constructs an {@code House}.
@@ -19,10 +20,6 @@ public class House {
         return houseName;
     }
 
-    public void setHouseName(String houseName) {
-        this.houseName = houseName;
-    }
-
     /**
      * Returns true if both houses of the same name have at least one other identity field that is the same.
      * This defines a weaker notion of equality between two houses.
@@ -42,4 +39,9 @@ public class House {
                 || (obj instanceof House // instanceof handles nulls
                 && this.getHouseName().equals(((House) obj).getHouseName())); // state check
     }
+
+    @Override
+    public int hashCode() {
+        return houseName.hashCode();
+    }
 }
@@ -1,10 +1,17 @@
 package seedu.address.model.grouping;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.isSameElements;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -22,6 +29,9 @@ import seedu.address.model.participant.exceptions.ParticipantNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Groups are also indexed by name and by house, and their positions are kept, so finding, replacing or removing a
+ * group, or finding the groups of a house, does not scan the list.
+ *
  * @see Group#isSameGroup(Group)
  */
 public class UniqueGroupList implements Iterable<Group> {
@@ -29,13 +39,39 @@ public class UniqueGroupList implements Iterable<Group> {
     private final ObservableList<Group> internalList = FXCollections.observableArrayList();
     private final ObservableList<Group> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    /** The list that changes are made to: {@code internalList} itself, or a buffer while a batch is open. */
+    private List<Group> workingList = internalList;
+
+    /** Maps the name of every group in the list to that group. */
+    private final Map<String, Group> groupsByName = new HashMap<>();
+    /** Maps every house name to the groups in that house, by group name, in the order they were added. */
+    private final Map<String, Map<String, Group>> groupsByHouse = new HashMap<>();
+    /** Maps the name of every group in the list to its position in {@code workingList}. */
+    private final Map<String, Integer> positions = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent group as the given argument.
      */
     public boolean contains(Group toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameGroup);
+        return groupsByName.containsKey(toCheck.getGroupName());
+    }
+
+    /**
+     * Returns the group in the list named {@code groupName}, if there is one.
+     */
+    public Optional<Group> findByName(String groupName) {
+        requireNonNull(groupName);
+        return Optional.ofNullable(groupsByName.get(groupName));
+    }
+
+    /**
+     * Returns the groups in the list that are in the house named {@code houseName}.
+     */
+    public List<Group> getGroupsInHouse(String houseName) {
+        requireNonNull(houseName);
+        Map<String, Group> groupsInHouse = groupsByHouse.get(houseName);
+        return groupsInHouse == null ? new ArrayList<>() : new ArrayList<>(groupsInHouse.values());
     }
 
     /**
@@ -47,7 +83,9 @@ public class UniqueGroupList implements Iterable<Group> {
         if (contains(toAdd)) {
             throw new DuplicateParticipantException();
         }
-        internalList.add(toAdd);
+        addToIndex(toAdd);
+        positions.put(toAdd.getGroupName(), workingList.size());
+        workingList.add(toAdd);
     }
 
     /**
@@ -58,8 +96,8 @@ public class UniqueGroupList implements Iterable<Group> {
     public void setGroup(Group target, Group editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Group stored = groupsByName.get(target.getGroupName());
+        if (stored == null) {
             throw new ParticipantNotFoundException();
         }
 
@@ -67,12 +105,21 @@ public class UniqueGroupList implements Iterable<Group> {
             throw new DuplicateParticipantException();
         }
 
-        internalList.set(index, editedPerson);
+        int index = positions.remove(stored.getGroupName());
+        removeFromIndex(stored);
+        addToIndex(editedPerson);
+        positions.put(editedPerson.getGroupName(), index);
+        workingList.set(index, editedPerson);
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     * {@code replacement} already guarantees uniqueness, so it is not validated again.
+     */
     public void setGroup(UniqueGroupList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        replaceWorkingList(replacement.workingList);
+        rebuildIndex();
     }
 
     /**
@@ -81,9 +128,14 @@ public class UniqueGroupList implements Iterable<Group> {
      */
     public void remove(Group toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Group stored = groupsByName.get(toRemove.getGroupName());
+        if (stored == null) {
             throw new ParticipantNotFoundException();
         }
+        int index = positions.remove(stored.getGroupName());
+        removeFromIndex(stored);
+        workingList.remove(index);
+        recordPositions(index, workingList.size());
     }
 
     /**
@@ -92,25 +144,101 @@ public class UniqueGroupList implements Iterable<Group> {
      */
     public void setGroups(List<Group> groups) {
         requireAllNonNull(groups);
-        if (!groupsAreUnique(groups)) {
-            throw new DuplicateParticipantException();
-        }
+        requireUniqueGroups(groups);
 
-        internalList.setAll(groups);
+        replaceWorkingList(groups);
+        rebuildIndex();
     }
 
     /**
-     * Gets a group in the list based on the group name
-     * Group name must exist in the list
+     * Returns the group in the list with the same name as {@code toFind}, which carries the name of its house,
+     * or {@code toFind} itself if there is no such group.
      */
     public Group getGroup(Group toFind) {
-        Group newGroup = toFind;
-        for (int i = 0; i < internalList.size(); i++) {
-            if (internalList.get(i).getGroupName().equals(toFind.getGroupName())) {
-                newGroup.setHouseName(internalList.get(i).getHouseName());
+        requireNonNull(toFind);
+        return findByName(toFind.getGroupName()).orElse(toFind);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code groups} without checking them for duplicates.
+     * Only for groups that are already known to be unique, such as those of a saved address book state.
+     */
+    public void setUniqueGroups(List<Group> groups) {
+        requireNonNull(groups);
+        replaceWorkingList(groups);
+        rebuildIndex();
+    }
+
+    /**
+     * Replaces the groups in {@code [from, to)} with {@code replacement} without checking them for duplicates.
+     * Only for changes that are already known to keep the list unique, such as replaying the address book history.
+     * A change that keeps the number of groups is made one element at a time, so listeners see single replacements.
+     */
+    public void spliceUnique(int from, int to, List<Group> replacement) {
+        requireNonNull(replacement);
+        for (int i = from; i < to; i++) {
+            positions.remove(workingList.get(i).getGroupName());
+            removeFromIndex(workingList.get(i));
+        }
+        replacement.forEach(this::addToIndex);
+
+        if (to - from == replacement.size()) {
+            for (int i = 0; i < replacement.size(); i++) {
+                workingList.set(from + i, replacement.get(i));
+            }
+            recordPositions(from, to);
+        } else {
+            workingList.subList(from, to).clear();
+            workingList.addAll(from, replacement);
+            // the groups after the change move too
+            recordPositions(from, workingList.size());
+        }
+    }
+
+    /**
+     * Starts buffering the changes to this list. Until {@link #endBatch()}, the list can be changed and queried as
+     * usual, but the observable list keeps showing the groups as they were when the batch began.
+     */
+    public void beginBatch() {
+        if (workingList == internalList) {
+            workingList = new ArrayList<>(internalList);
+        }
+    }
+
+    /**
+     * Applies the changes buffered since {@link #beginBatch()} to the observable list as a single change.
+     */
+    public void endBatch() {
+        if (workingList != internalList) {
+            List<Group> buffered = workingList;
+            workingList = internalList;
+            // compared by identity, as an edited element can equal the one it replaces
+            if (!isSameElements(buffered, internalList)) {
+                internalList.setAll(buffered);
             }
         }
-        return newGroup;
+    }
+
+    /**
+     * Drops the changes buffered since {@link #beginBatch()}, leaving the list as it was when the batch began.
+     */
+    public void abortBatch() {
+        if (workingList != internalList) {
+            workingList = internalList;
+            rebuildIndex();
+        }
+    }
+
+    /**
+     * Replaces the contents of the working list with {@code replacement}.
+     */
+    private void replaceWorkingList(List<Group> replacement) {
+        if (workingList == internalList) {
+            internalList.setAll(replacement);
+        } else {
+            workingList.clear();
+            workingList.addAll(replacement);
+        }
     }
 
     /**
@@ -122,33 +250,82 @@ public class UniqueGroupList implements Iterable<Group> {
 
     @Override
     public Iterator<Group> iterator() {
-        return internalList.iterator();
+        return workingList.iterator();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof UniqueGroupList // instanceof handles nulls
-                && internalList.equals(((UniqueGroupList) other).internalList));
+                && workingList.equals(((UniqueGroupList) other).workingList));
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return workingList.hashCode();
+    }
+
+    /**
+     * Records {@code group} in the indexes.
+     */
+    private void addToIndex(Group group) {
+        groupsByName.put(group.getGroupName(), group);
+        groupsByHouse.computeIfAbsent(group.getHouseName(), unused -> new LinkedHashMap<>())
+                .put(group.getGroupName(), group);
     }
 
     /**
-     * Returns true if {@code groups} contains only unique groups.
+     * Removes {@code group} from the indexes.
      */
-    private boolean groupsAreUnique(List<Group> groups) {
-        for (int i = 0; i < groups.size() - 1; i++) {
-            for (int j = i + 1; j < groups.size(); j++) {
-                if (groups.get(i).isSameGroup(groups.get(j))) {
-                    return false;
-                }
+    private void removeFromIndex(Group group) {
+        groupsByName.remove(group.getGroupName());
+        Map<String, Group> groupsInHouse = groupsByHouse.get(group.getHouseName());
+        if (groupsInHouse != null) {
+            groupsInHouse.remove(group.getGroupName());
+            if (groupsInHouse.isEmpty()) {
+                groupsByHouse.remove(group.getHouseName());
             }
         }
-        return true;
+    }
+
+    /**
+     * Records the positions of the groups in {@code [from, to)} of {@code workingList}.
+     */
+    private void recordPositions(int from, int to) {
+        for (int i = from; i < to; i++) {
+            positions.put(workingList.get(i).getGroupName(), i);
+        }
+    }
+
+    /**
+     * Rebuilds the indexes from the current contents of {@code workingList}.
+     */
+    private void rebuildIndex() {
+        groupsByName.clear();
+        groupsByHouse.clear();
+        positions.clear();
+        workingList.forEach(this::addToIndex);
+        recordPositions(0, workingList.size());
+    }
+
+    /**
+     * Throws a {@code DuplicateParticipantException} naming every group that appears more than once in
+     * {@code groups}, together with its positions.
+     */
+    private static void requireUniqueGroups(List<Group> groups) {
+        Map<String, List<String>> positionsByName = new LinkedHashMap<>();
+        for (int i = 0; i < groups.size(); i++) {
+            positionsByName.computeIfAbsent(groups.get(i).getGroupName(), unused -> new ArrayList<>())
+                    .add("#" + (i + 1));
+        }
+
+        String duplicates = positionsByName.entrySet().stream()
+                .filter(entry -> entry.getValue().size() > 1)
+                .map(entry -> entry.getKey() + " (" + String.join(", ", entry.getValue()) + ")")
+                .collect(Collectors.joining(", "));
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateParticipantException(duplicates);
+        }
     }
 
 }
@@ -1,10 +1,17 @@
 package seedu.address.model.grouping;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.isSameElements;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -22,6 +29,8 @@ import seedu.address.model.participant.exceptions.ParticipantNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Houses are also indexed by name, so finding a house does not scan the list.
+ *
  * @see House#isSameHouse(House)
  */
 public class UniqueHouseList implements Iterable<House> {
@@ -29,13 +38,26 @@ public class UniqueHouseList implements Iterable<House> {
     private final ObservableList<House> internalList = FXCollections.observableArrayList();
     private final ObservableList<House> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    /** The list that changes are made to: {@code internalList} itself, or a buffer while a batch is open. */
+    private List<House> workingList = internalList;
+
+    /** Maps the name of every house in the list to that house. */
+    private final Map<String, House> housesByName = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent house as the given argument.
      */
     public boolean contains(House toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameHouse);
+        return housesByName.containsKey(toCheck.getHouseName());
+    }
+
+    /**
+     * Returns the house in the list named {@code houseName}, if there is one.
+     */
+    public Optional<House> findByName(String houseName) {
+        requireNonNull(houseName);
+        return Optional.ofNullable(housesByName.get(houseName));
     }
 
     /**
@@ -47,7 +69,8 @@ public class UniqueHouseList implements Iterable<House> {
         if (contains(toAdd)) {
             throw new DuplicateParticipantException();
         }
-        internalList.add(toAdd);
+        housesByName.put(toAdd.getHouseName(), toAdd);
+        workingList.add(toAdd);
     }
 
     /**
@@ -58,8 +81,8 @@ public class UniqueHouseList implements Iterable<House> {
     public void setHouse(House target, House editedHouse) {
         requireAllNonNull(target, editedHouse);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        House stored = housesByName.get(target.getHouseName());
+        if (stored == null) {
             throw new ParticipantNotFoundException();
         }
 
@@ -67,7 +90,9 @@ public class UniqueHouseList implements Iterable<House> {
             throw new DuplicateParticipantException();
         }
 
-        internalList.set(index, editedHouse);
+        housesByName.remove(stored.getHouseName());
+        housesByName.put(editedHouse.getHouseName(), editedHouse);
+        workingList.set(workingList.indexOf(stored), editedHouse);
     }
 
     /**
@@ -76,9 +101,11 @@ public class UniqueHouseList implements Iterable<House> {
      */
     public void remove(House toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        House stored = housesByName.remove(toRemove.getHouseName());
+        if (stored == null) {
             throw new ParticipantNotFoundException();
         }
+        workingList.remove(stored);
     }
 
     /**
@@ -87,16 +114,99 @@ public class UniqueHouseList implements Iterable<House> {
      */
     public void setHouses(List<House> houses) {
         requireAllNonNull(houses);
-        if (!housesAreUnique(houses)) {
-            throw new DuplicateParticipantException();
-        }
+        requireUniqueHouses(houses);
 
-        internalList.setAll(houses);
+        replaceWorkingList(houses);
+        rebuildIndex();
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     * {@code replacement} already guarantees uniqueness, so it is not validated again and its index is reused.
+     */
     public void setHouses(UniqueHouseList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        replaceWorkingList(replacement.workingList);
+        housesByName.clear();
+        housesByName.putAll(replacement.housesByName);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code houses} without checking them for duplicates.
+     * Only for houses that are already known to be unique, such as those of a saved address book state.
+     */
+    public void setUniqueHouses(List<House> houses) {
+        requireNonNull(houses);
+        replaceWorkingList(houses);
+        rebuildIndex();
+    }
+
+    /**
+     * Replaces the houses in {@code [from, to)} with {@code replacement} without checking them for duplicates.
+     * Only for changes that are already known to keep the list unique, such as replaying the address book history.
+     * A change that keeps the number of houses is made one element at a time, so listeners see single replacements.
+     */
+    public void spliceUnique(int from, int to, List<House> replacement) {
+        requireNonNull(replacement);
+        for (int i = from; i < to; i++) {
+            housesByName.remove(workingList.get(i).getHouseName());
+        }
+        replacement.forEach(house -> housesByName.put(house.getHouseName(), house));
+
+        if (to - from == replacement.size()) {
+            for (int i = 0; i < replacement.size(); i++) {
+                workingList.set(from + i, replacement.get(i));
+            }
+        } else {
+            workingList.subList(from, to).clear();
+            workingList.addAll(from, replacement);
+        }
+    }
+
+    /**
+     * Starts buffering the changes to this list. Until {@link #endBatch()}, the list can be changed and queried as
+     * usual, but the observable list keeps showing the houses as they were when the batch began.
+     */
+    public void beginBatch() {
+        if (workingList == internalList) {
+            workingList = new ArrayList<>(internalList);
+        }
+    }
+
+    /**
+     * Applies the changes buffered since {@link #beginBatch()} to the observable list as a single change.
+     */
+    public void endBatch() {
+        if (workingList != internalList) {
+            List<House> buffered = workingList;
+            workingList = internalList;
+            // compared by identity, as an edited element can equal the one it replaces
+            if (!isSameElements(buffered, internalList)) {
+                internalList.setAll(buffered);
+            }
+        }
+    }
+
+    /**
+     * Drops the changes buffered since {@link #beginBatch()}, leaving the list as it was when the batch began.
+     */
+    public void abortBatch() {
+        if (workingList != internalList) {
+            workingList = internalList;
+            rebuildIndex();
+        }
+    }
+
+    /**
+     * Replaces the contents of the working list with {@code replacement}.
+     */
+    private void replaceWorkingList(List<House> replacement) {
+        if (workingList == internalList) {
+            internalList.setAll(replacement);
+        } else {
+            workingList.clear();
+            workingList.addAll(replacement);
+        }
     }
 
     /**
@@ -108,33 +218,47 @@ public class UniqueHouseList implements Iterable<House> {
 
     @Override
     public Iterator<House> iterator() {
-        return internalList.iterator();
+        return workingList.iterator();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof UniqueHouseList // instanceof handles nulls
-                && internalList.equals(((UniqueHouseList) other).internalList));
+                && workingList.equals(((UniqueHouseList) other).workingList));
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return workingList.hashCode();
     }
 
     /**
-     * Returns true if {@code houses} contains only unique houses.
+     * Rebuilds the index from the current contents of {@code workingList}.
      */
-    private boolean housesAreUnique(List<House> houses) {
-        for (int i = 0; i < houses.size() - 1; i++) {
-            for (int j = i + 1; j < houses.size(); j++) {
-                if (houses.get(i).isSameHouse(houses.get(j))) {
-                    return false;
-                }
-            }
+    private void rebuildIndex() {
+        housesByName.clear();
+        workingList.forEach(house -> housesByName.put(house.getHouseName(), house));
+    }
+
+    /**
+     * Throws a {@code DuplicateParticipantException} naming every house that appears more than once in
+     * {@code houses}, together with its positions.
+     */
+    private static void requireUniqueHouses(List<House> houses) {
+        Map<String, List<String>> positionsByName = new LinkedHashMap<>();
+        for (int i = 0; i < houses.size(); i++) {
+            positionsByName.computeIfAbsent(houses.get(i).getHouseName(), unused -> new ArrayList<>())
+                    .add("#" + (i + 1));
+        }
+
+        String duplicates = positionsByName.entrySet().stream()
+                .filter(entry -> entry.getValue().size() > 1)
+                .map(entry -> entry.getKey() + " (" + String.join(", ", entry.getValue()) + ")")
+                .collect(Collectors.joining(", "));
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateParticipantException(duplicates);
         }
-        return true;
     }
 
 }
@@ -1,25 +1,26 @@
 package seedu.address.model.ogl;
 
 import java.util.List;
-import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.model.participant.Participant;
+import seedu.address.model.participant.ThreadSafeParticipantPredicate;
+import seedu.address.model.tag.TagQuery;
 
 /**
  * Tests that a {@code Participant}'s {@code Name} matches any of the keywords given.
  */
-public class FindingOglPredicate implements Predicate<Participant> {
+public class FindingOglPredicate implements ThreadSafeParticipantPredicate {
     private final List<String> keywords;
+    private final TagQuery query;
 
     public FindingOglPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.query = new TagQuery(keywords);
     }
 
     @Override
     public boolean test(Participant participant) {
-        return keywords.stream()
-                .allMatch(keyword-> StringUtil.containsWordIgnoreCase(participant.getStringTags(), keyword));
+        return query.isMatchedBy(participant.getTagMask());
     }
 
     @Override
@@ -29,4 +30,8 @@ public class FindingOglPredicate implements Predicate<Participant> {
                 && keywords.equals(((FindingOglPredicate) other).keywords)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
 }
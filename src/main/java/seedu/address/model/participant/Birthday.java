@@ -4,25 +4,38 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.Year;
-import java.util.Calendar;
 
 import seedu.address.commons.Value;
-
+import seedu.address.commons.util.DailyClock;
 
 /**
- * Represents a Participant's birthday in the address book
+ * Represents a Participant's birthday in the address book.
+ * The date is also held as the number yyyymmdd, from which the age is worked out without parsing or allocating.
  */
 public class Birthday {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Birthday should contain eight numbers in the format of DDMMYYYY and must be a valid date.";
     public static final String VALIDATION_REGEX = "\\d{8,}";
+    /** The ages as text, which the age charts are keyed by, so that charting ages does not build strings. */
+    private static final String[] AGES = new String[Value.MAX_AGE + 2];
+
+    static {
+        for (int age = 0; age < AGES.length; age++) {
+            AGES[age] = Integer.toString(age);
+        }
+    }
+
     public final String value;
+    /** The date as the number yyyymmdd. */
+    private final int date;
 
     public Birthday(String birthday) {
         requireNonNull(birthday);
         checkArgument(isValidBirthday(birthday), MESSAGE_CONSTRAINTS);
         value = birthday;
+        date = Integer.parseInt(birthday.substring(4)) * 10000 + Integer.parseInt(birthday.substring(2, 4)) * 100
+                + Integer.parseInt(birthday.substring(0, 2));
     }
 
     /**
@@ -52,9 +65,33 @@ public class Birthday {
         return true;
     }
 
+    /**
+     * Returns the date as the number yyyymmdd, which orders birthdays from the earliest.
+     */
+    public int getDateNumber() {
+        return date;
+    }
+
+    /**
+     * Returns the age in whole years as of today, by the {@link DailyClock}.
+     */
+    public int getAgeInYears() {
+        return getAgeInYears(DailyClock.today());
+    }
+
+    /**
+     * Returns the age in whole years on {@code day}, given as the number yyyymmdd.
+     */
+    public int getAgeInYears(int day) {
+        return Math.max(0, (day - date) / 10000);
+    }
+
+    /**
+     * Returns the age in whole years as of today, as text.
+     */
     public String getAge() {
-        int yearOfBirth = Integer.parseInt(value.substring(4));
-        return Integer.toString(Calendar.getInstance().get(Calendar.YEAR) - yearOfBirth);
+        int age = getAgeInYears();
+        return age < AGES.length ? AGES[age] : Integer.toString(age);
     }
 
     public String getFormattedBirthday () {
@@ -70,6 +107,11 @@ public class Birthday {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Birthday // instanceof handles nulls
-                && value.equals(((Birthday) other).value)); // state check
+                && date == ((Birthday) other).date); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return date;
     }
 }
@@ -0,0 +1,48 @@
+package seedu.address.model.participant;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+/**
+ * Tests that a {@code Participant}'s {@code Phone} has the same number as a given phone, or that its {@code Email} is
+ * a given email, ignoring case.
+ */
+public class ContactMatchesPredicate implements ThreadSafeParticipantPredicate {
+    /** The number of the phone to match, or null if an email is matched. */
+    private final Long phoneNumber;
+    /** The email to match in lower case, or null if a phone is matched. */
+    private final String email;
+
+    public ContactMatchesPredicate(Phone phone) {
+        requireNonNull(phone);
+        this.phoneNumber = phone.getNumber();
+        this.email = null;
+    }
+
+    public ContactMatchesPredicate(Email email) {
+        requireNonNull(email);
+        this.phoneNumber = null;
+        this.email = email.getCanonicalValue();
+    }
+
+    @Override
+    public boolean test(Participant participant) {
+        return phoneNumber != null
+                ? participant.getPhone().getNumber() == phoneNumber
+                : participant.getEmail().getCanonicalValue().equals(email);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ContactMatchesPredicate // instanceof handles nulls
+                && Objects.equals(phoneNumber, ((ContactMatchesPredicate) other).phoneNumber)
+                && Objects.equals(email, ((ContactMatchesPredicate) other).email)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(phoneNumber, email);
+    }
+}
@@ -3,9 +3,13 @@ package seedu.address.model.participant;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+
 /**
  * Represents a Participant's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
+ *
+ * Emails are written in any case, so participants are told apart by {@link #getCanonicalValue()}, which ignores it.
  */
 public class Email {
 
@@ -28,6 +32,7 @@ public class Email {
             + DOMAIN_FIRST_CHARACTER_REGEX + DOMAIN_MIDDLE_REGEX + DOMAIN_LAST_CHARACTER_REGEX;
 
     public final String value;
+    private final String canonicalValue;
 
     /**
      * Constructs an {@code Email}.
@@ -38,6 +43,7 @@ public class Email {
         requireNonNull(email);
         checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
         value = email;
+        canonicalValue = email.toLowerCase(Locale.ROOT);
     }
 
     /**
@@ -47,6 +53,13 @@ public class Email {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the email in lower case.
+     */
+    public String getCanonicalValue() {
+        return canonicalValue;
+    }
+
     @Override
     public String toString() {
         return value;
@@ -1,24 +1,24 @@
 package seedu.address.model.participant;
 
 import java.util.List;
-import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.model.tag.TagQuery;
 
 /**
  * Tests that a {@code Participant}'s {@code Tag} matches any of the keywords given.
  */
-public class FindingParticipantPredicate implements Predicate<Participant> {
+public class FindingParticipantPredicate implements ThreadSafeParticipantPredicate {
     private final List<String> keywords;
+    private final TagQuery query;
 
     public FindingParticipantPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.query = new TagQuery(keywords);
     }
 
     @Override
     public boolean test(Participant participant) {
-        return keywords.stream()
-                .allMatch(keyword-> StringUtil.containsWordIgnoreCase(participant.getStringTags(), keyword));
+        return query.isMatchedBy(participant.getTagMask());
     }
 
     @Override
@@ -28,4 +28,8 @@ public class FindingParticipantPredicate implements Predicate<Participant> {
                 && keywords.equals(((FindingParticipantPredicate) other).keywords)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
 }
@@ -0,0 +1,43 @@
+package seedu.address.model.participant;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.function.Function;
+
+/**
+ * Tests that a {@code Participant} is in a group of the given house.
+ * Participants refer to their group by name only, so the house of the group is looked up each time a participant is
+ * tested, and groups added to or moved into the house later are taken into account.
+ */
+public class InHousePredicate implements ThreadSafeParticipantPredicate {
+    private final String houseName;
+    private final Function<String, String> houseOfGroup;
+
+    /**
+     * Creates a predicate for the house named {@code houseName}. {@code houseOfGroup} gives the name of the house of a
+     * group from the name of the group, or an empty string if there is no such group or it has no house.
+     */
+    public InHousePredicate(String houseName, Function<String, String> houseOfGroup) {
+        requireAllNonNull(houseName, houseOfGroup);
+        this.houseName = houseName;
+        this.houseOfGroup = houseOfGroup;
+    }
+
+    @Override
+    public boolean test(Participant participant) {
+        return participant.getGroup() != null
+                && houseName.equals(houseOfGroup.apply(participant.getGroup().getGroupName()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof InHousePredicate // instanceof handles nulls
+                && houseName.equals(((InHousePredicate) other).houseName)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return houseName.hashCode();
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.model.participant;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Tests that a {@code Participant}'s {@code Name} matches any of the keywords given, like
+ * {@link NameContainsKeywordsPredicate}, but answers from the name index of the participant list instead of splitting
+ * the name.
+ */
+public class IndexedNameKeywordsPredicate implements ThreadSafeParticipantPredicate {
+    private final UniqueParticipantList participants;
+    private final List<String> keywords;
+    private final List<String> lowerCaseKeywords;
+
+    public IndexedNameKeywordsPredicate(UniqueParticipantList participants, List<String> keywords) {
+        requireAllNonNull(participants, keywords);
+        this.participants = participants;
+        this.keywords = keywords;
+        this.lowerCaseKeywords = keywords.stream()
+                .map(keyword -> keyword.trim().toLowerCase(Locale.ROOT))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean test(Participant participant) {
+        return participants.nameHasAnyWord(participant, lowerCaseKeywords);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof IndexedNameKeywordsPredicate // instanceof handles nulls
+                && participants == ((IndexedNameKeywordsPredicate) other).participants
+                && keywords.equals(((IndexedNameKeywordsPredicate) other).keywords)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+}
@@ -6,6 +6,8 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.util.ArrayList;
 import java.util.Arrays;
 
+import seedu.address.commons.util.InternTable;
+
 /**
  * Represents a Participant's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidMajor(String)} (String)}
@@ -27,8 +29,22 @@ public class Major {
     private static final ArrayList<String> validMajorBA = new ArrayList<>(Arrays.asList("BUSINESS ANALYTIC",
             "BUSINESS ANALYTICS", "BIZANA", "BIZANAL", "BA", "BZA"));
 
+    /** The canonical majors by value. A value is also a valid major that cleans to itself. */
+    private static final InternTable<String, Major> majorsByValue = new InternTable<>(Major::new);
+    /** The canonical majors by the text they were requested with, so that each distinct text is validated once. */
+    private static final InternTable<String, Major> majorsByText =
+            new InternTable<>(major -> majorsByValue.get(new Major(major).value));
+
     public final String value;
 
+    /**
+     * Returns the canonical {@code Major} for {@code major}, which must be a valid major.
+     * Equal majors are one shared instance.
+     */
+    public static Major of(String major) {
+        return majorsByText.get(major);
+    }
+
     /**
      * Constructs an {@code Major}.
      *
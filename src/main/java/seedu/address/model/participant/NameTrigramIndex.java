@@ -0,0 +1,126 @@
+package seedu.address.model.participant;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Finds the words of participant names closest to a misspelled word, by the number of single character edits between
+ * them, without comparing the word with every name.
+ *
+ * Each distinct name word is indexed under its trigrams, the three character substrings of the word with a '$' added
+ * at each end. One edit changes at most three trigrams, so a word within {@code k} edits of a misspelled word shares
+ * all but at most {@code 3k} of its trigrams; only the words sharing enough trigrams have their edit distance worked
+ * out. Words too short for that bound to rule anything out are looked up by length instead.
+ */
+final class NameTrigramIndex {
+
+    private static final char PADDING = '$';
+
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+    private final Map<Integer, Set<String>> wordsByLength = new HashMap<>();
+
+    /**
+     * Indexes {@code word}, which must be in lower case.
+     */
+    void add(String word) {
+        requireNonNull(word);
+        for (String trigram : trigramsOf(word)) {
+            wordsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(word);
+        }
+        wordsByLength.computeIfAbsent(word.length(), unused -> new HashSet<>()).add(word);
+    }
+
+    /**
+     * Stops indexing {@code word}.
+     */
+    void remove(String word) {
+        requireNonNull(word);
+        for (String trigram : trigramsOf(word)) {
+            removeWord(wordsByTrigram, trigram, word);
+        }
+        removeWord(wordsByLength, word.length(), word);
+    }
+
+    /**
+     * Replaces the indexed words with {@code words}.
+     */
+    void setWords(Collection<String> words) {
+        wordsByTrigram.clear();
+        wordsByLength.clear();
+        words.forEach(this::add);
+    }
+
+    /**
+     * Returns the indexed words within {@code maxDistance} edits of {@code word}, which must be in lower case, that
+     * are closest to it. Returns an empty set if no indexed word is that close.
+     */
+    Set<String> closestWords(String word, int maxDistance) {
+        requireNonNull(word);
+        Set<String> closest = new HashSet<>();
+        int closestDistance = maxDistance;
+        for (String candidate : candidatesFor(word, maxDistance)) {
+            int distance = StringUtil.editDistance(word, candidate, closestDistance);
+            if (distance < closestDistance) {
+                closest.clear();
+                closestDistance = distance;
+            }
+            if (distance <= closestDistance) {
+                closest.add(candidate);
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * Returns the indexed words that could be within {@code maxDistance} edits of {@code word}.
+     */
+    private Collection<String> candidatesFor(String word, int maxDistance) {
+        Set<String> trigrams = trigramsOf(word);
+        int minimumShared = trigrams.size() - 3 * maxDistance;
+        if (minimumShared <= 0) {
+            Set<String> candidates = new HashSet<>();
+            for (int length = word.length() - maxDistance; length <= word.length() + maxDistance; length++) {
+                candidates.addAll(wordsByLength.getOrDefault(length, Collections.emptySet()));
+            }
+            return candidates;
+        }
+
+        Map<String, Integer> sharedCounts = new HashMap<>();
+        for (String trigram : trigrams) {
+            for (String candidate : wordsByTrigram.getOrDefault(trigram, Collections.emptySet())) {
+                sharedCounts.merge(candidate, 1, Integer::sum);
+            }
+        }
+        Set<String> candidates = new HashSet<>();
+        sharedCounts.forEach((candidate, shared) -> {
+            if (shared >= minimumShared && Math.abs(candidate.length() - word.length()) <= maxDistance) {
+                candidates.add(candidate);
+            }
+        });
+        return candidates;
+    }
+
+    private static Set<String> trigramsOf(String word) {
+        String padded = PADDING + word + PADDING;
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    private static <K> void removeWord(Map<K, Set<String>> wordsByKey, K key, String word) {
+        Set<String> words = wordsByKey.get(key);
+        if (words != null && words.remove(word) && words.isEmpty()) {
+            wordsByKey.remove(key);
+        }
+    }
+}
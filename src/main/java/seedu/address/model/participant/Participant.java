@@ -2,13 +2,12 @@ package seedu.address.model.participant;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.model.grouping.Group;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagMask;
 
 /**
  * Represents a Participant in the address book.
@@ -26,22 +25,29 @@ public class Participant {
     // Data fields
     private final Major major;
     private final Group group;
-    private final Set<Tag> tags = new HashSet<>();
+    private final Set<Tag> tags;
+    private final TagMask tagMask;
+    private final Role role;
 
     /**
      * Every field must be present and not null.
+     * Only the name of {@code group} is kept: the house of the group is looked up in the address book, so that a house
+     * can be renamed without changing its participants.
+     * The major, sex, group and tags are replaced by their canonical instances, which all participants share.
      */
     public Participant(Name name, Sex sex, Birthday birthday, Phone phone, Email email,
                        Major major, Group group, Set<Tag> tags) {
         requireAllNonNull(name, phone, email, major, tags);
         this.name = name;
-        this.sex = sex;
+        this.sex = sex == null ? null : Sex.of(sex.value);
         this.birthday = birthday;
         this.phone = phone;
         this.email = email;
-        this.major = major;
-        this.group = group;
-        this.tags.addAll(tags);
+        this.major = Major.of(major.value);
+        this.group = group == null ? null : group.withoutHouse();
+        this.tags = Tag.setOf(tags);
+        this.tagMask = TagMask.of(this.tags);
+        this.role = Role.of(tagMask);
     }
 
     public Name getName() {
@@ -77,15 +83,26 @@ public class Participant {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
-    public String getStringTags () {
-        return getTags().toString().replace("[" , "").replace("]" , "")
-                .replace("," , "");
+    /**
+     * Returns the tags as a mask, for testing them against a {@link seedu.address.model.tag.TagQuery}.
+     */
+    public TagMask getTagMask() {
+        return tagMask;
     }
+
+    /**
+     * Returns the role of the participant, which follows from its tags.
+     */
+    public Role getRole() {
+        return role;
+    }
+
     /**
      * Returns true if both persons of the same name have at least one other identity field that is the same.
+     * Phones are compared by {@link Phone#getNumber()} and emails by {@link Email#getCanonicalValue()}.
      * This defines a weaker notion of equality between two persons.
      */
     public boolean isSameParticipant(Participant otherParticipant) {
@@ -95,9 +112,9 @@ public class Participant {
 
         return otherParticipant != null
                 && otherParticipant.getName().equals(getName())
-                && (otherParticipant.getPhone().equals(getPhone())
-                || otherParticipant.getEmail().equals(getEmail())
-                || otherParticipant.getBirthday().equals(getBirthday()));
+                && (otherParticipant.getPhone().getNumber() == getPhone().getNumber()
+                || otherParticipant.getEmail().getCanonicalValue().equals(getEmail().getCanonicalValue())
+                || Objects.equals(otherParticipant.getBirthday(), getBirthday()));
     }
 
     /**
@@ -6,6 +6,9 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 /**
  * Represents a Participant's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
+ *
+ * Phone numbers are written with or without a leading '+', so participants are told apart by
+ * {@link #getNumber()}, which does not depend on it.
  */
 public class Phone {
 
@@ -15,6 +18,7 @@ public class Phone {
             + "start with a '+'";
     public static final String VALIDATION_REGEX = "[+]?\\d{8,15}";
     public final String value;
+    private final long number;
 
     /**
      * Constructs a {@code Phone}.
@@ -25,6 +29,8 @@ public class Phone {
         requireNonNull(phone);
         checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
         value = phone;
+        // a leading 1 keeps leading zeros apart, and at most 16 digits fit in a long
+        number = Long.parseLong("1" + (phone.startsWith("+") ? phone.substring(1) : phone));
     }
 
     /**
@@ -34,6 +40,14 @@ public class Phone {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the digits of the phone number, without any leading '+', as a number. Two phone numbers have the same
+     * number iff they have the same digits.
+     */
+    public long getNumber() {
+        return number;
+    }
+
     @Override
     public String toString() {
         return value;
@@ -0,0 +1,33 @@
+package seedu.address.model.participant;
+
+import java.util.Collections;
+
+import seedu.address.commons.Value;
+import seedu.address.model.tag.TagMask;
+import seedu.address.model.tag.TagQuery;
+
+/**
+ * The role a participant plays in FOP, given by the {@link Value#FRESHMAN} or {@link Value#OGL} tag.
+ */
+public enum Role {
+    FRESHMAN,
+    OGL,
+    PARTICIPANT;
+
+    private static final TagQuery FRESHMAN_TAG = new TagQuery(Collections.singletonList(Value.FRESHMAN));
+    private static final TagQuery OGL_TAG = new TagQuery(Collections.singletonList(Value.OGL));
+
+    /**
+     * Returns the role of a participant with {@code tags}.
+     * A participant tagged as both a freshman and an OGL is a freshman.
+     */
+    public static Role of(TagMask tags) {
+        if (FRESHMAN_TAG.isMatchedBy(tags)) {
+            return FRESHMAN;
+        } else if (OGL_TAG.isMatchedBy(tags)) {
+            return OGL;
+        } else {
+            return PARTICIPANT;
+        }
+    }
+}
@@ -6,6 +6,8 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.util.ArrayList;
 import java.util.Arrays;
 
+import seedu.address.commons.util.InternTable;
+
 /**
  * Represents a Participant's sex in the address book
  * Can only accept two values M or F
@@ -17,8 +19,22 @@ public class Sex {
     public static final String VALIDATION_REGEX = "[^\\s].*";
     private static final ArrayList<String> validSex = new ArrayList<>(Arrays.asList("MALE", "FEMALE", "OTHER",
             "M", "F", "O"));
+    /** The canonical sexes by value. A value is also a valid sex that cleans to itself. */
+    private static final InternTable<String, Sex> sexesByValue = new InternTable<>(Sex::new);
+    /** The canonical sexes by the text they were requested with, so that each distinct text is validated once. */
+    private static final InternTable<String, Sex> sexesByText =
+            new InternTable<>(sex -> sexesByValue.get(new Sex(sex).value));
+
     public final String value;
 
+    /**
+     * Returns the canonical {@code Sex} for {@code sex}, which must be a valid sex.
+     * Equal sexes are one shared instance.
+     */
+    public static Sex of(String sex) {
+        return sexesByText.get(sex);
+    }
+
     public Sex(String sex) {
         requireNonNull(sex);
         checkArgument(isValidSex(sex), MESSAGE_CONSTRAINTS);
@@ -52,4 +68,9 @@ public class Sex {
                 || (other instanceof Sex // instanceof handles nulls
                 && value.equals(((Sex) other).value)); // state check
     }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
 }
@@ -0,0 +1,60 @@
+package seedu.address.model.participant;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+/**
+ * One field that participants are sorted by, and whether in ascending or descending order.
+ */
+public class SortKey {
+
+    /**
+     * The fields of a participant that participants can be sorted by.
+     */
+    public enum Field {
+        NAME, AGE, BIRTHDAY, MAJOR, GROUP, HOUSE;
+
+        /**
+         * Returns the name of this field in a sort command.
+         */
+        public String getKeyword() {
+            return name().toLowerCase();
+        }
+    }
+
+    private final Field field;
+    private final boolean isAscending;
+
+    public SortKey(Field field, boolean isAscending) {
+        requireNonNull(field);
+        this.field = field;
+        this.isAscending = isAscending;
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    public boolean isAscending() {
+        return isAscending;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SortKey // instanceof handles nulls
+                && field == ((SortKey) other).field
+                && isAscending == ((SortKey) other).isAscending); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, isAscending);
+    }
+
+    @Override
+    public String toString() {
+        return field.getKeyword() + (isAscending ? "" : " desc");
+    }
+}
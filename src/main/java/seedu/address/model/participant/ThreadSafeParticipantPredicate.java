@@ -0,0 +1,10 @@
+package seedu.address.model.participant;
+
+import java.util.function.Predicate;
+
+/**
+ * A predicate on participants that may test several participants at once from different threads, as long as the
+ * address book does not change meanwhile. Filters by such a predicate may be worked out in parallel.
+ */
+public interface ThreadSafeParticipantPredicate extends Predicate<Participant> {
+}
@@ -1,10 +1,24 @@
 package seedu.address.model.participant;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.isSameElements;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -23,6 +37,14 @@ import seedu.address.model.participant.exceptions.ParticipantNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Identity lookups are answered from hash indexes over the identity fields used by
+ * {@code Participant#isSameParticipant(Participant)}, so they do not scan the list: the participants are indexed by
+ * the number of their phone, by their email in lower case, and by their name and birthday. The phone and email
+ * indexes also find the participants with a given phone or email.
+ * The members of each group are indexed as well, so finding them costs time in the number of members.
+ * Optionally, the participants are also indexed by the words of their names, so that name searches need not split
+ * every name, and those words by their trigrams, so that the names closest to a misspelled word can be found.
+ *
  * @see Participant#isSameParticipant(Participant)
  */
 public class UniqueParticipantList implements Iterable<Participant> {
@@ -30,13 +52,156 @@ public class UniqueParticipantList implements Iterable<Participant> {
     private final ObservableList<Participant> internalList = FXCollections.observableArrayList();
     private final ObservableList<Participant> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    /** The list that changes are made to: {@code internalList} itself, or a buffer while a batch is open. */
+    private List<Participant> workingList = internalList;
+
+    /** Maps the number of every phone in the list to the participants with that phone. */
+    private final Map<Long, Set<Participant>> membersByPhone = new HashMap<>();
+    /** Maps every email in the list, in lower case, to the participants with that email. */
+    private final Map<String, Set<Participant>> membersByEmail = new HashMap<>();
+    /** Maps the name and birthday of every participant in the list to that participant. */
+    private final Map<String, Participant> nameAndBirthdayIndex = new HashMap<>();
+    /** Maps every participant in the list to its position in {@code workingList}. */
+    private final Map<Participant, Integer> positions = new IdentityHashMap<>();
+    /** Maps every group name to the participants in the list that are in that group. */
+    private final Map<String, Set<Participant>> membersByGroup = new HashMap<>();
+    /** Maps every lower case word of a name to the participants in the list with that word in their names. */
+    private final Map<String, Set<Participant>> membersByNameWord = new HashMap<>();
+    /** Indexes the keys of {@code membersByNameWord}, or is null until a fuzzy name search needs it. */
+    private NameTrigramIndex nameWordTrigrams = null;
+    private boolean isNameIndexEnabled = false;
 
     /**
      * Returns true if the list contains an equivalent participant as the given argument.
      */
     public boolean contains(Participant toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameParticipant);
+        return findSameParticipant(toCheck, null) != null;
+    }
+
+    /**
+     * Returns an unmodifiable view of the participants whose phone has the same number as {@code phone}, in no
+     * particular order. The view only reflects later changes to the list while some participant has the number.
+     */
+    public Set<Participant> getParticipantsWithPhone(Phone phone) {
+        requireNonNull(phone);
+        return membersOf(membersByPhone, phone.getNumber());
+    }
+
+    /**
+     * Returns an unmodifiable view of the participants whose email is {@code email}, ignoring case, in no particular
+     * order. The view only reflects later changes to the list while some participant has the email.
+     */
+    public Set<Participant> getParticipantsWithEmail(Email email) {
+        requireNonNull(email);
+        return membersOf(membersByEmail, email.getCanonicalValue());
+    }
+
+    /**
+     * Returns the participants in the group named {@code groupName}, in list order.
+     */
+    public List<Participant> getParticipantsInGroup(String groupName) {
+        requireNonNull(groupName);
+        return inListOrder(membersByGroup.get(groupName));
+    }
+
+    /**
+     * Returns an unmodifiable view of the participants in the group named {@code groupName}, in no particular order.
+     * The view only reflects later changes to the list while the group has members.
+     */
+    public Set<Participant> getGroupMembers(String groupName) {
+        requireNonNull(groupName);
+        return membersOf(membersByGroup, groupName);
+    }
+
+    /**
+     * Returns true if any participant in the list is in the group named {@code groupName}.
+     */
+    public boolean hasParticipantsInGroup(String groupName) {
+        requireNonNull(groupName);
+        return membersByGroup.containsKey(groupName);
+    }
+
+    /**
+     * Starts or stops indexing the participants by the words of their names.
+     * The index is built from the current participants when it is enabled, and dropped when it is disabled.
+     */
+    public void setNameIndexEnabled(boolean isEnabled) {
+        if (isEnabled == isNameIndexEnabled) {
+            return;
+        }
+        isNameIndexEnabled = isEnabled;
+        clearNameIndex();
+        if (isEnabled) {
+            workingList.forEach(this::addToNameIndex);
+        }
+    }
+
+    public boolean isNameIndexEnabled() {
+        return isNameIndexEnabled;
+    }
+
+    /**
+     * Returns true if the name of {@code participant} has any of {@code lowerCaseWords} as a word, ignoring case.
+     * The answer comes from the name index if it is enabled and {@code participant} is in the list; otherwise the name
+     * is split into words.
+     */
+    public boolean nameHasAnyWord(Participant participant, List<String> lowerCaseWords) {
+        requireAllNonNull(participant, lowerCaseWords);
+        if (!isNameIndexEnabled || !positions.containsKey(participant)) {
+            List<String> nameWords = Arrays.asList(toNameWords(participant));
+            return lowerCaseWords.stream().anyMatch(nameWords::contains);
+        }
+        for (String word : lowerCaseWords) {
+            Set<Participant> members = membersByNameWord.get(word);
+            if (members != null && members.contains(participant)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns an unmodifiable view of the participants with {@code lowerCaseWord} as a word of their names, in no
+     * particular order, or an empty Optional if the name index is disabled.
+     * The view only reflects later changes to the list while some participant has the word.
+     */
+    public Optional<Set<Participant>> findNameWordMembers(String lowerCaseWord) {
+        requireNonNull(lowerCaseWord);
+        if (!isNameIndexEnabled) {
+            return Optional.empty();
+        }
+        Set<Participant> members = membersByNameWord.get(lowerCaseWord);
+        return Optional.of(members == null ? Collections.emptySet() : Collections.unmodifiableSet(members));
+    }
+
+    /**
+     * Returns the words of the participants' names, in lower case, that are closest to each of
+     * {@code lowerCaseWords} by the number of single character edits, among those within {@code maxDistance} edits.
+     * If the name index is enabled, the words are found from a trigram index of its words, which is built on the
+     * first call and kept up to date with the name index after that; otherwise every name is compared with
+     * {@code lowerCaseWords}.
+     */
+    public Set<String> closestNameWords(List<String> lowerCaseWords, int maxDistance) {
+        requireAllNonNull(lowerCaseWords);
+        NameTrigramIndex nameWords;
+        if (isNameIndexEnabled) {
+            if (nameWordTrigrams == null) {
+                nameWordTrigrams = new NameTrigramIndex();
+                nameWordTrigrams.setWords(membersByNameWord.keySet());
+            }
+            nameWords = nameWordTrigrams;
+        } else {
+            nameWords = new NameTrigramIndex();
+            for (Participant participant : workingList) {
+                Arrays.stream(toNameWords(participant)).forEach(nameWords::add);
+            }
+        }
+        Set<String> closest = new HashSet<>();
+        for (String word : lowerCaseWords) {
+            closest.addAll(nameWords.closestWords(word, maxDistance));
+        }
+        return closest;
     }
 
     /**
@@ -48,7 +213,8 @@ public class UniqueParticipantList implements Iterable<Participant> {
         if (contains(toAdd)) {
             throw new DuplicateParticipantException();
         }
-        internalList.add(toAdd);
+        addToIndex(toAdd, workingList.size());
+        workingList.add(toAdd);
     }
 
     /**
@@ -60,16 +226,19 @@ public class UniqueParticipantList implements Iterable<Participant> {
     public void setParticipant(Participant target, Participant editedParticipant) {
         requireAllNonNull(target, editedParticipant);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Participant stored = findEqualParticipant(target);
+        if (stored == null) {
             throw new ParticipantNotFoundException();
         }
 
-        if (!target.isSameParticipant(editedParticipant) && contains(editedParticipant)) {
+        if (findSameParticipant(editedParticipant, stored) != null) {
             throw new DuplicateParticipantException();
         }
 
-        internalList.set(index, editedParticipant);
+        int index = positions.get(stored);
+        removeFromIndex(stored);
+        addToIndex(editedParticipant, index);
+        workingList.set(index, editedParticipant);
     }
 
     /**
@@ -78,14 +247,40 @@ public class UniqueParticipantList implements Iterable<Participant> {
      */
     public void remove(Participant toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Participant stored = findEqualParticipant(toRemove);
+        if (stored == null) {
             throw new ParticipantNotFoundException();
         }
+
+        int index = positions.get(stored);
+        removeFromIndex(stored);
+        workingList.remove(index);
+        for (int i = index; i < workingList.size(); i++) {
+            positions.put(workingList.get(i), i);
+        }
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     * {@code replacement} already guarantees uniqueness, so it is not validated again and its indexes are reused.
+     */
     public void setParticipants(UniqueParticipantList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        replaceWorkingList(replacement.workingList);
+        copyMembers(replacement.membersByPhone, membersByPhone);
+        copyMembers(replacement.membersByEmail, membersByEmail);
+        nameAndBirthdayIndex.clear();
+        nameAndBirthdayIndex.putAll(replacement.nameAndBirthdayIndex);
+        positions.clear();
+        positions.putAll(replacement.positions);
+        copyMembers(replacement.membersByGroup, membersByGroup);
+        if (isNameIndexEnabled && replacement.isNameIndexEnabled) {
+            copyMembers(replacement.membersByNameWord, membersByNameWord);
+            nameWordTrigrams = null;
+        } else if (isNameIndexEnabled) {
+            clearNameIndex();
+            workingList.forEach(this::addToNameIndex);
+        }
     }
 
     /**
@@ -94,11 +289,97 @@ public class UniqueParticipantList implements Iterable<Participant> {
      */
     public void setParticipants(List<Participant> participants) {
         requireAllNonNull(participants);
-        if (!participantsAreUnique(participants)) {
-            throw new DuplicateParticipantException();
+        requireUniqueParticipants(participants);
+
+        replaceWorkingList(participants);
+        rebuildIndex();
+    }
+
+    /**
+     * Replaces the contents of this list with {@code participants} without checking them for duplicates.
+     * Only for participants that are already known to be unique, such as those of a saved address book state.
+     */
+    public void setUniqueParticipants(List<Participant> participants) {
+        requireNonNull(participants);
+        replaceWorkingList(participants);
+        rebuildIndex();
+    }
+
+    /**
+     * Replaces the participants in {@code [from, to)} with {@code replacement} without checking them for duplicates.
+     * Only for changes that are already known to keep the list unique, such as replaying the address book history.
+     * A change that keeps the number of participants is made one element at a time, so listeners see single
+     * replacements.
+     */
+    public void spliceUnique(int from, int to, List<Participant> replacement) {
+        requireNonNull(replacement);
+        for (int i = from; i < to; i++) {
+            removeFromIndex(workingList.get(i));
+        }
+
+        if (to - from == replacement.size()) {
+            for (int i = 0; i < replacement.size(); i++) {
+                addToIndex(replacement.get(i), from + i);
+                workingList.set(from + i, replacement.get(i));
+            }
+            return;
+        }
+
+        workingList.subList(from, to).clear();
+        workingList.addAll(from, replacement);
+        for (int i = from; i < workingList.size(); i++) {
+            if (i < from + replacement.size()) {
+                addToIndex(workingList.get(i), i);
+            } else {
+                positions.put(workingList.get(i), i);
+            }
+        }
+    }
+
+    /**
+     * Starts buffering the changes to this list. Until {@link #endBatch()}, the list can be changed and queried as
+     * usual, but the observable list keeps showing the participants as they were when the batch began.
+     */
+    public void beginBatch() {
+        if (workingList == internalList) {
+            workingList = new ArrayList<>(internalList);
+        }
+    }
+
+    /**
+     * Applies the changes buffered since {@link #beginBatch()} to the observable list as a single change.
+     */
+    public void endBatch() {
+        if (workingList != internalList) {
+            List<Participant> buffered = workingList;
+            workingList = internalList;
+            // compared by identity, as an edited element can equal the one it replaces
+            if (!isSameElements(buffered, internalList)) {
+                internalList.setAll(buffered);
+            }
+        }
+    }
+
+    /**
+     * Drops the changes buffered since {@link #beginBatch()}, leaving the list as it was when the batch began.
+     */
+    public void abortBatch() {
+        if (workingList != internalList) {
+            workingList = internalList;
+            rebuildIndex();
         }
+    }
 
-        internalList.setAll(participants);
+    /**
+     * Replaces the contents of the working list with {@code replacement}.
+     */
+    private void replaceWorkingList(List<Participant> replacement) {
+        if (workingList == internalList) {
+            internalList.setAll(replacement);
+        } else {
+            workingList.clear();
+            workingList.addAll(replacement);
+        }
     }
 
     /**
@@ -110,32 +391,219 @@ public class UniqueParticipantList implements Iterable<Participant> {
 
     @Override
     public Iterator<Participant> iterator() {
-        return internalList.iterator();
+        return workingList.iterator();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof UniqueParticipantList // instanceof handles nulls
-                        && internalList.equals(((UniqueParticipantList) other).internalList));
+                        && workingList.equals(((UniqueParticipantList) other).workingList));
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return workingList.hashCode();
+    }
+
+    /**
+     * Returns the identity keys of {@code participant}, for checking a whole list for duplicates at once.
+     * Two participants are the same participant iff they share at least one identity key.
+     * Names cannot contain '|', so the keys of different names never collide.
+     */
+    private static String[] identityKeysOf(Participant participant) {
+        String name = participant.getName().fullName;
+        return new String[] {
+            name + "|p|" + participant.getPhone().getNumber(),
+            name + "|e|" + participant.getEmail().getCanonicalValue(),
+            nameAndBirthdayOf(participant)
+        };
+    }
+
+    /**
+     * Returns the key of the name and birthday of {@code participant}. The birthday is keyed by its date, as
+     * {@code Birthday#equals} compares, since different texts can give the same date.
+     */
+    private static String nameAndBirthdayOf(Participant participant) {
+        Birthday birthday = participant.getBirthday();
+        return participant.getName().fullName + "|b|" + (birthday == null ? "" : birthday.getDateNumber());
+    }
+
+    /**
+     * Returns a participant in the list other than {@code except} with the same identity as {@code toFind}, or null
+     * if there is none. Only the participants with the phone or email of {@code toFind} have their names compared.
+     */
+    private Participant findSameParticipant(Participant toFind, Participant except) {
+        for (Participant candidate : getParticipantsWithPhone(toFind.getPhone())) {
+            if (candidate != except && candidate.getName().equals(toFind.getName())) {
+                return candidate;
+            }
+        }
+        for (Participant candidate : getParticipantsWithEmail(toFind.getEmail())) {
+            if (candidate != except && candidate.getName().equals(toFind.getName())) {
+                return candidate;
+            }
+        }
+        Participant candidate = nameAndBirthdayIndex.get(nameAndBirthdayOf(toFind));
+        return candidate == except ? null : candidate;
+    }
+
+    /**
+     * Returns the participant in the list that is equal to {@code toFind}, or null if there is none.
+     */
+    private Participant findEqualParticipant(Participant toFind) {
+        for (Participant candidate : getParticipantsWithPhone(toFind.getPhone())) {
+            if (candidate.equals(toFind)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Records {@code participant}, stored at {@code position} of {@code workingList}, in the indexes.
+     */
+    private void addToIndex(Participant participant, int position) {
+        addMember(membersByPhone, participant.getPhone().getNumber(), participant);
+        addMember(membersByEmail, participant.getEmail().getCanonicalValue(), participant);
+        nameAndBirthdayIndex.put(nameAndBirthdayOf(participant), participant);
+        positions.put(participant, position);
+
+        if (participant.getGroup() != null) {
+            addMember(membersByGroup, participant.getGroup().getGroupName(), participant);
+        }
+        if (isNameIndexEnabled) {
+            addToNameIndex(participant);
+        }
+    }
+
+    private void addToNameIndex(Participant participant) {
+        for (String word : toNameWords(participant)) {
+            if (nameWordTrigrams != null && !membersByNameWord.containsKey(word)) {
+                nameWordTrigrams.add(word);
+            }
+            addMember(membersByNameWord, word, participant);
+        }
+    }
+
+    private void clearNameIndex() {
+        membersByNameWord.clear();
+        nameWordTrigrams = null;
+    }
+
+    /**
+     * Removes {@code participant} from the indexes.
+     */
+    private void removeFromIndex(Participant participant) {
+        removeMember(membersByPhone, participant.getPhone().getNumber(), participant);
+        removeMember(membersByEmail, participant.getEmail().getCanonicalValue(), participant);
+        nameAndBirthdayIndex.remove(nameAndBirthdayOf(participant));
+        positions.remove(participant);
+
+        if (participant.getGroup() != null) {
+            removeMember(membersByGroup, participant.getGroup().getGroupName(), participant);
+        }
+        if (isNameIndexEnabled) {
+            for (String word : toNameWords(participant)) {
+                removeMember(membersByNameWord, word, participant);
+                if (nameWordTrigrams != null && !membersByNameWord.containsKey(word)) {
+                    nameWordTrigrams.remove(word);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the words of the name of {@code participant}, in lower case.
+     */
+    private static String[] toNameWords(Participant participant) {
+        return participant.getName().fullName.toLowerCase(Locale.ROOT).split("\\s+");
+    }
+
+    private static <K> void addMember(Map<K, Set<Participant>> members, K key, Participant participant) {
+        members.computeIfAbsent(key, unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(participant);
+    }
+
+    /**
+     * Removes {@code participant} from the members under {@code key}, dropping the key once it has no members left,
+     * so that a key is present exactly when it has members.
+     */
+    private static <K> void removeMember(Map<K, Set<Participant>> members, K key, Participant participant) {
+        Set<Participant> membersOfKey = members.get(key);
+        if (membersOfKey != null && membersOfKey.remove(participant) && membersOfKey.isEmpty()) {
+            members.remove(key);
+        }
     }
 
     /**
-     * Returns true if {@code participants} contains only unique participants.
+     * Replaces the contents of {@code target} with a copy of {@code source} that shares no member sets with it.
      */
-    private boolean participantsAreUnique(List<Participant> participants) {
-        for (int i = 0; i < participants.size() - 1; i++) {
-            for (int j = i + 1; j < participants.size(); j++) {
-                if (participants.get(i).isSameParticipant(participants.get(j))) {
-                    return false;
+    private static <K> void copyMembers(Map<K, Set<Participant>> source, Map<K, Set<Participant>> target) {
+        target.clear();
+        source.forEach((key, membersOfKey) -> {
+            Set<Participant> copy = Collections.newSetFromMap(new IdentityHashMap<>());
+            copy.addAll(membersOfKey);
+            target.put(key, copy);
+        });
+    }
+
+    /**
+     * Returns an unmodifiable view of the members under {@code key}, which is empty if there are none.
+     */
+    private static <K> Set<Participant> membersOf(Map<K, Set<Participant>> members, K key) {
+        Set<Participant> membersOfKey = members.get(key);
+        return membersOfKey == null ? Collections.emptySet() : Collections.unmodifiableSet(membersOfKey);
+    }
+
+    /**
+     * Returns {@code members}, which may be null if there are none, sorted by their position in the list.
+     */
+    private List<Participant> inListOrder(Set<Participant> members) {
+        List<Participant> ordered = members == null ? new ArrayList<>() : new ArrayList<>(members);
+        ordered.sort(Comparator.comparing(positions::get));
+        return ordered;
+    }
+
+    /**
+     * Rebuilds the indexes from the current contents of {@code workingList}.
+     */
+    private void rebuildIndex() {
+        membersByPhone.clear();
+        membersByEmail.clear();
+        nameAndBirthdayIndex.clear();
+        positions.clear();
+        membersByGroup.clear();
+        clearNameIndex();
+        for (int i = 0; i < workingList.size(); i++) {
+            addToIndex(workingList.get(i), i);
+        }
+    }
+
+    /**
+     * Throws a {@code DuplicateParticipantException} naming every pair of participants in {@code participants}
+     * that have the same identity. Runs in linear time by grouping the participants on their identity keys.
+     */
+    private static void requireUniqueParticipants(List<Participant> participants) {
+        Map<String, List<Integer>> holdersByKey = new HashMap<>();
+        Set<List<Integer>> duplicatePairs = new LinkedHashSet<>();
+        for (int i = 0; i < participants.size(); i++) {
+            for (String key : identityKeysOf(participants.get(i))) {
+                List<Integer> holders = holdersByKey.computeIfAbsent(key, unused -> new ArrayList<>());
+                for (int holder : holders) {
+                    duplicatePairs.add(Arrays.asList(holder, i));
                 }
+                holders.add(i);
             }
         }
-        return true;
+
+        if (!duplicatePairs.isEmpty()) {
+            throw new DuplicateParticipantException(duplicatePairs.stream()
+                    .map(pair -> describe(participants, pair.get(0)) + " and " + describe(participants, pair.get(1)))
+                    .collect(Collectors.joining(", ")));
+        }
+    }
+
+    private static String describe(List<Participant> participants, int index) {
+        return participants.get(index).getName() + " (#" + (index + 1) + ")";
     }
 }
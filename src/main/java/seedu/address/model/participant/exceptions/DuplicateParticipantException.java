@@ -8,4 +8,11 @@ public class DuplicateParticipantException extends RuntimeException {
     public DuplicateParticipantException() {
         super("Operation would result in duplicate persons");
     }
+
+    /**
+     * @param duplicates description of the entries that would be duplicates of each other.
+     */
+    public DuplicateParticipantException(String duplicates) {
+        super("Operation would result in duplicate persons: " + duplicates);
+    }
 }
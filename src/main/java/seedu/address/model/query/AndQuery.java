@@ -0,0 +1,48 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A query that matches the participants that all of its operands match.
+ */
+public class AndQuery implements Query {
+
+    private final List<Query> operands;
+
+    /**
+     * Creates a query matching the participants that all of {@code operands} match.
+     * {@code operands} must not be empty.
+     */
+    public AndQuery(List<Query> operands) {
+        requireAllNonNull(operands);
+        checkArgument(!operands.isEmpty(), "A query needs at least one operand");
+        this.operands = Collections.unmodifiableList(new ArrayList<>(operands));
+    }
+
+    public List<Query> getOperands() {
+        return operands;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AndQuery // instanceof handles nulls
+                && operands.equals(((AndQuery) other).operands)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return operands.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return operands.stream().map(Query::toString).collect(Collectors.joining(" and ", "(", ")"));
+    }
+}
@@ -0,0 +1,126 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+/**
+ * A query that compares one field of a participant with a value, such as {@code major=CS} or {@code age<20}.
+ * The value is in the form the field is stored in, e.g. {@code CS} rather than {@code Computer Science}.
+ */
+public class Clause implements Query {
+
+    /**
+     * The fields of a participant that a clause can compare.
+     */
+    public enum Field {
+        NAME, SEX, MAJOR, GROUP, HOUSE, TAG, AGE;
+
+        /**
+         * Returns true if values of this field can be ordered, so it can be compared with {@code <} and {@code >}.
+         */
+        public boolean isOrdered() {
+            return this == AGE;
+        }
+
+        /**
+         * Returns the name of this field in a query.
+         */
+        public String getKeyword() {
+            return name().toLowerCase();
+        }
+    }
+
+    /**
+     * The ways a clause can compare a field with its value.
+     */
+    public enum Operator {
+        EQUAL("="), NOT_EQUAL("!="), LESS("<"), LESS_OR_EQUAL("<="), GREATER(">"), GREATER_OR_EQUAL(">=");
+
+        private final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        public String getSymbol() {
+            return symbol;
+        }
+
+        /**
+         * Returns true if this operator orders values rather than only telling them apart.
+         */
+        public boolean isOrdering() {
+            return this != EQUAL && this != NOT_EQUAL;
+        }
+
+        /**
+         * Returns true if {@code actual} compares with {@code expected} as this operator says.
+         */
+        public boolean compare(int actual, int expected) {
+            switch (this) {
+            case EQUAL:
+                return actual == expected;
+            case NOT_EQUAL:
+                return actual != expected;
+            case LESS:
+                return actual < expected;
+            case LESS_OR_EQUAL:
+                return actual <= expected;
+            case GREATER:
+                return actual > expected;
+            default:
+                return actual >= expected;
+            }
+        }
+    }
+
+    private final Field field;
+    private final Operator operator;
+    private final String value;
+
+    /**
+     * Creates a clause comparing {@code field} with {@code value} by {@code operator}.
+     * {@code operator} may only order values of an ordered field.
+     */
+    public Clause(Field field, Operator operator, String value) {
+        requireAllNonNull(field, operator, value);
+        checkArgument(field.isOrdered() || !operator.isOrdering(),
+                "Only an ordered field can be compared with " + operator.getSymbol());
+        this.field = field;
+        this.operator = operator;
+        this.value = value;
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    public Operator getOperator() {
+        return operator;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Clause // instanceof handles nulls
+                && field == ((Clause) other).field
+                && operator == ((Clause) other).operator
+                && value.equals(((Clause) other).value)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, operator, value);
+    }
+
+    @Override
+    public String toString() {
+        return field.getKeyword() + operator.getSymbol() + (value.contains(" ") ? "\"" + value + "\"" : value);
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A query that matches the participants that its operand does not match.
+ */
+public class NotQuery implements Query {
+
+    private final Query operand;
+
+    public NotQuery(Query operand) {
+        requireNonNull(operand);
+        this.operand = operand;
+    }
+
+    public Query getOperand() {
+        return operand;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NotQuery // instanceof handles nulls
+                && operand.equals(((NotQuery) other).operand)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return ~operand.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "not " + operand;
+    }
+}
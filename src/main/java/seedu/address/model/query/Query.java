@@ -0,0 +1,10 @@
+package seedu.address.model.query;
+
+/**
+ * A condition on the details of a participant, built up from {@link Clause}s on single fields with
+ * {@link AndQuery}, {@link OrQuery} and {@link NotQuery}.
+ * A query only describes the condition. It is planned against an address book to test participants, and the plan
+ * decides the order its clauses are checked in from what the address book knows about its participants.
+ */
+public interface Query {
+}
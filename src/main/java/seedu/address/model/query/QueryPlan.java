@@ -0,0 +1,43 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.function.Predicate;
+
+import seedu.address.model.participant.Participant;
+
+/**
+ * A query planned against an address book: a test of participants that checks the clauses of the query in the order
+ * the planner chose, with a description of that order.
+ */
+public class QueryPlan {
+
+    private final Predicate<Participant> predicate;
+    private final String description;
+
+    public QueryPlan(Predicate<Participant> predicate, String description) {
+        requireAllNonNull(predicate, description);
+        this.predicate = predicate;
+        this.description = description;
+    }
+
+    /**
+     * Returns a predicate that tests whether a participant matches the query.
+     */
+    public Predicate<Participant> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Returns how the query is answered: the order its clauses are checked in, with the number of participants each
+     * is estimated to match.
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
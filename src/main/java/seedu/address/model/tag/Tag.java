@@ -2,6 +2,14 @@ package seedu.address.model.tag;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.commons.util.InternTable;
 
 /**
  * Represents a Tag in the address book.
@@ -12,6 +20,14 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    /** The canonical tags by name. */
+    private static final InternTable<String, Tag> tagsByName = new InternTable<>(Tag::new);
+    /**
+     * The canonical sets of tags. Participants mostly have one of a few combinations of tags, so sharing the sets saves
+     * a set per participant.
+     */
+    private static final InternTable<Set<Tag>, Set<Tag>> tagSets = new InternTable<>(tags -> tags);
+
     public final String tagName;
 
     /**
@@ -25,6 +41,34 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the canonical {@code Tag} named {@code tagName}, which must be a valid tag name.
+     * Equal tags are one shared instance.
+     */
+    public static Tag of(String tagName) {
+        return tagsByName.get(tagName);
+    }
+
+    /**
+     * Returns the canonical unmodifiable set of {@code tags}.
+     * Equal sets of tags are one shared instance, made of canonical tags.
+     */
+    public static Set<Tag> setOf(Collection<Tag> tags) {
+        requireAllNonNull(tags);
+        Set<Tag> canonicalTags;
+        if (tags.isEmpty()) {
+            canonicalTags = Collections.emptySet();
+        } else if (tags.size() == 1) {
+            canonicalTags = Collections.singleton(of(tags.iterator().next().tagName));
+        } else {
+            canonicalTags = new HashSet<>();
+            for (Tag tag : tags) {
+                canonicalTags.add(of(tag.tagName));
+            }
+        }
+        return tagSets.get(Collections.unmodifiableSet(canonicalTags));
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
@@ -0,0 +1,48 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Locale;
+import java.util.OptionalInt;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import seedu.address.commons.util.InternTable;
+
+/**
+ * Numbers the tag names in use, so that a set of tags can be held as a {@link TagMask}.
+ * Tag names are numbered ignoring case, as tags are searched for ignoring case. Numbers are never reused.
+ */
+public final class TagDictionary {
+
+    private static final AtomicInteger nextId = new AtomicInteger();
+    private static final InternTable<String, Integer> idsByName =
+            new InternTable<>(name -> nextId.getAndIncrement());
+
+    private TagDictionary() {}
+
+    /**
+     * Returns the number of {@code tagName}, numbering it if it has not been numbered yet.
+     */
+    public static int idOf(String tagName) {
+        return idsByName.get(toKey(tagName));
+    }
+
+    /**
+     * Returns the number of {@code tagName}, if it has been numbered.
+     */
+    public static OptionalInt findId(String tagName) {
+        return idsByName.find(toKey(tagName)).map(OptionalInt::of).orElse(OptionalInt.empty());
+    }
+
+    /**
+     * Returns the number of tag names numbered so far.
+     */
+    public static int size() {
+        return nextId.get();
+    }
+
+    private static String toKey(String tagName) {
+        requireNonNull(tagName);
+        return tagName.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,128 @@
+package seedu.address.model.tag;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+
+import seedu.address.commons.util.InternTable;
+
+/**
+ * An immutable set of tag names, held as a bit for each name numbered by the {@link TagDictionary}.
+ * The first 64 names fit in a single word; the rest overflow into an array, which most masks do not need.
+ * Testing one mask against another does not allocate.
+ */
+public final class TagMask {
+
+    public static final TagMask EMPTY = new TagMask(0L, null);
+
+    private static final int BITS_PER_WORD = Long.SIZE;
+
+    /** The masks of the canonical tag sets, which participants share. */
+    private static final InternTable<Set<Tag>, TagMask> masksByTags =
+            new InternTable<>(tags -> ofIds(tags.stream().mapToInt(tag -> TagDictionary.idOf(tag.tagName)).toArray()));
+
+    /** The names numbered 0 to 63. */
+    private final long bits;
+    /** The names numbered 64 and above, 64 to a word, or null if there are none. */
+    private final long[] overflow;
+
+    private TagMask(long bits, long[] overflow) {
+        this.bits = bits;
+        this.overflow = overflow;
+    }
+
+    /**
+     * Returns the mask of {@code tags}, which must not be modified afterwards.
+     * Equal sets of tags share one mask.
+     */
+    public static TagMask of(Set<Tag> tags) {
+        return masksByTags.get(tags);
+    }
+
+    /**
+     * Returns the mask of the tag names in {@code tagNames}, or {@code null} if any of them has not been numbered,
+     * in which case no tag set contains it.
+     */
+    static TagMask ofNamesIfNumbered(Collection<String> tagNames) {
+        requireAllNonNull(tagNames);
+        int[] ids = new int[tagNames.size()];
+        int i = 0;
+        for (String tagName : tagNames) {
+            int id = TagDictionary.findId(tagName).orElse(-1);
+            if (id < 0) {
+                return null;
+            }
+            ids[i++] = id;
+        }
+        return ofIds(ids);
+    }
+
+    private static TagMask ofIds(int[] ids) {
+        long bits = 0L;
+        long[] overflow = null;
+        for (int id : ids) {
+            if (id < BITS_PER_WORD) {
+                bits |= 1L << id;
+                continue;
+            }
+            int word = id / BITS_PER_WORD - 1;
+            if (overflow == null || overflow.length <= word) {
+                overflow = overflow == null ? new long[word + 1] : Arrays.copyOf(overflow, word + 1);
+            }
+            overflow[word] |= 1L << (id % BITS_PER_WORD);
+        }
+        return bits == 0L && overflow == null ? EMPTY : new TagMask(bits, overflow);
+    }
+
+    /**
+     * Returns true if this mask has every tag name of {@code other}.
+     */
+    public boolean containsAll(TagMask other) {
+        if ((bits & other.bits) != other.bits) {
+            return false;
+        }
+        if (other.overflow == null) {
+            return true;
+        }
+        for (int i = 0; i < other.overflow.length; i++) {
+            long word = overflow != null && i < overflow.length ? overflow[i] : 0L;
+            if ((word & other.overflow[i]) != other.overflow[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if this mask has any tag name of {@code other}.
+     */
+    public boolean intersects(TagMask other) {
+        if ((bits & other.bits) != 0L) {
+            return true;
+        }
+        if (overflow == null || other.overflow == null) {
+            return false;
+        }
+        for (int i = 0; i < Math.min(overflow.length, other.overflow.length); i++) {
+            if ((overflow[i] & other.overflow[i]) != 0L) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TagMask // instanceof handles nulls
+                && bits == ((TagMask) other).bits
+                && Arrays.equals(overflow, ((TagMask) other).overflow)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(bits) * 31 + Arrays.hashCode(overflow);
+    }
+}
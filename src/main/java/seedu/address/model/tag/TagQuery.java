@@ -0,0 +1,49 @@
+package seedu.address.model.tag;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Tests whether a {@link TagMask} has all of some tag names, ignoring case.
+ * The names are looked up in the {@link TagDictionary} once, so each test is a few bitwise operations.
+ * A name that no tag has yet matches nothing; it is looked up again only after a new tag name has been numbered.
+ */
+public final class TagQuery {
+
+    private final List<String> tagNames;
+    private volatile TagMask required;
+    private volatile int dictionarySizeWhenUnresolved = -1;
+
+    public TagQuery(Collection<String> tagNames) {
+        requireAllNonNull(tagNames);
+        this.tagNames = new ArrayList<>(tagNames);
+    }
+
+    /**
+     * Returns true if {@code tags} has every tag name of this query.
+     */
+    public boolean isMatchedBy(TagMask tags) {
+        TagMask mask = resolve();
+        return mask != null && tags.containsAll(mask);
+    }
+
+    private TagMask resolve() {
+        TagMask mask = required;
+        if (mask != null) {
+            return mask;
+        }
+        int dictionarySize = TagDictionary.size();
+        if (dictionarySize == dictionarySizeWhenUnresolved) {
+            return null;
+        }
+        mask = TagMask.ofNamesIfNumbered(tagNames);
+        if (mask == null) {
+            dictionarySizeWhenUnresolved = dictionarySize;
+        }
+        required = mask;
+        return mask;
+    }
+}
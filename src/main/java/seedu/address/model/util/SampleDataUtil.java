@@ -25,50 +25,50 @@ import seedu.address.model.tag.Tag;
 public class SampleDataUtil {
     public static Participant[] getSampleFreshmen() {
         return new Participant[] {
-            new Participant(new Name("Alex Yeoh"), new Sex("M"), new Birthday("01021996"),
+            new Participant(new Name("Alex Yeoh"), Sex.of("M"), new Birthday("01021996"),
                     new Phone("87438807"),
-                    new Email("alexyeoh@example.com"), new Major("Computer Science"), new Group(""),
+                    new Email("alexyeoh@example.com"), Major.of("Computer Science"), Group.of(""),
                     getTagSet(Value.FRESHMAN)),
-            new Participant(new Name("Bernice Yu"), new Sex("M"), new Birthday("01021996"),
+            new Participant(new Name("Bernice Yu"), Sex.of("M"), new Birthday("01021996"),
                     new Phone("99272758"),
-                    new Email("berniceyu@example.com"), new Major("Information System"), new Group(""),
+                    new Email("berniceyu@example.com"), Major.of("Information System"), Group.of(""),
                     getTagSet(Value.FRESHMAN)),
-            new Participant(new Name("Charlotte Oliveiro"), new Sex("M"), new Birthday("01021996"),
+            new Participant(new Name("Charlotte Oliveiro"), Sex.of("M"), new Birthday("01021996"),
                     new Phone("93210283"),
-                    new Email("charlotte@example.com"), new Major("Computer Engineering"), new Group(""),
+                    new Email("charlotte@example.com"), Major.of("Computer Engineering"), Group.of(""),
                     getTagSet(Value.FRESHMAN)),
-            new Participant(new Name("David Li"), new Sex("M"), new Birthday("01021996"),
+            new Participant(new Name("David Li"), Sex.of("M"), new Birthday("01021996"),
                     new Phone("91031282"),
-                    new Email("lidavid@example.com"), new Major("Business Analytic"), new Group(""),
+                    new Email("lidavid@example.com"), Major.of("Business Analytic"), Group.of(""),
                     getTagSet(Value.FRESHMAN)),
-            new Participant(new Name("Irfan Ibrahim"), new Sex("M"), new Birthday("01021996"),
+            new Participant(new Name("Irfan Ibrahim"), Sex.of("M"), new Birthday("01021996"),
                     new Phone("92492021"),
-                    new Email("irfan@example.com"), new Major("Information Security"), new Group(""),
+                    new Email("irfan@example.com"), Major.of("Information Security"), Group.of(""),
                     getTagSet(Value.FRESHMAN)),
-            new Participant(new Name("Roy Balakrishnan"), new Sex("M"), new Birthday("01021996"),
+            new Participant(new Name("Roy Balakrishnan"), Sex.of("M"), new Birthday("01021996"),
                     new Phone("92624417"),
-                    new Email("royb@example.com"), new Major("Computer Science"), new Group(""),
+                    new Email("royb@example.com"), Major.of("Computer Science"), Group.of(""),
                     getTagSet(Value.FRESHMAN))
         };
     }
 
     public static Participant[] getSampleOgls() {
         return new Participant[] {
-            new Participant(new Name("OGL 1"), new Sex("M"), new Birthday("01021996"),
+            new Participant(new Name("OGL 1"), Sex.of("M"), new Birthday("01021996"),
                     new Phone("91234567"),
-                    new Email("ogl1@example.com"), new Major("Computer Science"), new Group(""),
+                    new Email("ogl1@example.com"), Major.of("Computer Science"), Group.of(""),
                     getTagSet(Value.OGL)),
-            new Participant(new Name("OGL 2"), new Sex("F"), new Birthday("01021996"),
+            new Participant(new Name("OGL 2"), Sex.of("F"), new Birthday("01021996"),
                     new Phone("98765432"),
-                    new Email("ogl2@example.com"), new Major("Information Security"), new Group(""),
+                    new Email("ogl2@example.com"), Major.of("Information Security"), Group.of(""),
                     getTagSet(Value.OGL)),
-            new Participant(new Name("OGL 3"), new Sex("M"), new Birthday("01021996"),
+            new Participant(new Name("OGL 3"), Sex.of("M"), new Birthday("01021996"),
                     new Phone("81234567"),
-                    new Email("ogl3@example.com"), new Major("Computer Engineering"), new Group(""),
+                    new Email("ogl3@example.com"), Major.of("Computer Engineering"), Group.of(""),
                     getTagSet(Value.OGL)),
-            new Participant(new Name("OGL 4"), new Sex("F"), new Birthday("01021996"),
+            new Participant(new Name("OGL 4"), Sex.of("F"), new Birthday("01021996"),
                     new Phone("87654321"),
-                    new Email("ogl4@example.com"), new Major("Business Analytic"), new Group(""),
+                    new Email("ogl4@example.com"), Major.of("Business Analytic"), Group.of(""),
                     getTagSet(Value.OGL))
         };
     }
@@ -114,7 +114,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
     }
 
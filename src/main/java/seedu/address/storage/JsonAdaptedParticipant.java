@@ -61,9 +61,17 @@ class JsonAdaptedParticipant {
     }
 
     /**
-     * Converts a given {@code Participant} into this class for Jackson use.
+     * Converts a given {@code Participant} into this class for Jackson use, without the house of its group.
      */
     public JsonAdaptedParticipant(Participant source) {
+        this(source, null);
+    }
+
+    /**
+     * Converts a given {@code Participant}, whose group is in the house named {@code house}, into this class for
+     * Jackson use.
+     */
+    public JsonAdaptedParticipant(Participant source, String house) {
         name = source.getName().fullName;
         sex = source.getSex().value;
         birthday = source.getBirthday().value;
@@ -71,7 +79,7 @@ class JsonAdaptedParticipant {
         email = source.getEmail().value;
         major = source.getMajor().value;
         group = source.getGroup().getGroupName();
-        house = source.getGroup().getHouseName();
+        this.house = house;
         tagged.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
@@ -102,7 +110,7 @@ class JsonAdaptedParticipant {
         if (!Sex.isValidSex(sex)) {
             throw new IllegalValueException(Sex.MESSAGE_CONSTRAINTS);
         }
-        final Sex modelSex = new Sex(sex);
+        final Sex modelSex = Sex.of(sex);
 
         if (birthday == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -135,7 +143,7 @@ class JsonAdaptedParticipant {
         if (!Major.isValidMajor(major)) {
             throw new IllegalValueException(Major.MESSAGE_CONSTRAINTS);
         }
-        final Major modelMajor = new Major(major);
+        final Major modelMajor = Major.of(major);
 
         if (group == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Group.class.getSimpleName()));
@@ -143,7 +151,7 @@ class JsonAdaptedParticipant {
         if (!Group.isValidGroup(group)) {
             throw new IllegalValueException(Group.MESSAGE_CONSTRAINTS);
         }
-        final Group modelGroup = new Group(group, house);
+        final Group modelGroup = Group.of(group);
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
         return new Participant(modelName, modelSex, modelBirthday, modelPhone, modelEmail,
@@ -1,7 +1,9 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -48,8 +50,13 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
+        // participants refer to their group by name only, so the house of each group is written out alongside them
+        Map<String, String> houseByGroup = new HashMap<>();
+        source.getGroupList().forEach(group -> houseByGroup.put(group.getGroupName(), group.getHouseName()));
         participants.addAll(source.getParticipantList().stream()
-                .map(JsonAdaptedParticipant::new).collect(Collectors.toList()));
+                .map(participant -> new JsonAdaptedParticipant(participant,
+                        houseByGroup.get(participant.getGroup().getGroupName())))
+                .collect(Collectors.toList()));
         groups.addAll(source.getGroupList().stream().map(JsonAdaptedGroup::new).collect(Collectors.toList()));
         houses.addAll(source.getHouseList().stream().map(JsonAdaptedHouse::new).collect(Collectors.toList()));
     }
@@ -40,12 +40,12 @@ public class CustomPieChart extends PieChart {
     }
 
     /**
-     * Update chart data
+     * Update chart data, labelling each slice with its count
      */
     public void updateData (ObservableMap<String, Integer> data) {
         ObservableList<PieChart.Data> chartData = FXCollections.observableArrayList();
         for (String key : data.keySet()) {
-            chartData.add(new PieChart.Data(key, data.get(key)));
+            chartData.add(new PieChart.Data(key + " (" + data.get(key) + ")", data.get(key)));
         }
         this.setData(chartData);
     }
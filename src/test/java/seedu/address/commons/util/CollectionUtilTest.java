@@ -81,6 +81,15 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void isSameElements() {
+        String element = "a";
+        assertTrue(CollectionUtil.isSameElements(Arrays.asList(element), Collections.singletonList(element)));
+        assertFalse(CollectionUtil.isSameElements(Arrays.asList(element), Collections.emptyList()));
+        // equal but different objects
+        assertFalse(CollectionUtil.isSameElements(Arrays.asList(new String("a")), Arrays.asList(new String("a"))));
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
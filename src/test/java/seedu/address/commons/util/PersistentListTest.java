@@ -0,0 +1,121 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void empty_hasNoElements() {
+        PersistentList<String> list = PersistentList.empty();
+        assertTrue(list.isEmpty());
+        assertEquals(Collections.emptyList(), list.toList());
+    }
+
+    @Test
+    public void copyOf_keepsOrder() {
+        List<String> elements = Arrays.asList("a", "b", "c", "d", "e");
+        PersistentList<String> list = PersistentList.copyOf(elements);
+        assertEquals(elements, list.toList());
+        assertEquals("c", list.get(2));
+    }
+
+    @Test
+    public void modifications_leaveOriginalUnchanged() {
+        PersistentList<String> original = PersistentList.copyOf(Arrays.asList("a", "b", "c"));
+
+        PersistentList<String> replaced = original.with(1, "x");
+        PersistentList<String> inserted = original.plus(0, "x");
+        PersistentList<String> appended = original.plus("x");
+        PersistentList<String> removed = original.minus(1);
+
+        assertEquals(Arrays.asList("a", "b", "c"), original.toList());
+        assertEquals(Arrays.asList("a", "x", "c"), replaced.toList());
+        assertEquals(Arrays.asList("x", "a", "b", "c"), inserted.toList());
+        assertEquals(Arrays.asList("a", "b", "c", "x"), appended.toList());
+        assertEquals(Arrays.asList("a", "c"), removed.toList());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        PersistentList.copyOf(Arrays.asList("a", "b")).get(2);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void minus_emptyList_throwsIndexOutOfBoundsException() {
+        PersistentList.empty().minus(0);
+    }
+
+    @Test
+    public void randomModifications_matchArrayList() {
+        Random random = new Random(2113);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+
+        for (int i = 0; i < 2000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.plus(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.with(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.minus(index);
+            }
+        }
+
+        assertEquals(expected, actual.toList());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    @Test
+    public void indexOfFirst_sortedList_findsInsertionPoint() {
+        Random random = new Random(2113);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+
+        for (int i = 0; i < 500; i++) {
+            int value = random.nextInt(100);
+            int index = actual.indexOfFirst(element -> element > value);
+            actual = actual.plus(index, value);
+            expected.add(value);
+        }
+
+        Collections.sort(expected);
+        assertEquals(expected, actual.toList());
+        assertEquals(0, actual.indexOfFirst(element -> true));
+        assertEquals(expected.size(), actual.indexOfFirst(element -> false));
+        assertEquals(expected.indexOf(50), actual.indexOfFirst(element -> element >= 50));
+    }
+
+    @Test
+    public void equals() {
+        PersistentList<String> list = PersistentList.copyOf(Arrays.asList("a", "b"));
+
+        // same elements built differently -> returns true
+        assertEquals(list, PersistentList.<String>empty().plus("b").plus(0, "a"));
+        assertEquals(list.hashCode(), PersistentList.<String>empty().plus("b").plus(0, "a").hashCode());
+
+        // different order -> returns false
+        assertNotEquals(list, PersistentList.copyOf(Arrays.asList("b", "a")));
+
+        // different type -> returns false
+        assertNotEquals(list, Arrays.asList("a", "b"));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.commons.util;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -155,5 +156,22 @@ public class StringUtilTest {
         StringUtil.getDetails(null);
     }
 
+    //---------------- Tests for editDistance --------------------------------------
 
+    @Test
+    public void editDistance_withinMaximum_returnsDistance() {
+        assertEquals(0, StringUtil.editDistance("kurz", "kurz", 2));
+        assertEquals(1, StringUtil.editDistance("kurz", "kunz", 2)); // substitution
+        assertEquals(1, StringUtil.editDistance("kurz", "kurtz", 2)); // insertion
+        assertEquals(1, StringUtil.editDistance("meyer", "meyr", 2)); // deletion
+        assertEquals(2, StringUtil.editDistance("alcie", "alice", 2)); // transposition
+        assertEquals(3, StringUtil.editDistance("", "abc", 3));
+    }
+
+    @Test
+    public void editDistance_overMaximum_returnsMaximumPlusOne() {
+        assertEquals(2, StringUtil.editDistance("kurtz", "kunz", 1));
+        assertEquals(3, StringUtil.editDistance("alice", "bob", 2)); // lengths alone too far apart
+        assertEquals(1, StringUtil.editDistance("abc", "abd", 0));
+    }
 }
@@ -8,6 +8,9 @@ import static org.junit.Assert.assertTrue;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -26,7 +29,13 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.grouping.Group;
 import seedu.address.model.grouping.House;
+import seedu.address.model.participant.Email;
 import seedu.address.model.participant.Participant;
+import seedu.address.model.participant.Phone;
+import seedu.address.model.participant.Role;
+import seedu.address.model.participant.SortKey;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlan;
 import seedu.address.testutil.PersonBuilder;
 
 
@@ -191,6 +200,56 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Participant> getParticipantsInGroup(String groupName) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Participant> getParticipantsInHouse(String houseName) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasParticipantsInGroup(String groupName) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableList<Participant> getParticipantsWithRole(Role role) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Participant> getNameKeywordsPredicate(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Participant> getFuzzyNameKeywordsPredicate(List<String> keywords, int maxDistance) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public QueryPlan planQuery(Query query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Participant> searchParticipants(List<String> keywords, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Participant> getParticipantsWithPhone(Phone phone) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Participant> getParticipantsWithEmail(Email email) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Participant> getFilteredParticipantList() {
             throw new AssertionError("This method should not be called.");
@@ -212,6 +271,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void sortFilteredParticipantList(List<SortKey> keys) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean canUndoAddressBook() {
             throw new AssertionError("This method should not be called.");
@@ -237,6 +301,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void beginBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void endBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void abortBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyProperty<Participant> selectedParticipantProperty() {
             throw new AssertionError("This method should not be called.");
@@ -277,6 +356,16 @@ public class AddCommandTest {
             return new Group("", null);
         }
 
+        @Override
+        public Optional<Group> findGroup(String groupName) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Group> getGroupsInHouse(String houseName) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Group> getFilteredGroupList() {
             throw new AssertionError("This method should not be called.");
@@ -297,6 +386,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<House> findHouse(String houseName) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasHouse(House house) {
             throw new AssertionError("This method should not be called.");
@@ -1,13 +1,20 @@
 package seedu.address.logic.commands;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalGroupHousePersonList.getTypicalAddressBookWithGroupHouse;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.commons.core.Messages;
 import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -15,7 +22,6 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.grouping.Group;
 import seedu.address.model.grouping.House;
 import seedu.address.model.participant.Participant;
-import seedu.address.testutil.PersonBuilder;
 
 public class EditHouseCommandTest {
     @Rule
@@ -59,18 +65,40 @@ public class EditHouseCommandTest {
         EditHouseCommand editHouseCommand = new EditHouseCommand("Red", "Green");
         String expectedMessage = String.format(EditHouseCommand.MESSAGE_SUCCESS, "Red", "Green");
 
-        Participant editedParticipant = new PersonBuilder().withName("Alicia Alice")
-                .withSex("F").withBirthday("07081994").withMajor("CS").withEmail("alicia@example.com")
-                .withPhone("94351253").withGroup("R1", "Green").build();
-        Participant toEdit = model.getFilteredParticipantList().get(0);
-
         expectedModel.setGroup(new Group("R1", "Red"),
                 new Group("R1", "Green"));
         expectedModel.setGroup(new Group("R2", "Red"),
                 new Group("R2", "Green"));
         expectedModel.setHouse(new House("Red"), new House("Green"));
-        expectedModel.setParticipant(toEdit, editedParticipant);
         expectedModel.commitAddressBook();
         assertCommandSuccess(editHouseCommand, model, commandHistory, expectedMessage, expectedModel);
     }
+
+    @Test
+    public void execute_editHouseWithGroup_participantsNotReplaced() throws Exception {
+        List<Participant> participantsInHouse = model.getParticipantsInHouse("Red");
+        List<Participant> participants = new ArrayList<>(model.getAddressBook().getParticipantList());
+
+        new EditHouseCommand("Red", "Green").execute(model, commandHistory);
+
+        assertEquals(participantsInHouse, model.getParticipantsInHouse("Green"));
+        assertTrue(model.getParticipantsInHouse("Red").isEmpty());
+        for (int i = 0; i < participants.size(); i++) {
+            assertSame(participants.get(i), model.getAddressBook().getParticipantList().get(i));
+        }
+    }
+
+    @Test
+    public void execute_editHouseWithGroup_groupListShowsNewHouse() throws Exception {
+        new EditHouseCommand("Red", "Green").execute(model, commandHistory);
+
+        // R1 and R2 are the first groups of the typical address book
+        assertEquals(new Group("R1"), model.getAddressBook().getGroupList().get(0));
+        assertEquals("Green", model.getAddressBook().getGroupList().get(0).getHouseName());
+        assertEquals("Green", model.getAddressBook().getGroupList().get(1).getHouseName());
+
+        CommandResult result = new ListHouseCommand("Green").execute(model, commandHistory);
+        assertEquals(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, 2), result.getFeedbackToUser());
+        assertEquals(model.getParticipantsInHouse("Green"), model.getFilteredParticipantList());
+    }
 }
@@ -0,0 +1,82 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.query.AndQuery;
+import seedu.address.model.query.Clause;
+import seedu.address.model.query.NotQuery;
+import seedu.address.model.query.OrQuery;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FilterCommand}.
+ */
+public class FilterCommandTest {
+    private static final Clause MAJOR_CS = new Clause(Clause.Field.MAJOR, Clause.Operator.EQUAL, "CS");
+    private static final Clause SEX_FEMALE = new Clause(Clause.Field.SEX, Clause.Operator.EQUAL, "Female");
+    private static final Clause NAME_MEIER = new Clause(Clause.Field.NAME, Clause.Operator.EQUAL, "meier");
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void equals() {
+        FilterCommand filterFirstCommand = new FilterCommand(MAJOR_CS);
+        FilterCommand filterSecondCommand = new FilterCommand(SEX_FEMALE);
+
+        // same object -> returns true
+        assertTrue(filterFirstCommand.equals(filterFirstCommand));
+
+        // same values -> returns true
+        assertTrue(filterFirstCommand.equals(new FilterCommand(
+                new Clause(Clause.Field.MAJOR, Clause.Operator.EQUAL, "CS"))));
+
+        // different types -> returns false
+        assertFalse(filterFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(filterFirstCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(filterFirstCommand.equals(filterSecondCommand));
+    }
+
+    @Test
+    public void execute_conjunction_participantsMatchingEveryClauseFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        FilterCommand command = new FilterCommand(new AndQuery(Arrays.asList(MAJOR_CS, SEX_FEMALE)));
+        expectedModel.updateFilteredParticipantList(participant -> participant.equals(ALICE)
+                || participant.equals(GEORGE));
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, GEORGE), model.getFilteredParticipantList());
+    }
+
+    @Test
+    public void execute_disjunctionFromNameIndex_participantsMatchingAnyClauseFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        // Meiers, and female CS majors who are not Alice
+        FilterCommand command = new FilterCommand(new OrQuery(Arrays.asList(NAME_MEIER, new AndQuery(Arrays.asList(
+                MAJOR_CS, SEX_FEMALE, new NotQuery(new Clause(Clause.Field.NAME, Clause.Operator.EQUAL, "alice")))))));
+        expectedModel.updateFilteredParticipantList(participant -> participant.equals(BENSON)
+                || participant.equals(DANIEL) || participant.equals(GEORGE));
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL, GEORGE), model.getFilteredParticipantList());
+    }
+}
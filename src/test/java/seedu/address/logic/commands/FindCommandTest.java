@@ -54,6 +54,9 @@ public class FindCommandTest {
 
         // different participant -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // different distance -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand(firstPredicate, 1)));
     }
 
     @Test
@@ -76,6 +79,26 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredParticipantList());
     }
 
+    @Test
+    public void execute_misspeltKeywords_closestPersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        // "kurtz" is one edit from Kurz but two from Kunz; "meyr" is one edit from Meyer but two from Meier
+        FindCommand command = new FindCommand(preparePredicate("Kurtz meyr"), 2);
+        expectedModel.updateFilteredParticipantList(preparePredicate("Kurz Meyer"));
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, ELLE), model.getFilteredParticipantList());
+    }
+
+    @Test
+    public void execute_exactKeywordInFuzzyMode_onlyExactMatchesFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        // Kurz is one edit from "kunz", but Kunz matches exactly
+        FindCommand command = new FindCommand(preparePredicate("Kunz"), 1);
+        expectedModel.updateFilteredParticipantList(preparePredicate("Kunz"));
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(FIONA), model.getFilteredParticipantList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
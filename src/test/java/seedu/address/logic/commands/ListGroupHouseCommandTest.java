@@ -17,7 +17,6 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.grouping.FindGroupPredicate;
-import seedu.address.model.grouping.FindHousePredicate;
 
 /**
  * List house and group tested in the same class due to similar implementation.
@@ -30,9 +29,6 @@ public class ListGroupHouseCommandTest {
     private FindGroupPredicate prepareGroupPredicate(String group) {
         return new FindGroupPredicate(Arrays.asList(group));
     }
-    private FindHousePredicate prepareHousePredicate(String house) {
-        return new FindHousePredicate(Arrays.asList(house));
-    }
 
     @Test
     public void execute_noParticipantsInGroup() {
@@ -74,9 +70,8 @@ public class ListGroupHouseCommandTest {
     public void execute_noParticipantsInHouse_commandSuccess() {
         String toFind = "Yellow";
         ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
-        FindHousePredicate predicate = prepareHousePredicate(toFind);
-        ListHouseCommand listHouseCommand = new ListHouseCommand(predicate, toFind);
-        expectedModel.updateFilteredParticipantList(predicate);
+        ListHouseCommand listHouseCommand = new ListHouseCommand(toFind);
+        expectedModel.updateFilteredParticipantList(participant -> false);
         String expectedMessage = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
         assertCommandSuccess(listHouseCommand, model, commandHistory, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(), model.getFilteredParticipantList());
@@ -86,11 +81,20 @@ public class ListGroupHouseCommandTest {
     public void execute_twoParticipantsDifferentGroupsInHouse_commandSuccess() {
         String toFind = "Red";
         ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
-        FindHousePredicate predicate = prepareHousePredicate(toFind);
-        ListHouseCommand listHouseCommand = new ListHouseCommand(predicate, toFind);
-        expectedModel.updateFilteredParticipantList(predicate);
+        ListHouseCommand listHouseCommand = new ListHouseCommand(toFind);
+        expectedModel.updateFilteredParticipantList(Arrays.asList(ALICIA, COCO)::contains);
         String expectedMessage = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
         assertCommandSuccess(listHouseCommand, model, commandHistory, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(ALICIA, COCO), model.getFilteredParticipantList());
     }
+
+    @Test
+    public void execute_groupRenamedAfterListing_membersStillListed() throws Exception {
+        new ListHouseCommand("Red").execute(model, commandHistory);
+
+        new EditGroupCommand("R1", "R9").execute(model, commandHistory);
+        assertEquals(2, model.getFilteredParticipantList().size());
+        assertEquals("R9", model.getFilteredParticipantList().get(0).getGroup().getGroupName());
+        assertEquals(COCO, model.getFilteredParticipantList().get(1));
+    }
 }
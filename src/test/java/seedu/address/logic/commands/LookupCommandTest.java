@@ -0,0 +1,87 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.participant.Email;
+import seedu.address.model.participant.Participant;
+import seedu.address.model.participant.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code LookupCommand}.
+ */
+public class LookupCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void equals() {
+        LookupCommand lookupFirstCommand = new LookupCommand(new Phone("98765432"));
+        LookupCommand lookupSecondCommand = new LookupCommand(new Email("johnd@example.com"));
+
+        // same object -> returns true
+        assertTrue(lookupFirstCommand.equals(lookupFirstCommand));
+
+        // same values -> returns true
+        assertTrue(lookupFirstCommand.equals(new LookupCommand(new Phone("98765432"))));
+
+        // different types -> returns false
+        assertFalse(lookupFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(lookupFirstCommand.equals(null));
+
+        // different contact -> returns false
+        assertFalse(lookupFirstCommand.equals(lookupSecondCommand));
+    }
+
+    @Test
+    public void execute_phoneWithPlus_onlyMatchListedAndSelected() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        expectedModel.updateFilteredParticipantList(participant -> participant.equals(BENSON));
+        expectedModel.setSelectedParticipant(BENSON);
+        assertCommandSuccess(new LookupCommand(new Phone("+98765432")), model, commandHistory, expectedMessage,
+                expectedModel);
+        assertEquals(Collections.singletonList(BENSON), model.getFilteredParticipantList());
+        assertEquals(BENSON, model.getSelectedParticipant());
+    }
+
+    @Test
+    public void execute_sharedEmailInOtherCase_allMatchesListed() {
+        Participant carlWithBensonsEmail = new PersonBuilder(CARL).withEmail("JohnD@example.com").build();
+        model.setParticipant(CARL, carlWithBensonsEmail);
+        expectedModel.setParticipant(CARL, carlWithBensonsEmail);
+
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        expectedModel.updateFilteredParticipantList(participant -> participant.equals(BENSON)
+                || participant.equals(carlWithBensonsEmail));
+        assertCommandSuccess(new LookupCommand(new Email("johnd@EXAMPLE.com")), model, commandHistory,
+                expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, carlWithBensonsEmail), model.getFilteredParticipantList());
+        assertEquals(null, model.getSelectedParticipant());
+    }
+
+    @Test
+    public void execute_unknownPhone_listUnchanged() {
+        Phone phone = new Phone("12345678");
+        assertCommandSuccess(new LookupCommand(phone), model, commandHistory,
+                String.format(LookupCommand.MESSAGE_NOT_FOUND, phone), expectedModel);
+    }
+}
@@ -1,8 +1,13 @@
 package seedu.address.logic.commands;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.model.util.SampleDataUtil.getTagSet;
 
+import java.time.Duration;
+import java.util.List;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -19,6 +24,7 @@ import seedu.address.model.participant.Major;
 import seedu.address.model.participant.Name;
 import seedu.address.model.participant.Participant;
 import seedu.address.model.participant.Phone;
+import seedu.address.model.participant.Role;
 import seedu.address.model.participant.Sex;
 
 public class RandomizeCommandTest {
@@ -71,6 +77,73 @@ public class RandomizeCommandTest {
         assertEquals(EMPTY_COMMAND_HISTORY, commandHistory);
     }
 
+    @Test
+    public void execute_balanced_oneFreshmanAndOneOglPerGroup() throws CommandException {
+        ModelManager modelManager = new ModelManager();
+        modelManager.addHouse(new House("Red"));
+        modelManager.addHouse(new House("Blue"));
+        modelManager.addGroup(new Group("R1", "Red"));
+        modelManager.addGroup(new Group("B1", "Blue"));
+
+        modelManager.addParticipant(new Participant(new Name("Alex Yeoh"), new Sex("M"), new Birthday("01021996"),
+                new Phone("87438807"), new Email("alexyeoh@example.com"), new Major("Computer Science"),
+                new Group(""), getTagSet(Value.FRESHMAN)));
+        modelManager.addParticipant(new Participant(new Name("Bernice Yu"), new Sex("F"), new Birthday("01021997"),
+                new Phone("99272758"), new Email("berniceyu@example.com"), new Major("Computer Science"),
+                new Group(""), getTagSet(Value.FRESHMAN)));
+        modelManager.addParticipant(new Participant(new Name("OGL 1"), new Sex("M"), new Birthday("01021994"),
+                new Phone("91234567"), new Email("ogl1@example.com"), new Major("Computer Science"), new Group(""),
+                getTagSet(Value.OGL)));
+        modelManager.addParticipant(new Participant(new Name("OGL 2"), new Sex("F"), new Birthday("01021995"),
+                new Phone("98765432"), new Email("ogl2@example.com"), new Major("Computer Science"), new Group(""),
+                getTagSet(Value.OGL)));
+
+        CommandResult commandResult = new RandomizeCommand(Duration.ZERO).execute(modelManager, commandHistory);
+
+        String messagePrefix = RandomizeCommand.MESSAGE_BALANCED_SUCCESS.substring(0,
+                RandomizeCommand.MESSAGE_BALANCED_SUCCESS.indexOf('%'));
+        assertTrue(commandResult.getFeedbackToUser().startsWith(messagePrefix));
+        assertTrue(commandResult.getFeedbackToUser().contains("R1 "));
+        for (Role role : new Role[] {Role.FRESHMAN, Role.OGL}) {
+            List<Participant> withRole = modelManager.getParticipantsWithRole(role);
+            assertEquals(2, withRole.size());
+            assertNotEquals(withRole.get(0).getGroup(), withRole.get(1).getGroup());
+        }
+    }
+
+    @Test
+    public void execute_incremental_onlyLateRegistrationMoves() throws CommandException {
+        ModelManager modelManager = new ModelManager();
+        modelManager.addHouse(new House("Red"));
+        modelManager.addHouse(new House("Blue"));
+        modelManager.addGroup(new Group("R1", "Red"));
+        modelManager.addGroup(new Group("B1", "Blue"));
+
+        modelManager.addParticipant(new Participant(new Name("Alex Yeoh"), new Sex("M"), new Birthday("01021996"),
+                new Phone("87438807"), new Email("alexyeoh@example.com"), new Major("Computer Science"),
+                new Group("R1"), getTagSet(Value.FRESHMAN)));
+        modelManager.addParticipant(new Participant(new Name("Charlotte Oliveiro"), new Sex("F"),
+                new Birthday("01021997"), new Phone("93210283"), new Email("charlotte@example.com"),
+                new Major("Computer Science"), new Group("R1"), getTagSet(Value.FRESHMAN)));
+        modelManager.addParticipant(new Participant(new Name("Bernice Yu"), new Sex("F"), new Birthday("01021997"),
+                new Phone("99272758"), new Email("berniceyu@example.com"), new Major("Computer Science"),
+                new Group(""), getTagSet(Value.FRESHMAN)));
+        modelManager.addParticipant(new Participant(new Name("OGL 1"), new Sex("M"), new Birthday("01021994"),
+                new Phone("91234567"), new Email("ogl1@example.com"), new Major("Computer Science"), new Group("R1"),
+                getTagSet(Value.OGL)));
+        modelManager.addParticipant(new Participant(new Name("OGL 2"), new Sex("F"), new Birthday("01021995"),
+                new Phone("98765432"), new Email("ogl2@example.com"), new Major("Computer Science"), new Group("B1"),
+                getTagSet(Value.OGL)));
+
+        CommandResult commandResult = RandomizeCommand.incremental().execute(modelManager, commandHistory);
+        assertEquals(String.format(RandomizeCommand.MESSAGE_INCREMENTAL_SUCCESS, 1, "Bernice Yu to B1"),
+                commandResult.getFeedbackToUser());
+        assertEquals(3, modelManager.getParticipantsInGroup("R1").size());
+
+        commandResult = RandomizeCommand.incremental().execute(modelManager, commandHistory);
+        assertEquals(RandomizeCommand.MESSAGE_ALREADY_EVEN, commandResult.getFeedbackToUser());
+    }
+
     @Test
     public void execute_insufficientParticipants_throwsCommandException() throws Exception {
         thrown.expect(CommandException.class);
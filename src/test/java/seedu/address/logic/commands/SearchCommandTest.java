@@ -0,0 +1,96 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalGroupHousePersonList.ALICIA;
+import static seedu.address.testutil.TypicalGroupHousePersonList.COCO;
+import static seedu.address.testutil.TypicalGroupHousePersonList.getTypicalAddressBookWithGroupHouse;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SearchCommand}.
+ */
+public class SearchCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void equals() {
+        SearchCommand searchFirstCommand = new SearchCommand(Collections.singletonList("first"), 10);
+
+        // same values -> returns true
+        assertTrue(searchFirstCommand.equals(new SearchCommand(Collections.singletonList("first"), 10)));
+
+        // different types -> returns false
+        assertFalse(searchFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(searchFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(searchFirstCommand.equals(new SearchCommand(Collections.singletonList("second"), 10)));
+
+        // different limit -> returns false
+        assertFalse(searchFirstCommand.equals(new SearchCommand(Collections.singletonList("first"), 5)));
+    }
+
+    @Test
+    public void execute_multipleKeywords_bestMatchesFirst() {
+        String expectedMessage = String.format(SearchCommand.MESSAGE_SUCCESS, 2, "1. Daniel Meier\n2. Benson Meier");
+        expectedModel.updateFilteredParticipantList(participant -> participant == BENSON || participant == DANIEL);
+        assertCommandSuccess(new SearchCommand(Arrays.asList("DANIEL", "meier"), 10), model, commandHistory,
+                expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredParticipantList());
+    }
+
+    @Test
+    public void execute_moreMatchesThanLimit_bestMatchesListed() {
+        String expectedMessage = String.format(SearchCommand.MESSAGE_SUCCESS, 1, "1. Daniel Meier");
+        expectedModel.updateFilteredParticipantList(participant -> participant == DANIEL);
+        assertCommandSuccess(new SearchCommand(Arrays.asList("meier", "cornelia"), 1), model, commandHistory,
+                expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_hugeLimit_allMatchesListed() {
+        new SearchCommand(Arrays.asList("DANIEL", "meier"), Integer.MAX_VALUE).execute(model, commandHistory);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredParticipantList());
+
+        // the scores of one search do not carry over to the next
+        new SearchCommand(Collections.singletonList("benson"), Integer.MAX_VALUE).execute(model, commandHistory);
+        assertEquals(Collections.singletonList(BENSON), model.getFilteredParticipantList());
+    }
+
+    @Test
+    public void execute_houseAndTagKeywords_participantsInHouseOrWithTagFound() {
+        Model groupHouseModel = new ModelManager(getTypicalAddressBookWithGroupHouse(), new UserPrefs());
+        new SearchCommand(Collections.singletonList("red"), 10).execute(groupHouseModel, commandHistory);
+        assertEquals(Arrays.asList(ALICIA, COCO), groupHouseModel.getFilteredParticipantList());
+
+        new SearchCommand(Collections.singletonList("vegetarian"), 10).execute(groupHouseModel, commandHistory);
+        assertEquals(Collections.singletonList(COCO), groupHouseModel.getFilteredParticipantList());
+    }
+
+    @Test
+    public void execute_noMatches_noParticipantListed() {
+        String expectedMessage = String.format(SearchCommand.MESSAGE_SUCCESS, 0, "");
+        expectedModel.updateFilteredParticipantList(participant -> false);
+        assertCommandSuccess(new SearchCommand(Collections.singletonList("zzz"), 10), model, commandHistory,
+                expectedMessage, expectedModel);
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.participant.Participant;
+import seedu.address.model.participant.SortKey;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SortCommand}.
+ */
+public class SortCommandTest {
+    private static final List<SortKey> OLDEST_FIRST = Arrays.asList(new SortKey(SortKey.Field.AGE, false),
+            new SortKey(SortKey.Field.NAME, true));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void equals() {
+        SortCommand sortFirstCommand = new SortCommand(OLDEST_FIRST);
+        SortCommand sortSecondCommand = new SortCommand(Collections.singletonList(
+                new SortKey(SortKey.Field.MAJOR, true)));
+
+        // same object -> returns true
+        assertTrue(sortFirstCommand.equals(sortFirstCommand));
+
+        // same values -> returns true
+        assertTrue(sortFirstCommand.equals(new SortCommand(Arrays.asList(new SortKey(SortKey.Field.AGE, false),
+                new SortKey(SortKey.Field.NAME, true)))));
+
+        // different types -> returns false
+        assertFalse(sortFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(sortFirstCommand.equals(null));
+
+        // different keys -> returns false
+        assertFalse(sortFirstCommand.equals(sortSecondCommand));
+    }
+
+    @Test
+    public void execute_multipleKeys_participantsSortedAndKeptSorted() {
+        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, "age desc, name");
+        expectedModel.sortFilteredParticipantList(OLDEST_FIRST);
+        assertCommandSuccess(new SortCommand(OLDEST_FIRST), model, commandHistory, expectedMessage, expectedModel);
+        // participants born on the same day are ordered by name
+        assertEquals(Arrays.asList(DANIEL, ELLE, FIONA, GEORGE, CARL, BENSON, ALICE),
+                model.getFilteredParticipantList());
+
+        // an edited participant moves to its new place
+        Participant olderCarl = new PersonBuilder(CARL).withBirthday("01021979").build();
+        model.setParticipant(CARL, olderCarl);
+        assertEquals(Arrays.asList(olderCarl, DANIEL, ELLE, FIONA, GEORGE, BENSON, ALICE),
+                model.getFilteredParticipantList());
+    }
+
+    @Test
+    public void execute_none_participantsInOrderAdded() {
+        model.sortFilteredParticipantList(OLDEST_FIRST);
+        assertCommandSuccess(new SortCommand(Collections.emptyList()), model, commandHistory,
+                SortCommand.MESSAGE_UNSORTED, expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE, FIONA, GEORGE),
+                model.getFilteredParticipantList());
+    }
+}
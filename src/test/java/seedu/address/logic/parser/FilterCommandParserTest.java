@@ -0,0 +1,69 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.model.participant.Major;
+import seedu.address.model.query.AndQuery;
+import seedu.address.model.query.Clause;
+import seedu.address.model.query.NotQuery;
+import seedu.address.model.query.OrQuery;
+
+public class FilterCommandParserTest {
+
+    private static final Clause MAJOR_CS = new Clause(Clause.Field.MAJOR, Clause.Operator.EQUAL, "CS");
+    private static final Clause SEX_FEMALE = new Clause(Clause.Field.SEX, Clause.Operator.EQUAL, "Female");
+    private static final Clause GROUP_G3 = new Clause(Clause.Field.GROUP, Clause.Operator.EQUAL, "G3");
+    private static final Clause AGE_UNDER_20 = new Clause(Clause.Field.AGE, Clause.Operator.LESS, "20");
+
+    private FilterCommandParser parser = new FilterCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_conjunction_returnsFilterCommand() {
+        FilterCommand expectedCommand = new FilterCommand(
+                new AndQuery(Arrays.asList(MAJOR_CS, SEX_FEMALE, GROUP_G3, AGE_UNDER_20)));
+        assertParseSuccess(parser, "major=CS and sex=F and group=g3 and age<20", expectedCommand);
+
+        // keywords ignore case and values are normalised
+        assertParseSuccess(parser, " MAJOR = \"computer science\" AND sex=female And group = G3 and age < 20 ",
+                expectedCommand);
+    }
+
+    @Test
+    public void parse_andBindsTighterThanOr_returnsFilterCommand() {
+        FilterCommand expectedCommand = new FilterCommand(new OrQuery(Arrays.asList(
+                new AndQuery(Arrays.asList(MAJOR_CS, SEX_FEMALE)), new NotQuery(GROUP_G3))));
+        assertParseSuccess(parser, "major=CS and sex=F or not group=G3", expectedCommand);
+
+        // parentheses group first
+        expectedCommand = new FilterCommand(new AndQuery(Arrays.asList(
+                MAJOR_CS, new OrQuery(Arrays.asList(SEX_FEMALE, new NotQuery(GROUP_G3))))));
+        assertParseSuccess(parser, "major=CS and (sex=F or not group=G3)", expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        String invalidFormat = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "major=CS and", invalidFormat);
+        assertParseFailure(parser, "(major=CS or sex=F", invalidFormat);
+        assertParseFailure(parser, "major CS", invalidFormat);
+        assertParseFailure(parser, "name=\"tan", invalidFormat);
+        assertParseFailure(parser, "major=CS sex=F", invalidFormat);
+
+        assertParseFailure(parser, "height>180", String.format(FilterCommandParser.MESSAGE_UNKNOWN_FIELD, "height"));
+        assertParseFailure(parser, "sex>F", FilterCommandParser.MESSAGE_UNORDERED_FIELD);
+        assertParseFailure(parser, "age<twenty", FilterCommandParser.MESSAGE_INVALID_AGE);
+        assertParseFailure(parser, "major=art", Major.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -31,4 +31,20 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_distanceGiven_returnsFuzzyFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alcie", "Bbo")), 2);
+        assertParseSuccess(parser, "Alcie Bbo d/2", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidDistance_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "Alice d/0", expectedMessage);
+        assertParseFailure(parser, "Alice d/" + (FindCommand.MAX_DISTANCE + 1), expectedMessage);
+        assertParseFailure(parser, "Alice d/one", expectedMessage);
+        assertParseFailure(parser, " d/1", expectedMessage);
+    }
+
 }
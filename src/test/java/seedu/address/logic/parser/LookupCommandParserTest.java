@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.LookupCommand;
+import seedu.address.model.participant.Email;
+import seedu.address.model.participant.Phone;
+
+public class LookupCommandParserTest {
+
+    private LookupCommandParser parser = new LookupCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, LookupCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsLookupCommand() {
+        assertParseSuccess(parser, " +6598765432 ", new LookupCommand(new Phone("+6598765432")));
+        assertParseSuccess(parser, "\t Johnd@Example.com", new LookupCommand(new Email("Johnd@Example.com")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "9876", Phone.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "johnd@", Email.MESSAGE_CONSTRAINTS);
+    }
+}
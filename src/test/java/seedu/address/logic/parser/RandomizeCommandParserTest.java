@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.Duration;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.RandomizeCommand;
+
+public class RandomizeCommandParserTest {
+
+    private RandomizeCommandParser parser = new RandomizeCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsRandomizeCommand() {
+        assertParseSuccess(parser, "  ", new RandomizeCommand());
+        assertParseSuccess(parser, " Balanced ", new RandomizeCommand(Duration.ZERO));
+        assertParseSuccess(parser, " budget/500ms", new RandomizeCommand(Duration.ofMillis(500)));
+        assertParseSuccess(parser, " balanced budget/2S", new RandomizeCommand(Duration.ofSeconds(2)));
+        assertParseSuccess(parser, " budget/250", new RandomizeCommand(Duration.ofMillis(250)));
+        assertParseSuccess(parser, " seed/-42", new RandomizeCommand(-42L));
+        assertParseSuccess(parser, " incremental ", RandomizeCommand.incremental());
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "fair", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                RandomizeCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " budget/0.5s", RandomizeCommandParser.MESSAGE_INVALID_BUDGET);
+        assertParseFailure(parser, " budget/61s", RandomizeCommandParser.MESSAGE_INVALID_BUDGET);
+        assertParseFailure(parser, " seed/abc", RandomizeCommandParser.MESSAGE_INVALID_SEED);
+        assertParseFailure(parser, " budget/1s seed/1", RandomizeCommandParser.MESSAGE_BUDGET_AND_SEED);
+        assertParseFailure(parser, " incremental budget/1s", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                RandomizeCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.SearchCommand;
+
+public class SearchCommandParserTest {
+
+    private SearchCommandParser parser = new SearchCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "     ", expectedMessage);
+        assertParseFailure(parser, " k/5", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidLimit_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "Alice k/0", expectedMessage);
+        assertParseFailure(parser, "Alice k/five", expectedMessage);
+    }
+
+    @Test
+    public void parse_validArgs_returnsSearchCommand() {
+        // no limit
+        assertParseSuccess(parser, " \n Alice \n \t red  \t",
+                new SearchCommand(Arrays.asList("Alice", "red"), SearchCommand.DEFAULT_LIMIT));
+
+        // with limit
+        assertParseSuccess(parser, "Alice red k/3", new SearchCommand(Arrays.asList("Alice", "red"), 3));
+    }
+
+}
@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.model.participant.SortKey;
+
+public class SortCommandParserTest {
+
+    private SortCommandParser parser = new SortCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsSortCommand() {
+        SortCommand expectedCommand = new SortCommand(Arrays.asList(new SortKey(SortKey.Field.AGE, false),
+                new SortKey(SortKey.Field.NAME, true)));
+        assertParseSuccess(parser, "age desc name", expectedCommand);
+
+        // keywords ignore case and multiple whitespaces between them
+        assertParseSuccess(parser, " \n AGE Desc \t name asc  ", expectedCommand);
+
+        // none stops sorting
+        assertParseSuccess(parser, "none", new SortCommand(Collections.emptyList()));
+    }
+
+    @Test
+    public void parse_unknownField_throwsParseException() {
+        assertParseFailure(parser, "height", String.format(SortCommandParser.MESSAGE_UNKNOWN_FIELD, "height"));
+        assertParseFailure(parser, "desc name", String.format(SortCommandParser.MESSAGE_UNKNOWN_FIELD, "desc"));
+        assertParseFailure(parser, "name none", String.format(SortCommandParser.MESSAGE_UNKNOWN_FIELD, "none"));
+    }
+}
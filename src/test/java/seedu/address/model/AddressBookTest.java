@@ -6,13 +6,24 @@ import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_MAJOR_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.MARK;
+import static seedu.address.testutil.TypicalPersons.SONIA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
+import org.junit.After;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -22,10 +33,17 @@ import javafx.beans.property.SimpleIntegerProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
+import seedu.address.commons.util.DailyClock;
 import seedu.address.model.grouping.Group;
 import seedu.address.model.grouping.House;
 import seedu.address.model.participant.Participant;
+import seedu.address.model.participant.Role;
 import seedu.address.model.participant.exceptions.DuplicateParticipantException;
+import seedu.address.model.query.AndQuery;
+import seedu.address.model.query.Clause;
+import seedu.address.model.query.NotQuery;
+import seedu.address.model.query.OrQuery;
+import seedu.address.model.query.QueryPlan;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -35,6 +53,11 @@ public class AddressBookTest {
 
     private final AddressBook addressBook = new AddressBook();
 
+    @After
+    public void tearDown() {
+        DailyClock.setClock(Clock.systemDefaultZone());
+    }
+
     @Test
     public void constructor() {
         assertEquals(Collections.emptyList(), addressBook.getParticipantList());
@@ -96,6 +119,40 @@ public class AddressBookTest {
         addressBook.getParticipantList().remove(0);
     }
 
+    @Test
+    public void getMajorData_participantsAddedEditedAndRemoved_countsKeptUpToDate() {
+        ObservableMap<String, Integer> majorData = addressBook.getMajorData();
+        addressBook.addParticipant(ALICE);
+        addressBook.addParticipant(BENSON);
+        assertEquals(Map.of("CS", 1, "IS", 1), majorData);
+
+        addressBook.setParticipant(BENSON, new PersonBuilder(BENSON).withMajor("CS").build());
+        assertEquals(Map.of("CS", 2), majorData);
+
+        addressBook.resetData(new AddressBook());
+        assertEquals(Collections.emptyMap(), majorData);
+    }
+
+    @Test
+    public void getAgeData_birthdayPassesAfterParticipantAdded_ageCountedAfresh() {
+        setToday(LocalDate.of(2019, 1, 31));
+        Participant participant = new PersonBuilder(ALICE).withBirthday("01021999").build();
+        addressBook.addParticipant(participant);
+        assertEquals(Map.of("19", 1), addressBook.getAgeData());
+
+        setToday(LocalDate.of(2019, 2, 1));
+        assertEquals(Map.of("20", 1), addressBook.getAgeData());
+        addressBook.removeParticipant(participant);
+        assertEquals(Collections.emptyMap(), addressBook.getAgeData());
+    }
+
+    @Test
+    public void getSexData_modifyMap_throwsUnsupportedOperationException() {
+        addressBook.addParticipant(ALICE);
+        thrown.expect(UnsupportedOperationException.class);
+        addressBook.getSexData().clear();
+    }
+
     @Test
     public void addListener_withInvalidationListener_listenerAdded() {
         SimpleIntegerProperty counter = new SimpleIntegerProperty();
@@ -105,6 +162,187 @@ public class AddressBookTest {
         assertEquals(1, counter.get());
     }
 
+    @Test
+    public void endBatch_changesInBatch_listenerCalledOnce() {
+        SimpleIntegerProperty counter = new SimpleIntegerProperty();
+        addressBook.addListener(observable -> counter.set(counter.get() + 1));
+        addressBook.beginBatch();
+        addressBook.addParticipant(ALICE);
+        addressBook.addParticipant(BENSON);
+        addressBook.removeParticipant(ALICE);
+        assertEquals(0, counter.get());
+
+        addressBook.endBatch();
+        assertEquals(1, counter.get());
+        assertEquals(Collections.singletonList(BENSON), addressBook.getParticipantList());
+    }
+
+    @Test
+    public void findGroup_groupsAddedEditedAndRemoved_lookupsKeptUpToDate() {
+        addressBook.addGroup(new Group("R1", "Red"));
+        addressBook.addGroup(new Group("R2", "Red"));
+        addressBook.addGroup(new Group("B1", "Blue"));
+        addressBook.setGroup(new Group("R2", "Red"), new Group("B2", "Blue"));
+        addressBook.removeGroup(new Group("B1"));
+
+        assertEquals(new Group("R1"), addressBook.findGroup("R1").get());
+        assertFalse(addressBook.findGroup("R2").isPresent());
+        assertFalse(addressBook.findGroup("B1").isPresent());
+        assertEquals(Collections.singletonList(new Group("R1")), addressBook.getGroupsInHouse("Red"));
+        assertEquals(Collections.singletonList(new Group("B2")), addressBook.getGroupsInHouse("Blue"));
+        assertTrue(addressBook.getGroupsInHouse("Green").isEmpty());
+    }
+
+    @Test
+    public void findHouse_housesChangedInBatch_lookupsKeptUpToDate() {
+        addressBook.addHouse(new House("Red"));
+        addressBook.beginBatch();
+        addressBook.setHouse(new House("Red"), new House("Blue"));
+        addressBook.addHouse(new House("Green"));
+        assertFalse(addressBook.findHouse("Red").isPresent());
+        addressBook.endBatch();
+
+        assertEquals(new House("Blue"), addressBook.findHouse("Blue").get());
+        assertEquals(new House("Green"), addressBook.findHouse("Green").get());
+        assertFalse(addressBook.findHouse("Red").isPresent());
+    }
+
+    @Test
+    public void getGroup_groupInAddressBook_argumentNotModified() {
+        addressBook.addGroup(new Group("R1", "Red"));
+        Group toFind = new Group("R1");
+        assertEquals("Red", addressBook.getGroup(toFind).getHouseName());
+        assertEquals(null, toFind.getHouseName());
+    }
+
+    @Test
+    public void getParticipantsInGroup_participantsAddedEditedAndRemoved_membersKeptUpToDate() {
+        Participant alice = new PersonBuilder(ALICE).withGroup("R1", "Red").build();
+        Participant benson = new PersonBuilder(BENSON).withGroup("R1", "Red").build();
+        Participant movedBenson = new PersonBuilder(BENSON).withGroup("B1", "Blue").build();
+        addressBook.addGroup(new Group("R1", "Red"));
+        addressBook.addGroup(new Group("B1", "Blue"));
+        addressBook.addParticipant(alice);
+        addressBook.addParticipant(benson);
+        assertEquals(Arrays.asList(alice, benson), addressBook.getParticipantsInGroup("R1"));
+        assertEquals(Arrays.asList(alice, benson), addressBook.getParticipantsInHouse("Red"));
+
+        addressBook.beginBatch();
+        addressBook.setParticipant(benson, movedBenson);
+        addressBook.removeParticipant(alice);
+        assertFalse(addressBook.hasParticipantsInGroup("R1"));
+        addressBook.endBatch();
+
+        assertTrue(addressBook.getParticipantsInGroup("R1").isEmpty());
+        assertTrue(addressBook.getParticipantsInHouse("Red").isEmpty());
+        assertTrue(addressBook.hasParticipantsInGroup("B1"));
+        assertEquals(Collections.singletonList(movedBenson), addressBook.getParticipantsInHouse("Blue"));
+    }
+
+    @Test
+    public void getParticipantsWithRole_participantsAddedEditedAndRemoved_viewsKeptUpToDate() {
+        ObservableList<Participant> freshmen = addressBook.getParticipantsWithRole(Role.FRESHMAN);
+        ObservableList<Participant> ogls = addressBook.getParticipantsWithRole(Role.OGL);
+        addressBook.addParticipant(ALICE);
+        addressBook.addParticipant(MARK);
+        addressBook.addParticipant(SONIA);
+        assertEquals(Collections.singletonList(MARK), freshmen);
+        assertEquals(Collections.singletonList(SONIA), ogls);
+        assertEquals(Collections.singletonList(ALICE), addressBook.getParticipantsWithRole(Role.PARTICIPANT));
+
+        Participant promotedMark = new PersonBuilder(MARK).withTags("ogl").build();
+        addressBook.setParticipant(MARK, promotedMark);
+        addressBook.removeParticipant(SONIA);
+        assertTrue(freshmen.isEmpty());
+        assertEquals(Collections.singletonList(promotedMark), ogls);
+    }
+
+    @Test
+    public void getNameKeywordsPredicate_nameIndexEnabledOrDisabled_sameParticipantsMatched() {
+        AddressBook indexed = getTypicalAddressBook();
+        indexed.setNameIndexEnabled(true);
+        AddressBook unindexed = getTypicalAddressBook();
+        List<String> keywords = Arrays.asList("meier", "KURZ", "Pauline");
+
+        for (AddressBook book : Arrays.asList(indexed, unindexed)) {
+            book.setParticipant(ALICE, new PersonBuilder(ALICE).withName("Alice Kunz").build());
+            book.removeParticipant(BENSON);
+            book.addParticipant(new PersonBuilder(BENSON).withName("Kurz Pauline").build());
+        }
+
+        assertEquals(matching(unindexed, keywords), matching(indexed, keywords));
+        assertEquals(Arrays.asList("Carl Kurz", "Daniel Meier", "Kurz Pauline"), matching(indexed, keywords));
+    }
+
+    private static List<String> matching(AddressBook book, List<String> keywords) {
+        return book.getParticipantList().stream()
+                .filter(book.getNameKeywordsPredicate(keywords))
+                .map(participant -> participant.getName().fullName)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void planQuery_clausesOrderedBySelectivity_everyParticipantChecked() {
+        AddressBook book = getTypicalAddressBook();
+        book.setNameIndexEnabled(true);
+        for (int i = 0; i < 40; i++) {
+            book.addParticipant(new PersonBuilder().withName("Filler " + i).withSex("M").withMajor("IS")
+                    .withPhone(Integer.toString(80000000 + i)).withEmail("filler" + i + "@example.com").build());
+        }
+        book.addHouse(new House("Red"));
+        book.addGroup(new Group("G1", "Red"));
+        book.setParticipant(ALICE, new PersonBuilder(ALICE).withGroup("G1").build());
+        Participant carlInRed = new PersonBuilder(CARL).withGroup("G1").build();
+        book.setParticipant(CARL, carlInRed);
+        Clause female = new Clause(Clause.Field.SEX, Clause.Operator.EQUAL, "Female");
+        Clause computerScience = new Clause(Clause.Field.MAJOR, Clause.Operator.EQUAL, "CS");
+        Clause red = new Clause(Clause.Field.HOUSE, Clause.Operator.EQUAL, "Red");
+        Clause meier = new Clause(Clause.Field.NAME, Clause.Operator.EQUAL, "meier");
+
+        // the rarer sex is checked before the commoner major
+        QueryPlan plan = book.planQuery(new AndQuery(Arrays.asList(computerScience, female)));
+        assertEquals("(sex=Female ~2 and major=CS ~4) ~2", plan.getDescription());
+        assertEquals(Arrays.asList("Alice Pauline", "George Best"), matching(book, plan));
+
+        // the house is counted from the group index, so it is checked first
+        plan = book.planQuery(new AndQuery(Arrays.asList(computerScience, red, new NotQuery(female))));
+        assertEquals("(house=Red ~2 and major=CS ~4 and not sex=Female ~45) ~2", plan.getDescription());
+        assertEquals(Collections.singletonList("Carl Kurz"), matching(book, plan));
+
+        // an or checks its commonest operand first
+        plan = book.planQuery(new OrQuery(Arrays.asList(red, meier)));
+        assertEquals("(house=Red ~2 or name=meier ~2) ~4", plan.getDescription());
+        assertEquals(Arrays.asList("Alice Pauline", "Benson Meier", "Carl Kurz", "Daniel Meier"),
+                matching(book, plan));
+        plan = book.planQuery(new Clause(Clause.Field.NAME, Clause.Operator.EQUAL, "filler"));
+        assertEquals("name=filler ~40", plan.getDescription());
+
+        // participants edited after the plan are still matched by what they are now
+        plan = book.planQuery(new AndQuery(Arrays.asList(computerScience, red, new NotQuery(female))));
+        book.setParticipant(carlInRed, new PersonBuilder(carlInRed).withPhone("81234567").build());
+        book.setParticipant(GEORGE, new PersonBuilder(GEORGE).withGroup("G1").withSex("M").build());
+        assertEquals(Arrays.asList("Carl Kurz", "George Best"), matching(book, plan));
+    }
+
+    private static List<String> matching(AddressBook book, QueryPlan plan) {
+        return book.getParticipantList().stream()
+                .filter(plan.getPredicate())
+                .map(participant -> participant.getName().fullName)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void planQuery_ageClausePastBirthday_checkedAgainstNewDay() {
+        setToday(LocalDate.of(2019, 8, 6));
+        addressBook.addParticipant(ALICE);
+        QueryPlan plan = addressBook.planQuery(new Clause(Clause.Field.AGE, Clause.Operator.LESS, "25"));
+        assertTrue(plan.getPredicate().test(ALICE));
+
+        // Alice turns 25 on 7 August
+        setToday(LocalDate.of(2019, 8, 7));
+        assertFalse(plan.getPredicate().test(ALICE));
+    }
+
     @Test
     public void removeListener_withInvalidationListener_listenerRemoved() {
         SimpleIntegerProperty counter = new SimpleIntegerProperty();
@@ -115,6 +353,10 @@ public class AddressBookTest {
         assertEquals(0, counter.get());
     }
 
+    private static void setToday(LocalDate today) {
+        DailyClock.setClock(Clock.fixed(today.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose participants list can violate interface constraints.
      */
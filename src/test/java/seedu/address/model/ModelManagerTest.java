@@ -4,6 +4,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_MAJOR_BOB;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PARTICIPANTS;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
@@ -13,12 +14,16 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.function.Predicate;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.SearchSettings;
 import seedu.address.model.participant.NameContainsKeywordsPredicate;
 import seedu.address.model.participant.Participant;
 import seedu.address.model.participant.exceptions.ParticipantNotFoundException;
@@ -129,12 +134,129 @@ public class ModelManagerTest {
         assertEquals(updatedAlice, modelManager.getSelectedParticipant());
     }
 
+    @Test
+    public void endBatch_changesAndCommitInBatch_appliedAsOneChangeAndOneCommit() {
+        modelManager.addParticipant(ALICE);
+        modelManager.commitAddressBook();
+        SimpleIntegerProperty changeCount = new SimpleIntegerProperty();
+        modelManager.getAddressBook().getParticipantList().addListener((ListChangeListener<Participant>) change ->
+                changeCount.set(changeCount.get() + 1));
+
+        Participant editedAlice = new PersonBuilder(ALICE).withMajor(VALID_MAJOR_BOB).build();
+        modelManager.beginBatch();
+        modelManager.addParticipant(BENSON);
+        modelManager.setParticipant(ALICE, editedAlice);
+        modelManager.commitAddressBook();
+        assertTrue(modelManager.hasParticipant(BENSON));
+        assertEquals(Collections.singletonList(ALICE), modelManager.getAddressBook().getParticipantList());
+        modelManager.endBatch();
+
+        assertEquals(1, changeCount.get());
+        assertEquals(Arrays.asList(editedAlice, BENSON), modelManager.getAddressBook().getParticipantList());
+        modelManager.undoAddressBook();
+        assertEquals(Collections.singletonList(ALICE), modelManager.getAddressBook().getParticipantList());
+    }
+
+    @Test
+    public void abortBatch_changesAndCommitInBatch_allDropped() {
+        modelManager.addParticipant(ALICE);
+        modelManager.commitAddressBook();
+        SimpleIntegerProperty changeCount = new SimpleIntegerProperty();
+        modelManager.getAddressBook().getParticipantList().addListener((ListChangeListener<Participant>) change ->
+                changeCount.set(changeCount.get() + 1));
+
+        modelManager.beginBatch();
+        modelManager.beginBatch();
+        modelManager.addParticipant(BENSON);
+        modelManager.setParticipant(ALICE, new PersonBuilder(ALICE).withMajor(VALID_MAJOR_BOB).build());
+        modelManager.commitAddressBook();
+        modelManager.abortBatch();
+        // the outer batch ends as usual, but drops the changes of the aborted batch nested in it
+        modelManager.endBatch();
+
+        assertEquals(0, changeCount.get());
+        assertEquals(Collections.singletonList(ALICE), modelManager.getAddressBook().getParticipantList());
+        assertFalse(modelManager.hasParticipant(BENSON));
+        assertTrue(modelManager.hasParticipant(ALICE));
+        // the commit in the batch was dropped too, so undoing goes back to before Alice was added
+        modelManager.undoAddressBook();
+        assertEquals(Collections.emptyList(), modelManager.getAddressBook().getParticipantList());
+        modelManager.redoAddressBook();
+
+        // the next batch is not affected
+        modelManager.beginBatch();
+        modelManager.addParticipant(BENSON);
+        modelManager.endBatch();
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredParticipantList());
+    }
+
+    @Test
+    public void addParticipant_inBatch_showsAllParticipantsOnceBatchEnds() {
+        modelManager.addParticipant(ALICE);
+        modelManager.addParticipant(BENSON);
+        modelManager.updateFilteredParticipantList(participant -> participant.equals(ALICE));
+
+        modelManager.beginBatch();
+        modelManager.addParticipant(BOB);
+        assertEquals(Collections.singletonList(ALICE), modelManager.getFilteredParticipantList());
+        modelManager.endBatch();
+
+        assertEquals(Arrays.asList(ALICE, BENSON, BOB), modelManager.getFilteredParticipantList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
         modelManager.getFilteredParticipantList().remove(0);
     }
 
+    @Test
+    public void updateFilteredPersonList_samePredicateAgain_matchesReusedUntilAddressBookChanges() {
+        modelManager.addParticipant(ALICE);
+        modelManager.addParticipant(BENSON);
+        int[] testCount = new int[1];
+        Predicate<Participant> hasAliceEmail = participant -> {
+            testCount[0]++;
+            return participant.getEmail().equals(ALICE.getEmail());
+        };
+        modelManager.updateFilteredParticipantList(hasAliceEmail);
+        modelManager.updateFilteredParticipantList(PREDICATE_SHOW_ALL_PARTICIPANTS);
+        modelManager.updateFilteredParticipantList(hasAliceEmail);
+        assertEquals(2, testCount[0]);
+        assertEquals(Collections.singletonList(ALICE), modelManager.getFilteredParticipantList());
+
+        // an edited participant is tested again while the filter stays
+        Participant editedAlice = new PersonBuilder(ALICE).withMajor(VALID_MAJOR_BOB).build();
+        modelManager.setParticipant(ALICE, editedAlice);
+        assertEquals(Collections.singletonList(editedAlice), modelManager.getFilteredParticipantList());
+
+        // the matches are taken afresh once the address book has changed
+        testCount[0] = 0;
+        modelManager.updateFilteredParticipantList(PREDICATE_SHOW_ALL_PARTICIPANTS);
+        modelManager.updateFilteredParticipantList(hasAliceEmail);
+        assertEquals(2, testCount[0]);
+    }
+
+    @Test
+    public void updateFilteredPersonList_threadSafePredicateOverThreshold_sameParticipantsAsSequential() {
+        AddressBookBuilder addressBookBuilder = new AddressBookBuilder();
+        for (int i = 0; i < 150; i++) {
+            addressBookBuilder.withPerson(new PersonBuilder().withName((i % 3 == 0 ? "Odd " : "Even ") + i)
+                    .withPhone(Integer.toString(80000000 + i)).withEmail("participant" + i + "@example.com").build());
+        }
+        AddressBook addressBook = addressBookBuilder.build();
+        UserPrefs parallelUserPrefs = new UserPrefs();
+        parallelUserPrefs.setSearchSettings(new SearchSettings(true, 1));
+        ModelManager parallelModelManager = new ModelManager(addressBook, parallelUserPrefs);
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Collections.singletonList("odd"));
+        parallelModelManager.updateFilteredParticipantList(predicate);
+        modelManager.updateFilteredParticipantList(predicate);
+        assertEquals(50, parallelModelManager.getFilteredParticipantList().size());
+        assertEquals(modelManager.getFilteredParticipantList(), parallelModelManager.getFilteredParticipantList());
+    }
+
     @Test
     public void setSelectedPerson_personNotInFilteredPersonList_throwsPersonNotFoundException() {
         thrown.expect(ParticipantNotFoundException.class);
@@ -0,0 +1,128 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.participant.Participant;
+import seedu.address.model.participant.SortKey;
+import seedu.address.testutil.PersonBuilder;
+
+public class SortedParticipantViewTest {
+
+    private static final String[] MAJORS = {"CS", "IS", "CEG", "BA"};
+    /** 1 April 2019, the day ages are worked out on. */
+    private static final int TODAY = 20190401;
+
+    private final ObservableList<Participant> participants = FXCollections.observableArrayList();
+
+    @Test
+    public void setSortKeys_randomChanges_viewStaysSorted() {
+        Random random = new Random(2113);
+        for (int i = 0; i < 100; i++) {
+            participants.add(randomParticipant(random, i));
+        }
+        SortedParticipantView view = new SortedParticipantView(participants, groupName -> "", () -> TODAY);
+        view.setSortKeys(Arrays.asList(new SortKey(SortKey.Field.MAJOR, true), new SortKey(SortKey.Field.AGE, false)));
+        Comparator<Participant> expectedOrder = Comparator.comparing((Participant participant) ->
+                participant.getMajor().value)
+                .thenComparing(participant -> -participant.getBirthday().getAgeInYears(TODAY))
+                .thenComparing(participant -> participant.getName().fullName.toLowerCase());
+
+        for (int i = 100; i < 400; i++) {
+            int operation = random.nextInt(3);
+            if (operation == 0) {
+                participants.add(randomParticipant(random, i));
+            } else if (operation == 1) {
+                participants.remove(random.nextInt(participants.size()));
+            } else {
+                participants.set(random.nextInt(participants.size()), randomParticipant(random, i));
+            }
+            List<Participant> expected = new ArrayList<>(participants);
+            expected.sort(expectedOrder);
+            // participants of the same major, age and name may be in either order
+            assertEquals(expected.size(), view.size());
+            for (int j = 0; j < expected.size(); j++) {
+                assertEquals(0, expectedOrder.compare(expected.get(j), view.get(j)));
+            }
+            assertTrue(view.containsAll(participants));
+        }
+
+        // without sort keys, the view is in the order of the list
+        view.setSortKeys(Collections.emptyList());
+        assertEquals(participants, view);
+        participants.remove(0);
+        assertEquals(participants, view);
+    }
+
+    @Test
+    public void refreshHouses_houseOfGroupChanged_viewSortedByNewHouse() {
+        participants.addAll(new PersonBuilder().withName("Amy").withPhone("81111111").withEmail("amy@example.com")
+                .withGroup("G1").build(), new PersonBuilder().withName("Bob").withPhone("82222222")
+                .withEmail("bob@example.com").withGroup("G2").build());
+        List<String> houseOfG1 = new ArrayList<>(Collections.singletonList("Red"));
+        SortedParticipantView view = new SortedParticipantView(participants, groupName ->
+                groupName.equals("G1") ? houseOfG1.get(0) : "Blue", () -> TODAY);
+        view.setSortKeys(Collections.singletonList(new SortKey(SortKey.Field.HOUSE, true)));
+        assertEquals(Arrays.asList(participants.get(1), participants.get(0)), view);
+
+        houseOfG1.set(0, "Amber");
+        view.refreshHouses();
+        assertEquals(participants, view);
+    }
+
+    @Test
+    public void setSortKeys_ageThenName_sameAgeOrderedByName() {
+        Participant amy = participant("Amy", "05051995");
+        Participant zed = participant("Zed", "10101995");
+        Participant kim = participant("Kim", "01011990");
+        participants.addAll(kim, zed, amy);
+        SortedParticipantView view = new SortedParticipantView(participants, groupName -> "", () -> TODAY);
+
+        view.setSortKeys(Arrays.asList(new SortKey(SortKey.Field.AGE, true), new SortKey(SortKey.Field.NAME, true)));
+        assertEquals(Arrays.asList(amy, zed, kim), view);
+
+        view.setSortKeys(Arrays.asList(new SortKey(SortKey.Field.AGE, true), new SortKey(SortKey.Field.NAME, false)));
+        assertEquals(Arrays.asList(zed, amy, kim), view);
+    }
+
+    @Test
+    public void sourceChanged_newDay_agesWorkedOutAgain() {
+        Participant amy = participant("Amy", "05041995");
+        Participant bob = participant("Bob", "01011996");
+        participants.addAll(bob, amy);
+        int[] today = {TODAY};
+        SortedParticipantView view = new SortedParticipantView(participants, groupName -> "", () -> today[0]);
+        view.setSortKeys(Arrays.asList(new SortKey(SortKey.Field.AGE, true), new SortKey(SortKey.Field.NAME, true)));
+        assertEquals(Arrays.asList(amy, bob), view);
+
+        // Amy turns 24 on 5 April
+        today[0] = 20190405;
+        Participant cal = participant("Cal", "01011990");
+        participants.add(cal);
+        assertEquals(Arrays.asList(bob, amy, cal), view);
+    }
+
+    private static Participant participant(String name, String birthday) {
+        return new PersonBuilder().withName(name).withPhone("8" + birthday.substring(1))
+                .withEmail(name.toLowerCase() + "@example.com").withBirthday(birthday).build();
+    }
+
+    private static Participant randomParticipant(Random random, int number) {
+        return new PersonBuilder().withName("Participant " + random.nextInt(50))
+                .withPhone(Integer.toString(80000000 + number)).withEmail("participant" + number + "@example.com")
+                .withMajor(MAJORS[random.nextInt(MAJORS.length)])
+                .withBirthday(String.format("%02d%02d%d", 1 + random.nextInt(28), 1 + random.nextInt(12),
+                        1995 + random.nextInt(5))).build();
+    }
+}
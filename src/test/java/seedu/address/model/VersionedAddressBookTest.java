@@ -8,12 +8,16 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.Test;
 
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.HistorySettings;
+import seedu.address.model.participant.Participant;
 import seedu.address.testutil.AddressBookBuilder;
 
 public class VersionedAddressBookTest {
@@ -59,6 +63,110 @@ public class VersionedAddressBookTest {
                 Collections.emptyList());
     }
 
+    @Test
+    public void undoRedo_afterIndividualEdits_restoresEachCommittedState() {
+        VersionedAddressBook versionedAddressBook = prepareAddressBookList(addressBookWithAmy);
+        versionedAddressBook.addParticipant(BOB);
+        versionedAddressBook.commit();
+        versionedAddressBook.setParticipant(BOB, CARL);
+        versionedAddressBook.commit();
+        versionedAddressBook.removeParticipant(AMY);
+        versionedAddressBook.commit();
+
+        assertAddressBookListStatus(versionedAddressBook,
+                Arrays.asList(addressBookWithAmy,
+                        new AddressBookBuilder().withPerson(AMY).withPerson(BOB).build(),
+                        new AddressBookBuilder().withPerson(AMY).withPerson(CARL).build()),
+                addressBookWithCarl,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void undoRedo_afterEdit_replacesOnlyEditedParticipant() {
+        VersionedAddressBook versionedAddressBook = prepareAddressBookList(
+                new AddressBookBuilder().withPerson(AMY).withPerson(BOB).build());
+        versionedAddressBook.setParticipant(BOB, CARL);
+        versionedAddressBook.commit();
+
+        List<List<Participant>> removedLists = new ArrayList<>();
+        List<List<Participant>> addedLists = new ArrayList<>();
+        versionedAddressBook.getParticipantList().addListener((ListChangeListener<Participant>) change -> {
+            while (change.next()) {
+                removedLists.add(new ArrayList<>(change.getRemoved()));
+                addedLists.add(new ArrayList<>(change.getAddedSubList()));
+            }
+        });
+
+        versionedAddressBook.undo();
+        versionedAddressBook.redo();
+        assertEquals(Arrays.asList(Collections.singletonList(CARL), Collections.singletonList(BOB)), removedLists);
+        assertEquals(Arrays.asList(Collections.singletonList(BOB), Collections.singletonList(CARL)), addedLists);
+        assertEquals(Arrays.asList(AMY, CARL), versionedAddressBook.getParticipantList());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_restoresPreviousState() {
+        VersionedAddressBook versionedAddressBook = prepareAddressBookList(emptyAddressBook, addressBookWithAmy);
+        versionedAddressBook.addParticipant(BOB);
+
+        versionedAddressBook.undo();
+        assertEquals(emptyAddressBook, new AddressBook(versionedAddressBook));
+        versionedAddressBook.redo();
+        assertEquals(addressBookWithAmy, new AddressBook(versionedAddressBook));
+    }
+
+    @Test
+    public void undoRedo_moreStatesThanBudget_restoresSpilledStates() {
+        VersionedAddressBook versionedAddressBook = prepareAddressBookList(new HistorySettings(2, Long.MAX_VALUE),
+                emptyAddressBook, addressBookWithAmy, addressBookWithBob, addressBookWithCarl);
+        versionedAddressBook.addParticipant(AMY);
+        versionedAddressBook.commit();
+
+        assertAddressBookListStatus(versionedAddressBook,
+                Arrays.asList(emptyAddressBook, addressBookWithAmy, addressBookWithBob, addressBookWithCarl),
+                new AddressBookBuilder().withPerson(CARL).withPerson(AMY).build(),
+                Collections.emptyList());
+    }
+
+    @Test
+    public void undoRedo_moreBytesThanBudget_restoresSpilledStates() {
+        VersionedAddressBook versionedAddressBook = prepareAddressBookList(new HistorySettings(100, 1),
+                emptyAddressBook, addressBookWithAmy, addressBookWithBob);
+        shiftCurrentStatePointerLeftwards(versionedAddressBook, 1);
+
+        assertAddressBookListStatus(versionedAddressBook,
+                Arrays.asList(emptyAddressBook),
+                addressBookWithAmy,
+                Arrays.asList(addressBookWithBob));
+    }
+
+    @Test
+    public void commit_spilledRedoStatesForgotten_historyFileCompacted() {
+        VersionedAddressBook versionedAddressBook = prepareAddressBookList(new HistorySettings(1, Long.MAX_VALUE),
+                emptyAddressBook, addressBookWithAmy, addressBookWithBob, addressBookWithCarl);
+        shiftCurrentStatePointerLeftwards(versionedAddressBook, 3);
+        long sizeWithRedoStates = versionedAddressBook.getHistoryFileSize();
+
+        versionedAddressBook.addParticipant(AMY);
+        versionedAddressBook.commit();
+
+        assertTrue(versionedAddressBook.getHistoryFileSize() < sizeWithRedoStates);
+        assertAddressBookListStatus(versionedAddressBook,
+                Arrays.asList(emptyAddressBook),
+                addressBookWithAmy,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void commit_spilledStatesOverDiskBudget_oldestStatesForgotten() {
+        VersionedAddressBook versionedAddressBook = prepareAddressBookList(new HistorySettings(1, Long.MAX_VALUE, 1),
+                emptyAddressBook, addressBookWithAmy, addressBookWithBob);
+
+        assertFalse(versionedAddressBook.canUndo());
+        assertEquals(addressBookWithBob, new AddressBook(versionedAddressBook));
+        assertEquals(0, versionedAddressBook.getHistoryFileSize());
+    }
+
     @Test
     public void canUndo_multipleAddressBookPointerAtEndOfStateList_returnsTrue() {
         VersionedAddressBook versionedAddressBook = prepareAddressBookList(
@@ -276,9 +384,18 @@ public class VersionedAddressBookTest {
      * {@code VersionedAddressBook#currentStatePointer} at the end of list.
      */
     private VersionedAddressBook prepareAddressBookList(ReadOnlyAddressBook... addressBookStates) {
+        return prepareAddressBookList(new HistorySettings(), addressBookStates);
+    }
+
+    /**
+     * Creates and returns a {@code VersionedAddressBook} with the {@code addressBookStates} added into it, keeping
+     * its history within {@code historySettings}.
+     */
+    private VersionedAddressBook prepareAddressBookList(HistorySettings historySettings,
+                                                        ReadOnlyAddressBook... addressBookStates) {
         assertFalse(addressBookStates.length == 0);
 
-        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(addressBookStates[0]);
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(addressBookStates[0], historySettings);
         for (int i = 1; i < addressBookStates.length; i++) {
             versionedAddressBook.resetData(addressBookStates[i]);
             versionedAddressBook.commit();
@@ -0,0 +1,152 @@
+package seedu.address.model.allocation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import seedu.address.commons.Value;
+import seedu.address.model.grouping.Group;
+import seedu.address.model.participant.Participant;
+import seedu.address.testutil.Assert;
+import seedu.address.testutil.PersonBuilder;
+
+public class BalancedAllocatorTest {
+
+    private static final int TODAY = 20190401;
+    private static final List<Group> GROUPS = Arrays.asList(new Group("R1", "Red"), new Group("R2", "Red"),
+            new Group("B1", "Blue"), new Group("B2", "Blue"));
+
+    @Test
+    public void constructor_noGroups_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new BalancedAllocator(new ArrayList<>(), TODAY));
+    }
+
+    @Test
+    public void allocate_perfectBalancePossible_everyGroupPerfectlyBalanced() {
+        // sexes and majors go together, so each group can have one OGL, two men in CS and two women in IS
+        List<Participant> freshmen = new ArrayList<>();
+        List<Participant> ogls = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            boolean isMale = i % 2 == 0;
+            Participant participant = participant(i, isMale ? "M" : "F", isMale ? "CS" : "IS", "01011999",
+                    i < 4 ? Value.OGL : Value.FRESHMAN);
+            (i < 4 ? ogls : freshmen).add(participant);
+        }
+
+        for (int seed = 0; seed < 5; seed++) {
+            Allocation allocation = new BalancedAllocator(GROUPS, TODAY).allocate(freshmen, ogls, seed);
+            assertEquals(0, allocation.getImbalance(), 1e-6);
+            for (int g = 0; g < GROUPS.size(); g++) {
+                assertEquals(0, allocation.getGroupImbalance(g), 1e-6);
+            }
+
+            Map<Group, Integer> oglCounts = new HashMap<>();
+            Map<Group, Integer> maleCounts = new HashMap<>();
+            for (int i = 0; i < allocation.getParticipants().size(); i++) {
+                Participant participant = allocation.getParticipants().get(i);
+                if (ogls.contains(participant)) {
+                    oglCounts.merge(allocation.getGroupOf(i), 1, Integer::sum);
+                }
+                if (participant.getSex().value.equals("Male")) {
+                    maleCounts.merge(allocation.getGroupOf(i), 1, Integer::sum);
+                }
+            }
+            for (Group group : GROUPS) {
+                assertEquals(Integer.valueOf(1), oglCounts.get(group));
+                assertEquals(Integer.valueOf(2), maleCounts.get(group));
+            }
+        }
+    }
+
+    @Test
+    public void allocate_mixedParticipants_groupSizesDifferByAtMostOne() {
+        Random random = new Random(1);
+        List<Participant> freshmen = new ArrayList<>();
+        for (int i = 0; i < 41; i++) {
+            freshmen.add(participant(i, random.nextBoolean() ? "M" : "F", random.nextBoolean() ? "CS" : "BA",
+                    String.format("0101%d", 1995 + random.nextInt(5)), Value.FRESHMAN));
+        }
+        List<Participant> ogls = Arrays.asList(participant(41, "M", "CEG", "01011990", Value.OGL),
+                participant(42, "F", "ISC", "01011991", Value.OGL), participant(43, "F", "CS", "01011992", Value.OGL),
+                participant(44, "M", "IS", "01011993", Value.OGL));
+
+        Allocation allocation = new BalancedAllocator(GROUPS, TODAY).allocate(freshmen, ogls, 1);
+        Map<Group, Integer> sizes = new HashMap<>();
+        for (int i = 0; i < allocation.getParticipants().size(); i++) {
+            sizes.merge(allocation.getGroupOf(i), 1, Integer::sum);
+        }
+        assertEquals(45, allocation.getParticipants().size());
+        for (Group group : GROUPS) {
+            assertTrue(sizes.get(group) == 11 || sizes.get(group) == 12);
+        }
+    }
+
+    @Test
+    public void allocate_unbalancedCohort_everyGroupHasAnOgl() {
+        // the OGLs are older than the freshmen, and one much older, so swapping OGLs for freshmen evens out ages
+        List<Participant> freshmen = new ArrayList<>();
+        for (int i = 0; i < 36; i++) {
+            freshmen.add(participant(i, i % 10 == 0 ? "M" : "F", i % 2 == 0 ? "BA" : "CS", "01011999",
+                    Value.FRESHMAN));
+        }
+        List<Participant> ogls = new ArrayList<>();
+        for (int i = 36; i < 40; i++) {
+            ogls.add(participant(i, "M", "CEG", i == 36 ? "01011985" : "01011995", Value.OGL));
+        }
+
+        for (int seed = 0; seed < 10; seed++) {
+            Allocation allocation = new BalancedAllocator(GROUPS, TODAY).allocate(freshmen, ogls, seed);
+            Map<Group, Integer> oglCounts = new HashMap<>();
+            for (int i = 0; i < allocation.getParticipants().size(); i++) {
+                if (ogls.contains(allocation.getParticipants().get(i))) {
+                    oglCounts.merge(allocation.getGroupOf(i), 1, Integer::sum);
+                }
+            }
+            for (Group group : GROUPS) {
+                assertEquals(Integer.valueOf(1), oglCounts.get(group));
+            }
+        }
+    }
+
+    @Test
+    public void allocateWithin_bestSeed_allocatesInTheSameWayAgain() {
+        Random random = new Random(2);
+        List<Participant> freshmen = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            freshmen.add(participant(i, random.nextBoolean() ? "M" : "F", random.nextBoolean() ? "CS" : "IS",
+                    String.format("0101%d", 1995 + random.nextInt(5)), Value.FRESHMAN));
+        }
+        List<Participant> ogls = new ArrayList<>();
+        for (int i = 20; i < 24; i++) {
+            ogls.add(participant(i, i % 2 == 0 ? "M" : "F", "BA", "01011990", Value.OGL));
+        }
+
+        BalancedAllocator allocator = new BalancedAllocator(GROUPS, TODAY);
+        Allocation best = allocator.allocateWithin(freshmen, ogls, 7, Duration.ofMillis(50));
+        Allocation replayed = allocator.allocate(freshmen, ogls, best.getSeed());
+        assertEquals(best.getImbalance(), replayed.getImbalance(), 0);
+        for (int i = 0; i < best.getParticipants().size(); i++) {
+            assertEquals(best.getParticipants().get(i), replayed.getParticipants().get(i));
+            assertEquals(best.getGroupOf(i), replayed.getGroupOf(i));
+        }
+
+        // no seed tried does better than the one kept
+        assertTrue(allocator.allocate(freshmen, ogls, BalancedAllocator.seedOf(7, 0)).getImbalance()
+                >= best.getImbalance());
+    }
+
+    private static Participant participant(int i, String sex, String major, String birthday, String role) {
+        return new PersonBuilder().withName("Participant " + i).withPhone(String.valueOf(90000000 + i))
+                .withEmail("participant" + i + "@example.com").withSex(sex).withMajor(major).withBirthday(birthday)
+                .withGroup("").withTags(role).build();
+    }
+}
@@ -0,0 +1,115 @@
+package seedu.address.model.allocation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import seedu.address.commons.Value;
+import seedu.address.model.grouping.Group;
+import seedu.address.model.participant.Participant;
+import seedu.address.testutil.Assert;
+import seedu.address.testutil.PersonBuilder;
+
+public class IncrementalAllocatorTest {
+
+    private static final List<Group> GROUPS = Arrays.asList(new Group("R1", "Red"), new Group("R2", "Red"),
+            new Group("B1", "Blue"));
+
+    @Test
+    public void constructor_noGroups_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new IncrementalAllocator(new ArrayList<>()));
+    }
+
+    @Test
+    public void rebalance_evenGroups_movesNoOne() {
+        List<Participant> freshmen = Arrays.asList(participant(0, "R1", Value.FRESHMAN),
+                participant(1, "R2", Value.FRESHMAN), participant(2, "B1", Value.FRESHMAN),
+                participant(3, "R2", Value.FRESHMAN));
+        List<Participant> ogls = Arrays.asList(participant(4, "R1", Value.OGL), participant(5, "R2", Value.OGL),
+                participant(6, "B1", Value.OGL));
+
+        assertTrue(new IncrementalAllocator(GROUPS).rebalance(freshmen, ogls).isEmpty());
+    }
+
+    @Test
+    public void rebalance_lateRegistrations_onlyPlacesThem() {
+        List<Participant> freshmen = new ArrayList<>(Arrays.asList(participant(0, "R1", Value.FRESHMAN),
+                participant(1, "R1", Value.FRESHMAN), participant(2, "R2", Value.FRESHMAN),
+                participant(3, "B1", Value.FRESHMAN)));
+        Participant late = participant(4, "", Value.FRESHMAN);
+        Participant later = participant(5, "", Value.FRESHMAN);
+        freshmen.add(late);
+        freshmen.add(later);
+        List<Participant> ogls = Arrays.asList(participant(6, "R1", Value.OGL), participant(7, "R2", Value.OGL),
+                participant(8, "B1", Value.OGL));
+
+        Map<Participant, Group> moves = new IncrementalAllocator(GROUPS).rebalance(freshmen, ogls);
+        assertEquals(2, moves.size());
+        assertEquals(new Group("R2"), moves.get(late));
+        assertEquals(new Group("B1"), moves.get(later));
+    }
+
+    @Test
+    public void rebalance_participantWithoutGroup_placed() {
+        Participant registered = participant(0, "R2", Value.FRESHMAN);
+        Participant withoutGroup = new Participant(registered.getName(), registered.getSex(),
+                registered.getBirthday(), registered.getPhone(), registered.getEmail(), registered.getMajor(), null,
+                registered.getTags());
+        List<Participant> freshmen = Arrays.asList(participant(1, "R1", Value.FRESHMAN), withoutGroup);
+        List<Participant> ogls = Arrays.asList(participant(2, "R1", Value.OGL), participant(3, "R2", Value.OGL),
+                participant(4, "B1", Value.OGL));
+
+        Map<Participant, Group> moves = new IncrementalAllocator(GROUPS).rebalance(freshmen, ogls);
+        assertEquals(1, moves.size());
+        assertEquals(new Group("R2"), moves.get(withoutGroup));
+    }
+
+    @Test
+    public void rebalance_newGroup_movesFewestLastRegistered() {
+        List<Participant> freshmen = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            freshmen.add(participant(i, i % 2 == 0 ? "R1" : "R2", Value.FRESHMAN));
+        }
+        List<Participant> ogls = Arrays.asList(participant(9, "R1", Value.OGL), participant(10, "R2", Value.OGL),
+                participant(11, "R1", Value.OGL));
+
+        Map<Participant, Group> moves = new IncrementalAllocator(GROUPS).rebalance(freshmen, ogls);
+        // R1 has 5 freshmen and 2 OGLs and R2 has 4 freshmen and 1 OGL, so B1 takes 2 freshmen of R1, 1 of R2 and
+        // 1 OGL of R1, each the last registered there
+        assertEquals(4, moves.size());
+        assertEquals(new Group("B1"), moves.get(ogls.get(2)));
+        assertEquals(new Group("B1"), moves.get(freshmen.get(8)));
+        assertEquals(new Group("B1"), moves.get(freshmen.get(6)));
+        assertEquals(new Group("B1"), moves.get(freshmen.get(7)));
+
+        Map<Group, Integer> sizes = new HashMap<>();
+        for (Participant participant : freshmen) {
+            sizes.merge(moves.getOrDefault(participant, participant.getGroup()), 1, Integer::sum);
+        }
+        for (Group group : GROUPS) {
+            assertEquals(Integer.valueOf(3), sizes.get(group));
+        }
+    }
+
+    @Test
+    public void rebalance_participantsInUnknownGroup_arePlaced() {
+        List<Participant> freshmen = Arrays.asList(participant(0, "G9", Value.FRESHMAN),
+                participant(1, "G9", Value.FRESHMAN), participant(2, "G9", Value.FRESHMAN));
+
+        Map<Participant, Group> moves = new IncrementalAllocator(GROUPS).rebalance(freshmen, new ArrayList<>());
+        assertEquals(3, moves.size());
+        assertEquals(3, new HashMap<>(moves).values().stream().distinct().count());
+    }
+
+    private static Participant participant(int i, String group, String role) {
+        return new PersonBuilder().withName("Participant " + i).withPhone(String.valueOf(90000000 + i))
+                .withEmail("participant" + i + "@example.com").withGroup(group).withTags(role).build();
+    }
+}
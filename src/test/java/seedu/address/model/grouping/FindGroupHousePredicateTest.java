@@ -16,12 +16,15 @@ public class FindGroupHousePredicateTest {
 
     private Participant withGroupHouse = new PersonBuilder().withGroup("R1", "Red").build();
     private Participant withEmptyGroup = new PersonBuilder().build();
+    private Group groupInHouse = new Group("R1", "Red");
+    private Group emptyGroup = new Group("");
 
     @Test
     public void test_groupContainsKeywords_returnsTrue() {
         FindGroupPredicate firstPredicate = new FindGroupPredicate(Collections.singletonList("R1"));
         FindHousePredicate firstPredicateHouse = new FindHousePredicate(Collections.singletonList("Red"));
         assertTrue(firstPredicate.test(withGroupHouse));
+        assertTrue(firstPredicateHouse.test(groupInHouse));
 
         FindGroupPredicate secondPredicate = new FindGroupPredicate(emptyString);
         assertTrue(secondPredicate.test(withEmptyGroup));
@@ -33,7 +36,7 @@ public class FindGroupHousePredicateTest {
         FindGroupPredicate secondPredicate = new FindGroupPredicate(Collections.singletonList("R1"));
         FindHousePredicate secondPredicateHouse = new FindHousePredicate(Collections.singletonList("Red"));
         assertFalse(secondPredicate.test(withEmptyGroup));
-        assertFalse(secondPredicateHouse.test(withEmptyGroup));
+        assertFalse(secondPredicateHouse.test(emptyGroup));
 
         // participant with non-empty group
         FindGroupPredicate thirdPredicate = new FindGroupPredicate(emptyString);
@@ -43,7 +46,7 @@ public class FindGroupHousePredicateTest {
         FindGroupPredicate fourthPredicate = new FindGroupPredicate(Collections.singletonList("G1"));
         FindHousePredicate fourthPredicateHouse = new FindHousePredicate(Collections.singletonList("Green"));
         assertFalse(fourthPredicate.test(withGroupHouse));
-        assertFalse(fourthPredicateHouse.test(withGroupHouse));
+        assertFalse(fourthPredicateHouse.test(groupInHouse));
     }
 
 }
@@ -0,0 +1,39 @@
+package seedu.address.model.grouping;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class UniqueGroupListTest {
+
+    private final UniqueGroupList uniqueGroupList = new UniqueGroupList();
+
+    @Test
+    public void setGroup_afterRemove_replacesGroupInPlace() {
+        uniqueGroupList.add(new Group("R1", "Red"));
+        uniqueGroupList.add(new Group("R2", "Red"));
+        uniqueGroupList.add(new Group("B1", "Blue"));
+        uniqueGroupList.remove(new Group("R1"));
+
+        Group editedB1 = new Group("B1", "Green");
+        uniqueGroupList.setGroup(new Group("B1"), editedB1);
+        assertEquals(Arrays.asList(new Group("R2"), editedB1), uniqueGroupList.asUnmodifiableObservableList());
+        assertEquals("Green", uniqueGroupList.asUnmodifiableObservableList().get(1).getHouseName());
+        assertEquals(Arrays.asList(editedB1), uniqueGroupList.getGroupsInHouse("Green"));
+    }
+
+    @Test
+    public void spliceUnique_changeOfSize_laterGroupsCanBeReplaced() {
+        uniqueGroupList.setGroups(Arrays.asList(new Group("R1", "Red"), new Group("R2", "Red")));
+        uniqueGroupList.spliceUnique(0, 0, Arrays.asList(new Group("B1", "Blue"), new Group("B2", "Blue")));
+
+        Group editedR2 = new Group("R2", "Green");
+        uniqueGroupList.setGroup(new Group("R2"), editedR2);
+        uniqueGroupList.remove(new Group("B1"));
+        assertEquals(Arrays.asList(new Group("B2"), new Group("R1"), editedR2),
+                uniqueGroupList.asUnmodifiableObservableList());
+        assertEquals("Green", uniqueGroupList.asUnmodifiableObservableList().get(2).getHouseName());
+    }
+}
@@ -1,14 +1,26 @@
 package seedu.address.model.person;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import org.junit.After;
 import org.junit.Test;
 
+import seedu.address.commons.util.DailyClock;
 import seedu.address.model.participant.Birthday;
 import seedu.address.testutil.Assert;
 
 public class BirthdayTest {
+    @After
+    public void tearDown() {
+        DailyClock.setClock(Clock.systemDefaultZone());
+    }
+
     @Test
     public void constructor_null_throwsNullPointerException() {
         Assert.assertThrows(NullPointerException.class, () -> new Birthday(null));
@@ -42,4 +54,18 @@ public class BirthdayTest {
         // valid birthday
         assertTrue(Birthday.isValidBirthday("12011998")); // exactly 8 numbers
     }
+
+    @Test
+    public void getAge_aroundBirthday_agesOnBirthday() {
+        Birthday birthday = new Birthday("01021999");
+        setToday(LocalDate.of(2019, 1, 31));
+        assertEquals(19, birthday.getAgeInYears());
+        setToday(LocalDate.of(2019, 2, 1));
+        assertEquals(20, birthday.getAgeInYears());
+        assertEquals("20", birthday.getAge());
+    }
+
+    private static void setToday(LocalDate today) {
+        DailyClock.setClock(Clock.fixed(today.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+    }
 }
@@ -57,6 +57,16 @@ public class ParticipantTest {
                 .withTags(VALID_TAG_HUSBAND).build();
         assertTrue(ALICE.isSameParticipant(editedAlice));
 
+        // same name, same phone with a leading +, different email -> returns true
+        editedAlice = new PersonBuilder(ALICE).withPhone("+" + ALICE.getPhone()).withEmail(VALID_EMAIL_BOB)
+                .withBirthday(VALID_BIRTHDAY_BOB).build();
+        assertTrue(ALICE.isSameParticipant(editedAlice));
+
+        // same name, same email in another case, different phone -> returns true
+        editedAlice = new PersonBuilder(ALICE).withEmail(ALICE.getEmail().value.toUpperCase())
+                .withPhone(VALID_PHONE_BOB).withBirthday(VALID_BIRTHDAY_BOB).build();
+        assertTrue(ALICE.isSameParticipant(editedAlice));
+
         // same name, same phone, same email, different attributes -> returns true
         editedAlice = new PersonBuilder(ALICE).withMajor(VALID_MAJOR_BOB).withTags(VALID_TAG_HUSBAND).build();
         assertTrue(ALICE.isSameParticipant(editedAlice));
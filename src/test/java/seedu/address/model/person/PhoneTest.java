@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -39,4 +41,16 @@ public class PhoneTest {
         assertTrue(Phone.isValidPhone("91234567")); // exactly 8 numbers
         assertTrue(Phone.isValidPhone("+124293842033123")); // exactly 15 numbers long international phone number
     }
+
+    @Test
+    public void getNumber() {
+        // leading + ignored -> same number
+        assertEquals(new Phone("6591234567").getNumber(), new Phone("+6591234567").getNumber());
+
+        // leading zero -> different number
+        assertNotEquals(new Phone("091234567").getNumber(), new Phone("91234567").getNumber());
+
+        // longest phone number fits
+        assertNotEquals(new Phone("+999999999999999").getNumber(), new Phone("+099999999999999").getNumber());
+    }
 }
@@ -3,20 +3,30 @@ package seedu.address.model.person;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_BIRTHDAY_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_MAJOR_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_MAJOR_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.FIONA;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.model.participant.Email;
 import seedu.address.model.participant.Participant;
+import seedu.address.model.participant.Phone;
 import seedu.address.model.participant.UniqueParticipantList;
 import seedu.address.model.participant.exceptions.DuplicateParticipantException;
 import seedu.address.model.participant.exceptions.ParticipantNotFoundException;
@@ -121,6 +131,25 @@ public class UniqueParticipantListTest {
         uniqueParticipantList.setParticipant(ALICE, BOB);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_oldIdentityNoLongerContained() {
+        uniqueParticipantList.add(ALICE);
+        uniqueParticipantList.setParticipant(ALICE, BOB);
+        assertFalse(uniqueParticipantList.contains(ALICE));
+        assertTrue(uniqueParticipantList.contains(BOB));
+    }
+
+    @Test
+    public void setPerson_editedPersonSharesIdentityWithAnotherPerson_throwsDuplicatePersonException() {
+        Participant aliceWithOtherPhone = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB)
+                .withEmail(VALID_EMAIL_BOB).withBirthday(VALID_BIRTHDAY_BOB).build();
+        uniqueParticipantList.add(ALICE);
+        uniqueParticipantList.add(aliceWithOtherPhone);
+        Participant editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        thrown.expect(DuplicateParticipantException.class);
+        uniqueParticipantList.setParticipant(ALICE, editedAlice);
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -141,6 +170,18 @@ public class UniqueParticipantListTest {
         assertEquals(expectedUniqueParticipantList, uniqueParticipantList);
     }
 
+    @Test
+    public void remove_existingPerson_remainingPersonsCanStillBeEdited() {
+        uniqueParticipantList.add(ALICE);
+        uniqueParticipantList.add(BOB);
+        uniqueParticipantList.remove(ALICE);
+        Participant editedBob = new PersonBuilder(BOB).withMajor(VALID_MAJOR_AMY).build();
+        uniqueParticipantList.setParticipant(BOB, editedBob);
+        UniqueParticipantList expectedUniqueParticipantList = new UniqueParticipantList();
+        expectedUniqueParticipantList.add(editedBob);
+        assertEquals(expectedUniqueParticipantList, uniqueParticipantList);
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -179,6 +220,72 @@ public class UniqueParticipantListTest {
         uniqueParticipantList.setParticipants(listWithDuplicateParticipants);
     }
 
+    @Test
+    public void setPersons_listWithSeveralDuplicates_reportsEveryDuplicatePair() {
+        List<Participant> listWithDuplicateParticipants = Arrays.asList(ALICE, BOB, ALICE, BOB);
+        thrown.expect(DuplicateParticipantException.class);
+        thrown.expectMessage(ALICE.getName() + " (#1) and " + ALICE.getName() + " (#3), "
+                + BOB.getName() + " (#2) and " + BOB.getName() + " (#4)");
+        uniqueParticipantList.setParticipants(listWithDuplicateParticipants);
+    }
+
+    @Test
+    public void getParticipantsWithPhoneAndEmail_afterChanges_followList() {
+        uniqueParticipantList.add(ALICE);
+        uniqueParticipantList.add(BOB);
+        Participant editedAlice = new PersonBuilder(ALICE).withPhone("+" + VALID_PHONE_BOB).build();
+        uniqueParticipantList.setParticipant(ALICE, editedAlice);
+        assertEquals(new HashSet<>(Arrays.asList(editedAlice, BOB)),
+                uniqueParticipantList.getParticipantsWithPhone(new Phone(VALID_PHONE_BOB)));
+        assertEquals(Collections.emptySet(), uniqueParticipantList.getParticipantsWithPhone(ALICE.getPhone()));
+
+        uniqueParticipantList.remove(BOB);
+        assertEquals(Collections.singleton(editedAlice),
+                uniqueParticipantList.getParticipantsWithPhone(new Phone(VALID_PHONE_BOB)));
+        assertEquals(Collections.singleton(editedAlice),
+                uniqueParticipantList.getParticipantsWithEmail(new Email(ALICE.getEmail().value.toUpperCase())));
+        assertEquals(Collections.emptySet(), uniqueParticipantList.getParticipantsWithEmail(BOB.getEmail()));
+    }
+
+    @Test
+    public void add_sameNameAndEmailInOtherCase_throwsDuplicatePersonException() {
+        uniqueParticipantList.add(ALICE);
+        thrown.expect(DuplicateParticipantException.class);
+        uniqueParticipantList.add(new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).withBirthday(VALID_BIRTHDAY_BOB)
+                .withEmail(ALICE.getEmail().value.toUpperCase()).build());
+    }
+
+    @Test
+    public void add_sameNameAndBirthdayWrittenDifferently_throwsDuplicatePersonException() {
+        uniqueParticipantList.add(ALICE);
+        thrown.expect(DuplicateParticipantException.class);
+        // the same date as ALICE's 07081994, with the year padded
+        uniqueParticipantList.add(new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).withEmail(VALID_EMAIL_BOB)
+                .withBirthday("0708001994").build());
+    }
+
+    @Test
+    public void closestNameWords_nameIndexEnabledOrNot_sameWords() {
+        uniqueParticipantList.setParticipants(Arrays.asList(ALICE, BOB, CARL, FIONA));
+        UniqueParticipantList indexedList = new UniqueParticipantList();
+        indexedList.setNameIndexEnabled(true);
+        indexedList.setParticipants(Arrays.asList(ALICE, BOB, CARL, FIONA));
+
+        List<String> misspeltWords = Arrays.asList("kurtz", "alcie", "bo");
+        Set<String> expectedWords = new HashSet<>(Arrays.asList("kurz", "alice", "bob"));
+        assertEquals(expectedWords, uniqueParticipantList.closestNameWords(misspeltWords, 2));
+        assertEquals(expectedWords, indexedList.closestNameWords(misspeltWords, 2));
+    }
+
+    @Test
+    public void closestNameWords_lastParticipantWithWordRemoved_wordNotFound() {
+        uniqueParticipantList.setNameIndexEnabled(true);
+        uniqueParticipantList.setParticipants(Arrays.asList(CARL, FIONA));
+        uniqueParticipantList.remove(CARL);
+        assertEquals(Collections.singleton("kunz"),
+                uniqueParticipantList.closestNameWords(Collections.singletonList("kurz"), 1));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
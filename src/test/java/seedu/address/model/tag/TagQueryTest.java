@@ -0,0 +1,41 @@
+package seedu.address.model.tag;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class TagQueryTest {
+
+    @Test
+    public void isMatchedBy_tagNamesDifferingInCase_returnsTrue() {
+        TagMask tags = TagMask.of(Tag.setOf(Arrays.asList(Tag.of("friends"), Tag.of("owesMoney"))));
+        assertTrue(new TagQuery(Arrays.asList("FRIENDS", "owesmoney")).isMatchedBy(tags));
+        assertTrue(new TagQuery(Collections.emptyList()).isMatchedBy(tags));
+        assertFalse(new TagQuery(Arrays.asList("friends", "colleagues")).isMatchedBy(tags));
+    }
+
+    @Test
+    public void isMatchedBy_tagNumberedAfterQueryCreated_returnsTrue() {
+        TagQuery query = new TagQuery(Collections.singletonList("queryTestNewTag"));
+        assertFalse(query.isMatchedBy(TagMask.EMPTY));
+        assertTrue(query.isMatchedBy(TagMask.of(Tag.setOf(Collections.singleton(Tag.of("queryTestNewTag"))))));
+    }
+
+    @Test
+    public void isMatchedBy_moreTagNamesThanFitInAWord_returnsCorrectResult() {
+        Set<Tag> manyTags = new HashSet<>();
+        for (int i = 0; i < 3 * Long.SIZE; i++) {
+            manyTags.add(Tag.of("overflow" + i));
+        }
+        TagMask tags = TagMask.of(Tag.setOf(manyTags));
+        assertTrue(new TagQuery(Arrays.asList("overflow0", "overflow150", "OVERFLOW191")).isMatchedBy(tags));
+        assertFalse(new TagQuery(Arrays.asList("overflow150", "overflow192")).isMatchedBy(tags));
+        assertFalse(new TagQuery(Collections.singletonList("overflow150")).isMatchedBy(TagMask.EMPTY));
+    }
+}
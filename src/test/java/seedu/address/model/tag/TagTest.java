@@ -1,5 +1,11 @@
 package seedu.address.model.tag;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.Set;
+
 import org.junit.Test;
 
 import seedu.address.testutil.Assert;
@@ -23,4 +29,18 @@ public class TagTest {
         Assert.assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
     }
 
+    @Test
+    public void of_sameName_returnsSameInstance() {
+        assertSame(Tag.of("friends"), Tag.of(new String("friends")));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Tag.of(""));
+    }
+
+    @Test
+    public void setOf_equalTags_returnsSameCanonicalSet() {
+        Set<Tag> tags = Tag.setOf(Arrays.asList(new Tag("friends"), new Tag("owesMoney")));
+        assertSame(tags, Tag.setOf(Arrays.asList(Tag.of("owesMoney"), new Tag("friends"))));
+        assertEquals(2, tags.size());
+        tags.forEach(tag -> assertSame(Tag.of(tag.tagName), tag));
+    }
+
 }